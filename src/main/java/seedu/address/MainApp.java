@@ -23,6 +23,7 @@ import seedu.address.ui.UiManager;
 import java.io.IOException;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 import java.util.logging.Logger;
 
 /**
@@ -85,7 +86,14 @@ public class MainApp extends Application {
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        ModelManager modelManager = ModelManager.adopt(initialData, userPrefs);
+        if (config.getBackgroundSearchThreshold() > 0) {
+            modelManager.enableBackgroundSearch(Platform::runLater, config.getBackgroundSearchThreshold());
+        }
+        if (config.getParallelSearchThreshold() > 0) {
+            modelManager.enableParallelSearch(ForkJoinPool.commonPool(), config.getParallelSearchThreshold());
+        }
+        return modelManager;
     }
 
     private void initLogging(Config config) {
@@ -16,6 +16,11 @@ public class Config {
     private String userPrefsFilePath = "preferences.json";
     private String addressBookFilePath = "data/addressbook.xml";
     private String addressBookName = "MyAddressBook";
+    private boolean revealAddedPerson = false;
+    private boolean liveFilterEnabled = false;
+    private int liveFilterDelay = 200;
+    private int parallelSearchThreshold = 50_000;
+    private int backgroundSearchThreshold = 10_000;
 
 
     public Config() {
@@ -61,6 +66,63 @@ public class Config {
         this.addressBookName = addressBookName;
     }
 
+    /**
+     * Returns true if the person list should scroll to a newly added person that passes the active filter.
+     */
+    public boolean isRevealAddedPerson() {
+        return revealAddedPerson;
+    }
+
+    public void setRevealAddedPerson(boolean revealAddedPerson) {
+        this.revealAddedPerson = revealAddedPerson;
+    }
+
+    /**
+     * Returns true if the person list should be filtered while a find command is being typed.
+     */
+    public boolean isLiveFilterEnabled() {
+        return liveFilterEnabled;
+    }
+
+    public void setLiveFilterEnabled(boolean liveFilterEnabled) {
+        this.liveFilterEnabled = liveFilterEnabled;
+    }
+
+    /**
+     * Returns the time in milliseconds the user must stop typing for before the live filter is updated.
+     */
+    public int getLiveFilterDelay() {
+        return liveFilterDelay;
+    }
+
+    public void setLiveFilterDelay(int liveFilterDelay) {
+        this.liveFilterDelay = liveFilterDelay;
+    }
+
+    /**
+     * Returns the number of persons from which a find evaluates its query on all cores.
+     * Parallel evaluation is disabled if this is not positive.
+     */
+    public int getParallelSearchThreshold() {
+        return parallelSearchThreshold;
+    }
+
+    public void setParallelSearchThreshold(int parallelSearchThreshold) {
+        this.parallelSearchThreshold = parallelSearchThreshold;
+    }
+
+    /**
+     * Returns the number of candidates from which a find is scanned on a worker thread, showing its matches as they
+     * are found. Background search is disabled if this is not positive.
+     */
+    public int getBackgroundSearchThreshold() {
+        return backgroundSearchThreshold;
+    }
+
+    public void setBackgroundSearchThreshold(int backgroundSearchThreshold) {
+        this.backgroundSearchThreshold = backgroundSearchThreshold;
+    }
+
 
     @Override
     public boolean equals(Object other) {
@@ -77,12 +139,19 @@ public class Config {
                 && Objects.equals(logLevel, o.logLevel)
                 && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
                 && Objects.equals(addressBookFilePath, o.addressBookFilePath)
-                && Objects.equals(addressBookName, o.addressBookName);
+                && Objects.equals(addressBookName, o.addressBookName)
+                && revealAddedPerson == o.revealAddedPerson
+                && liveFilterEnabled == o.liveFilterEnabled
+                && liveFilterDelay == o.liveFilterDelay
+                && parallelSearchThreshold == o.parallelSearchThreshold
+                && backgroundSearchThreshold == o.backgroundSearchThreshold;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(appTitle, logLevel, userPrefsFilePath, addressBookFilePath, addressBookName);
+        return Objects.hash(appTitle, logLevel, userPrefsFilePath, addressBookFilePath, addressBookName,
+                revealAddedPerson, liveFilterEnabled, liveFilterDelay, parallelSearchThreshold,
+                backgroundSearchThreshold);
     }
 
     @Override
@@ -93,6 +162,14 @@ public class Config {
         sb.append("\nPreference file Location : " + userPrefsFilePath);
         sb.append("\nLocal data file location : " + addressBookFilePath);
         sb.append("\nAddressBook name : " + addressBookName);
+        sb.append("\nReveal added person : " + revealAddedPerson);
+        sb.append("\nLive filter : " + (liveFilterEnabled ? "after " + liveFilterDelay + "ms" : "disabled"));
+        sb.append("\nParallel search : " + (parallelSearchThreshold > 0
+                ? "from " + parallelSearchThreshold + " persons"
+                : "disabled"));
+        sb.append("\nBackground search : " + (backgroundSearchThreshold > 0
+                ? "from " + backgroundSearchThreshold + " persons"
+                : "disabled"));
         return sb.toString();
     }
 
@@ -0,0 +1,25 @@
+package seedu.address.commons.core;
+
+import java.util.List;
+
+/**
+ * Receives the changes made to a {@link ListenableList}, right after each change is made.
+ */
+public interface ListListener<E> {
+
+    /** Called after {@code element} was inserted at {@code index} */
+    void onAdded(int index, E element);
+
+    /** Called after {@code elements} were inserted at {@code index}, in their order */
+    default void onAddedAll(int index, List<? extends E> elements) {
+        for (int i = 0; i < elements.size(); i++) {
+            onAdded(index + i, elements.get(i));
+        }
+    }
+
+    /** Called after {@code element} was removed from {@code index} */
+    void onRemoved(int index, E element);
+
+    /** Called after the contents of the list were replaced or reordered as a whole */
+    void onReplaced();
+}
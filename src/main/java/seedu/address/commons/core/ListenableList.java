@@ -0,0 +1,14 @@
+package seedu.address.commons.core;
+
+import java.util.List;
+
+/**
+ * A list that reports its changes to the {@link ListListener}s added to it.
+ * Unlike an {@code ObservableList}, it does not depend on JavaFX.
+ */
+public interface ListenableList<E> extends List<E> {
+
+    void addListener(ListListener<? super E> listener);
+
+    void removeListener(ListListener<? super E> listener);
+}
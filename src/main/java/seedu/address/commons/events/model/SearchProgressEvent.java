@@ -0,0 +1,39 @@
+package seedu.address.commons.events.model;
+
+import seedu.address.commons.events.BaseEvent;
+
+/** Indicates the progress of a search over the address book running on a background thread */
+public class SearchProgressEvent extends BaseEvent {
+
+    /** Stages of a background search */
+    public enum Status { IN_PROGRESS, FINISHED, CANCELLED }
+
+    public final Status status;
+    public final int scanned;
+    public final int total;
+    /** Number of persons in the filtered person list when this event was raised */
+    public final int shown;
+
+    public SearchProgressEvent(Status status, int scanned, int total, int shown) {
+        this.status = status;
+        this.scanned = scanned;
+        this.total = total;
+        this.shown = shown;
+    }
+
+    /**
+     * Returns the fraction of the address book scanned so far, between 0 and 1.
+     */
+    public double getProgress() {
+        return total == 0 ? 1.0 : (double) scanned / total;
+    }
+
+    public boolean isInProgress() {
+        return status == Status.IN_PROGRESS;
+    }
+
+    @Override
+    public String toString() {
+        return status + ": scanned " + scanned + " of " + total + ", " + shown + " shown";
+    }
+}
@@ -0,0 +1,26 @@
+package seedu.address.commons.events.ui;
+
+import seedu.address.commons.events.BaseEvent;
+
+/**
+ * Indicates a new person was added while a listing of persons is shown
+ */
+public class NewPersonAddedEvent extends BaseEvent {
+
+    /** Index of the new person in the shown list, or -1 if the current filter hides the new person */
+    public final int targetIndex;
+
+    public NewPersonAddedEvent(int targetIndex) {
+        this.targetIndex = targetIndex;
+    }
+
+    public boolean isShown() {
+        return targetIndex >= 0;
+    }
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + (isShown() ? " at index " + targetIndex : ", hidden by filter");
+    }
+
+}
@@ -1,5 +1,8 @@
 package seedu.address.commons.util;
 
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
@@ -9,12 +12,52 @@ import java.util.List;
  * Helper functions for handling strings.
  */
 public class StringUtil {
+
+    private static final Interner<String> POOLED_STRINGS = Interners.newWeakInterner();
+
+    /**
+     * Returns the pooled string equal to {@code value}, so that values repeated across many persons, such as email
+     * domains, share one instance. Pooled strings are held weakly, and leave the pool once nothing else refers to
+     * them.
+     */
+    public static String intern(String value) {
+        return POOLED_STRINGS.intern(value);
+    }
+
     public static boolean containsIgnoreCase(String source, String query) {
         String[] split = source.toLowerCase().split("\\s+");
         List<String> strings = Arrays.asList(split);
         return strings.stream().filter(s -> s.equals(query.toLowerCase())).count() > 0;
     }
 
+    /**
+     * Returns true if a whitespace-separated word in {@code source} starts with {@code prefix}, ignoring case.
+     * Does not allocate, so it is cheap enough to run against every person on each keystroke.
+     */
+    public static boolean containsWordStartingWithIgnoreCase(String source, String prefix) {
+        for (int i = 0; i + prefix.length() <= source.length(); i++) {
+            final boolean isWordStart = i == 0 || Character.isWhitespace(source.charAt(i - 1));
+            if (isWordStart && !Character.isWhitespace(source.charAt(i))
+                    && source.regionMatches(true, i, prefix, 0, prefix.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if {@code fragment} occurs anywhere in {@code source}, ignoring case.
+     * Does not allocate, unlike lower casing both strings first.
+     */
+    public static boolean containsFragmentIgnoreCase(String source, String fragment) {
+        for (int i = 0; i + fragment.length() <= source.length(); i++) {
+            if (source.regionMatches(true, i, fragment, 0, fragment.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -1,9 +1,14 @@
 package seedu.address.logic;
 
-import javafx.collections.ObservableList;
+import seedu.address.commons.core.ListenableList;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.parser.Parser;
+import seedu.address.model.PersonPage;
 import seedu.address.model.person.ReadOnlyPerson;
 
+import java.util.List;
+
 /**
  * API of the Logic component
  */
@@ -15,7 +20,36 @@ public interface Logic {
      */
     CommandResult execute(String commandText);
 
+    /**
+     * Filters the person list by the find command being typed, if {@code partialCommandText} is one.
+     * Shows persons with a name word starting with any keyword typed so far, as the find command shows persons
+     * with a name word equal to any keyword.
+     * @param partialCommandText The command box text, which may still be incomplete.
+     */
+    void previewFind(String partialCommandText);
+
+    /**
+     * Returns up to {@code limit} completions of the word at the end of {@code partialCommandText}, in
+     * alphabetical order. Each completion replaces the text matched by {@link Parser#COMPLETION_WORD_FORMAT}.
+     * Tag names are completed after {@code t/}, and words of person names in the arguments of a find command.
+     */
+    List<String> getCompletions(String partialCommandText, int limit);
+
     /** Returns the filtered list of persons */
-    ObservableList<ReadOnlyPerson> getFilteredPersonList();
+    ListenableList<ReadOnlyPerson> getFilteredPersonList();
+
+    /** Returns up to {@code limit} persons of the filtered person list, from position {@code offset} */
+    List<ReadOnlyPerson> getPersons(int offset, int limit);
+
+    /**
+     * Returns up to {@code limit} persons satisfying a find query, skipping the first {@code offset} of them,
+     * without changing the filtered person list.
+     * @param query The arguments of a find command.
+     * @throws IllegalValueException if the query is not valid.
+     */
+    PersonPage findPersons(String query, int offset, int limit) throws IllegalValueException;
+
+    /** Cancels the background search started by the last find command, if it is still running */
+    void cancelBackgroundSearch();
 
 }
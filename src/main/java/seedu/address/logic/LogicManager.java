@@ -1,16 +1,24 @@
 package seedu.address.logic;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.ListenableList;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.parser.CompletionWord;
+import seedu.address.logic.parser.FindQueryParser;
 import seedu.address.logic.parser.Parser;
 import seedu.address.model.Model;
+import seedu.address.model.PersonPage;
 import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.storage.Storage;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 /**
  * The main LogicManager of the app.
@@ -35,7 +43,39 @@ public class LogicManager extends ComponentManager implements Logic {
     }
 
     @Override
-    public ObservableList<ReadOnlyPerson> getFilteredPersonList() {
+    public void previewFind(String partialCommandText) {
+        parser.parsePartialFindKeywords(partialCommandText).ifPresent(model::updateFilteredPersonListByPrefixes);
+    }
+
+    @Override
+    public List<String> getCompletions(String partialCommandText, int limit) {
+        final Optional<CompletionWord> word = parser.parseCompletionWord(partialCommandText);
+        if (!word.isPresent()) {
+            return Collections.emptyList();
+        }
+        final List<String> completions = word.get().kind == CompletionWord.Kind.TAG
+                ? model.completeTagName(word.get().stem, limit)
+                : model.completeNameWord(word.get().stem, limit);
+        return completions.stream().map(completion -> word.get().prefix + completion).collect(Collectors.toList());
+    }
+
+    @Override
+    public ListenableList<ReadOnlyPerson> getFilteredPersonList() {
         return model.getFilteredPersonList();
     }
+
+    @Override
+    public List<ReadOnlyPerson> getPersons(int offset, int limit) {
+        return model.getPersons(offset, limit);
+    }
+
+    @Override
+    public PersonPage findPersons(String query, int offset, int limit) throws IllegalValueException {
+        return model.getPersons(FindQueryParser.parse(query), offset, limit);
+    }
+
+    @Override
+    public void cancelBackgroundSearch() {
+        model.cancelBackgroundSearch();
+    }
 }
@@ -1,5 +1,7 @@
 package seedu.address.logic.commands;
 
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.events.ui.NewPersonAddedEvent;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.*;
 import seedu.address.model.tag.Tag;
@@ -50,6 +52,7 @@ public class AddCommand extends Command {
         assert model != null;
         try {
             model.addPerson(toAdd);
+            EventsCenter.getInstance().post(new NewPersonAddedEvent(model.getFilteredPersonIndex(toAdd)));
             return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
         } catch (UniquePersonList.DuplicatePersonException e) {
             return new CommandResult(MESSAGE_DUPLICATE_PERSON);
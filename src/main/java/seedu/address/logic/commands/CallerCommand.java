@@ -0,0 +1,38 @@
+package seedu.address.logic.commands;
+
+import seedu.address.model.query.FieldExpression;
+
+import java.util.Optional;
+
+/**
+ * Lists the persons with the longest phone number that a calling number starts with.
+ */
+public class CallerCommand extends Command {
+
+    public static final String COMMAND_WORD = "caller";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the persons with the longest phone number "
+            + "that the given number starts with, e.g. the main line of a company for a call from an extension.\n"
+            + "Parameters: PHONE_NUMBER\n"
+            + "Example: " + COMMAND_WORD + " 6512345678";
+
+    public static final String MESSAGE_CALLER_FOUND = "Call from %1$s matches phone %2$s: %3$d persons listed!";
+    public static final String MESSAGE_NO_CALLER = "No person has a phone number matching %1$s";
+
+    private final String number;
+
+    public CallerCommand(String number) {
+        this.number = number;
+    }
+
+    @Override
+    public CommandResult execute() {
+        final Optional<String> phone = model.findLongestPhonePrefixOf(number);
+        if (!phone.isPresent()) {
+            return new CommandResult(String.format(MESSAGE_NO_CALLER, number));
+        }
+        model.updateFilteredPersonList(new FieldExpression(FieldExpression.Field.PHONE, phone.get()));
+        return new CommandResult(String.format(MESSAGE_CALLER_FOUND, number, phone.get(),
+                model.getFilteredPersonList().size()));
+    }
+}
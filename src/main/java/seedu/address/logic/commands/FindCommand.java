@@ -1,29 +1,39 @@
 package seedu.address.logic.commands;
 
-import java.util.Set;
+import seedu.address.commons.core.Messages;
+import seedu.address.model.query.Expression;
+import seedu.address.model.query.TopScoredExpression;
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case sensitive.
+ * Finds and lists all persons in address book satisfying the argument query.
+ * Keyword matching is case insensitive.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
-            + "the specified keywords (case-sensitive) and displays them as a list with index numbers.\n"
+            + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
+            + "Prefix a keyword with n/, p/, e/, a/ or t/ to match a name, phone, email, address or tag. "
+            + "Combine keywords with AND, OR, NOT and parentheses, and quote a keyword such as \"AND\" to find it. "
+            + "Start with top/K to list only the K best matches of the keywords, best first.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " t/friends AND NOT (a/clementi OR n/bob)\n"
+            + "Example: " + COMMAND_WORD + " " + TopScoredExpression.PREFIX + "10 alice clementi";
 
-    private final Set<String> keywords;
+    private final Expression query;
 
-    public FindCommand(Set<String> keywords) {
-        this.keywords = keywords;
+    public FindCommand(Expression query) {
+        this.query = query;
     }
 
     @Override
     public CommandResult execute() {
-        model.updateFilteredPersonList(keywords);
+        model.updateFilteredPersonListInBackground(query);
+        if (model.isBackgroundSearchInProgress()) {
+            return new CommandResult(Messages.MESSAGE_SEARCH_IN_PROGRESS);
+        }
         return new CommandResult(getMessageForPersonListShownSummary(model.getFilteredPersonList().size()));
     }
 
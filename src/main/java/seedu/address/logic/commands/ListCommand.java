@@ -1,20 +1,49 @@
 package seedu.address.logic.commands;
 
+import seedu.address.model.person.SortField;
+
+import java.util.Locale;
 
 /**
- * Lists all persons in the address book to the user.
+ * Lists all persons in the address book to the user, optionally sorted by one of their fields.
  */
 public class ListCommand extends Command {
 
     public static final String COMMAND_WORD = "list";
 
+    public static final String SORT_PREFIX = "sort/";
+    public static final String DESCENDING = "desc";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all persons, "
+            + "or with " + SORT_PREFIX + ", all persons sorted by their names, emails or phones.\n"
+            + "Parameters: [" + SORT_PREFIX + "name|email|phone [" + DESCENDING + "]]\n"
+            + "Example: " + COMMAND_WORD + " " + SORT_PREFIX + "name " + DESCENDING;
+
     public static final String MESSAGE_SUCCESS = "Listed all persons";
+    public static final String MESSAGE_SORTED_SUCCESS = "Listed all persons by %1$s";
+    public static final String MESSAGE_SORTED_DESCENDING_SUCCESS = "Listed all persons by %1$s, descending";
+
+    /** The field to sort by, or null to list the persons in the order they were added */
+    private final SortField sortField;
+    private final boolean isDescending;
 
-    public ListCommand() {}
+    public ListCommand() {
+        this(null, false);
+    }
+
+    public ListCommand(SortField sortField, boolean isDescending) {
+        this.sortField = sortField;
+        this.isDescending = isDescending;
+    }
 
     @Override
     public CommandResult execute() {
-        model.updateFilteredListToShowAll();
-        return new CommandResult(MESSAGE_SUCCESS);
+        if (sortField == null) {
+            model.updateFilteredListToShowAll();
+            return new CommandResult(MESSAGE_SUCCESS);
+        }
+        model.updateFilteredListToShowAll(sortField, isDescending);
+        return new CommandResult(String.format(isDescending ? MESSAGE_SORTED_DESCENDING_SUCCESS : MESSAGE_SORTED_SUCCESS,
+                sortField.name().toLowerCase(Locale.ROOT)));
     }
 }
@@ -0,0 +1,65 @@
+package seedu.address.logic.commands;
+
+import seedu.address.model.FindResultCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shows statistics about the address book's search performance, or about the persons in it.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String SUBJECT_DOMAINS = "domains";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows statistics of the find result cache, "
+            + "or with " + SUBJECT_DOMAINS + ", the number of persons with an email at each domain.\n"
+            + "Parameters: [" + SUBJECT_DOMAINS + "]\n"
+            + "Example: " + COMMAND_WORD + " " + SUBJECT_DOMAINS;
+
+    public static final String MESSAGE_FIND_CACHE_STATISTICS =
+            "Find cache: %1$d hits, %2$d misses (%3$.1f%% hit rate), %4$d of %5$d entries used";
+    public static final String MESSAGE_EMAIL_DOMAIN_COUNTS = "Persons per email domain:";
+    public static final String MESSAGE_EMAIL_DOMAIN_COUNT = "\n%1$s: %2$d";
+
+    /** What the statistics are about */
+    public enum Subject {
+        FIND_CACHE, EMAIL_DOMAINS
+    }
+
+    private final Subject subject;
+
+    public StatsCommand() {
+        this(Subject.FIND_CACHE);
+    }
+
+    public StatsCommand(Subject subject) {
+        this.subject = subject;
+    }
+
+    @Override
+    public CommandResult execute() {
+        if (subject == Subject.EMAIL_DOMAINS) {
+            return new CommandResult(getEmailDomainCounts());
+        }
+        final FindResultCache.Statistics statistics = model.getFindResultCacheStatistics();
+        return new CommandResult(String.format(MESSAGE_FIND_CACHE_STATISTICS, statistics.hits, statistics.misses,
+                statistics.getHitRate() * 100, statistics.size, statistics.capacity));
+    }
+
+    /**
+     * Returns the number of persons at each email domain, from the most common domain.
+     */
+    private String getEmailDomainCounts() {
+        final List<Map.Entry<String, Integer>> counts = new ArrayList<>(model.getEmailDomainCounts().entrySet());
+        counts.sort(Map.Entry.<String, Integer>comparingByValue().reversed());
+        final StringBuilder message = new StringBuilder(MESSAGE_EMAIL_DOMAIN_COUNTS);
+        for (Map.Entry<String, Integer> count : counts) {
+            message.append(String.format(MESSAGE_EMAIL_DOMAIN_COUNT, count.getKey(), count.getValue()));
+        }
+        return message.toString();
+    }
+}
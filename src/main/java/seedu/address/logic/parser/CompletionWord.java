@@ -0,0 +1,24 @@
+package seedu.address.logic.parser;
+
+/**
+ * The word being completed at the end of a command text, split into its field prefix and the part to complete.
+ */
+public class CompletionWord {
+
+    /**
+     * What the word names.
+     */
+    public enum Kind { NAME, TAG }
+
+    public final Kind kind;
+    /** The field prefix of the word, e.g. {@code t/}, or an empty string */
+    public final String prefix;
+    /** The part of the word after its field prefix */
+    public final String stem;
+
+    public CompletionWord(Kind kind, String prefix, String stem) {
+        this.kind = kind;
+        this.prefix = prefix;
+        this.stem = stem;
+    }
+}
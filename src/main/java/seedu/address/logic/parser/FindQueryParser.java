@@ -0,0 +1,259 @@
+package seedu.address.logic.parser;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.index.InvertedIndex;
+import seedu.address.model.query.AndExpression;
+import seedu.address.model.query.EmailDomainExpression;
+import seedu.address.model.query.Expression;
+import seedu.address.model.query.FieldExpression;
+import seedu.address.model.query.FuzzyNameExpression;
+import seedu.address.model.query.NotExpression;
+import seedu.address.model.query.OrExpression;
+import seedu.address.model.query.PhonePrefixExpression;
+import seedu.address.model.query.PhoneticNameExpression;
+import seedu.address.model.query.PostalCodeExpression;
+import seedu.address.model.query.SubstringExpression;
+import seedu.address.model.query.TopScoredExpression;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parses the arguments of a find command into an {@link Expression}.
+ * <pre>
+ * query   := andExpr ( [OR] andExpr )*
+ * andExpr := unary ( AND unary )*
+ * unary   := NOT unary | '(' query ')' | term
+ * term    := [n/|p/|e/|a/|t/|~|~~]keyword | *fragment* | a/postal:(prefix|from-to) | e/@domain | p/digits*
+ *          | "keyword"
+ * </pre>
+ * The operators are only recognized in upper case, so {@code and} is a keyword, and a keyword between double quotes
+ * matches names literally, so {@code "AND"} finds persons named And.
+ * Terms without an operator between them are OR-ed, as in the original keyword search. A term without a field
+ * prefix matches names, a term prefixed with {@code ~} matches names approximately, a term prefixed with
+ * {@code ~~} matches names sounding like it, and a fragment between {@code *}s matches anywhere in the name, phone,
+ * email or address. A postal code term matches addresses with a postal code starting with the prefix, or within
+ * the range, a domain term matches emails at the domain or its subdomains, and a phone term ending with {@code *}
+ * matches phones starting with its digits.
+ * <p>
+ * A query of the form {@code top/K keyword...} is a ranked search instead, matching the K persons scoring highest
+ * against the keywords.
+ */
+public class FindQueryParser {
+
+    public static final String MESSAGE_INVALID_QUERY = "Invalid find query: %1$s";
+
+    private static final Pattern TOKEN_FORMAT = Pattern.compile("\"[^\\s\"()]+\"|\\(|\\)|[^\\s()]+");
+    private static final String OPERATOR_AND = "AND";
+    private static final String OPERATOR_OR = "OR";
+    private static final String OPERATOR_NOT = "NOT";
+    private static final String OPEN_PARENTHESIS = "(";
+    private static final String CLOSE_PARENTHESIS = ")";
+    private static final String QUOTE = "\"";
+    /** Ranked searches show at most 999,999,999 persons, which keeps their limit within an int */
+    private static final int MAX_LIMIT_DIGITS = 9;
+    private static final Pattern PHONE_PREFIX_FORMAT = Pattern.compile("\\d+");
+    private static final Pattern POSTAL_CODE_PREFIX_FORMAT = Pattern.compile("\\d{1,6}");
+    private static final Pattern POSTAL_CODE_RANGE_FORMAT = Pattern.compile("(?<from>\\d{6})-(?<to>\\d{6})");
+
+    private final List<String> tokens = new ArrayList<>();
+    private int position;
+
+    private FindQueryParser(String query) {
+        final Matcher matcher = TOKEN_FORMAT.matcher(query);
+        while (matcher.find()) {
+            tokens.add(matcher.group());
+        }
+    }
+
+    /**
+     * Parses the given find query.
+     *
+     * @throws IllegalValueException if the query is not well-formed
+     */
+    public static Expression parse(String query) throws IllegalValueException {
+        final FindQueryParser parser = new FindQueryParser(query);
+        if (parser.hasNext() && parser.peek().startsWith(TopScoredExpression.PREFIX)) {
+            return parser.parseTopScored();
+        }
+        final Expression expression = parser.parseQuery();
+        if (parser.hasNext()) {
+            throw invalidQuery("unexpected '" + parser.peek() + "'");
+        }
+        return expression;
+    }
+
+    /**
+     * Returns true if the given token is an operator or parenthesis of the query language.
+     */
+    public static boolean isReservedToken(String token) {
+        return token.equals(OPERATOR_AND) || token.equals(OPERATOR_OR) || token.equals(OPERATOR_NOT)
+                || token.contains(OPEN_PARENTHESIS) || token.contains(CLOSE_PARENTHESIS);
+    }
+
+    /**
+     * Returns true if the given token is a keyword matching names exactly, rather than an operator, a parenthesis
+     * or a term with a prefix.
+     */
+    public static boolean isPlainKeyword(String token) {
+        return !isReservedToken(token) && !token.contains("/") && !token.startsWith(FuzzyNameExpression.PREFIX)
+                && !token.startsWith(SubstringExpression.WILDCARD) && !token.startsWith(QUOTE);
+    }
+
+    private Expression parseTopScored() throws IllegalValueException {
+        final String limitToken = next();
+        final String limit = limitToken.substring(TopScoredExpression.PREFIX.length());
+        if (!StringUtil.isUnsignedInteger(limit) || limit.length() > MAX_LIMIT_DIGITS) {
+            throw invalidQuery("expected a positive number after '" + TopScoredExpression.PREFIX + "'");
+        }
+        final SortedSet<String> terms = new TreeSet<>();
+        while (hasNext()) {
+            final String token = next();
+            if (!isPlainKeyword(token)) {
+                throw invalidQuery("ranked search takes only keywords, but got '" + token + "'");
+            }
+            terms.addAll(InvertedIndex.getTerms(token));
+        }
+        if (terms.isEmpty()) {
+            throw invalidQuery("missing keyword after '" + limitToken + "'");
+        }
+        return new TopScoredExpression(terms, Integer.parseInt(limit));
+    }
+
+    private Expression parseQuery() throws IllegalValueException {
+        final List<Expression> operands = new ArrayList<>();
+        operands.add(parseAnd());
+        while (hasNext() && !peek().equals(CLOSE_PARENTHESIS)) {
+            if (peek().equals(OPERATOR_OR)) {
+                next();
+            }
+            operands.add(parseAnd());
+        }
+        return operands.size() == 1 ? operands.get(0) : new OrExpression(operands);
+    }
+
+    private Expression parseAnd() throws IllegalValueException {
+        final List<Expression> operands = new ArrayList<>();
+        operands.add(parseUnary());
+        while (hasNext() && peek().equals(OPERATOR_AND)) {
+            next();
+            operands.add(parseUnary());
+        }
+        return operands.size() == 1 ? operands.get(0) : new AndExpression(operands);
+    }
+
+    private Expression parseUnary() throws IllegalValueException {
+        if (!hasNext()) {
+            throw invalidQuery("query ends unexpectedly");
+        }
+        final String token = next();
+        switch (token) {
+        case OPERATOR_NOT:
+            return new NotExpression(parseUnary());
+        case OPEN_PARENTHESIS:
+            final Expression inner = parseQuery();
+            if (!hasNext()) {
+                throw invalidQuery("missing ')'");
+            }
+            next();
+            return inner;
+        case OPERATOR_AND:
+        case OPERATOR_OR:
+        case CLOSE_PARENTHESIS:
+            throw invalidQuery("unexpected '" + token + "'");
+        default:
+            return parseTerm(token);
+        }
+    }
+
+    private static Expression parseTerm(String term) throws IllegalValueException {
+        if (term.startsWith(QUOTE)) {
+            if (term.length() <= 2 * QUOTE.length() || !term.endsWith(QUOTE)) {
+                throw invalidQuery("expected '\"keyword\"' but got '" + term + "'");
+            }
+            return new FieldExpression(FieldExpression.Field.NAME,
+                    term.substring(QUOTE.length(), term.length() - QUOTE.length()));
+        }
+        if (term.startsWith(PhoneticNameExpression.PREFIX)) {
+            final String keyword = term.substring(PhoneticNameExpression.PREFIX.length());
+            if (keyword.isEmpty()) {
+                throw invalidQuery("missing keyword after '" + PhoneticNameExpression.PREFIX + "'");
+            }
+            return new PhoneticNameExpression(keyword);
+        }
+        if (term.startsWith(SubstringExpression.WILDCARD)) {
+            final int wildcardLength = SubstringExpression.WILDCARD.length();
+            if (term.length() <= 2 * wildcardLength || !term.endsWith(SubstringExpression.WILDCARD)) {
+                throw invalidQuery("expected '*fragment*' but got '" + term + "'");
+            }
+            return new SubstringExpression(term.substring(wildcardLength, term.length() - wildcardLength));
+        }
+        if (term.startsWith(FuzzyNameExpression.PREFIX)) {
+            final String keyword = term.substring(FuzzyNameExpression.PREFIX.length());
+            if (keyword.isEmpty()) {
+                throw invalidQuery("missing keyword after '" + FuzzyNameExpression.PREFIX + "'");
+            }
+            return new FuzzyNameExpression(keyword);
+        }
+        if (term.startsWith(EmailDomainExpression.PREFIX)) {
+            final String domain = term.substring(EmailDomainExpression.PREFIX.length());
+            if (domain.isEmpty()) {
+                throw invalidQuery("missing domain after '" + EmailDomainExpression.PREFIX + "'");
+            }
+            return new EmailDomainExpression(domain);
+        }
+        if (term.startsWith(PhonePrefixExpression.PREFIX) && term.endsWith(PhonePrefixExpression.WILDCARD)) {
+            final String digits = term.substring(PhonePrefixExpression.PREFIX.length(),
+                    term.length() - PhonePrefixExpression.WILDCARD.length());
+            if (!PHONE_PREFIX_FORMAT.matcher(digits).matches()) {
+                throw invalidQuery("expected digits before '" + PhonePrefixExpression.WILDCARD + "' in '" + term + "'");
+            }
+            return new PhonePrefixExpression(digits);
+        }
+        if (term.startsWith(PostalCodeExpression.PREFIX)) {
+            return parsePostalCodes(term.substring(PostalCodeExpression.PREFIX.length()));
+        }
+        for (FieldExpression.Field field : FieldExpression.Field.values()) {
+            if (term.startsWith(field.prefix)) {
+                final String keyword = term.substring(field.prefix.length());
+                if (keyword.isEmpty()) {
+                    throw invalidQuery("missing keyword after '" + field.prefix + "'");
+                }
+                return new FieldExpression(field, keyword);
+            }
+        }
+        return new FieldExpression(FieldExpression.Field.NAME, term);
+    }
+
+    private static Expression parsePostalCodes(String postalCodes) throws IllegalValueException {
+        if (POSTAL_CODE_PREFIX_FORMAT.matcher(postalCodes).matches()) {
+            return PostalCodeExpression.withPrefix(postalCodes);
+        }
+        final Matcher range = POSTAL_CODE_RANGE_FORMAT.matcher(postalCodes);
+        if (range.matches() && range.group("from").compareTo(range.group("to")) <= 0) {
+            return new PostalCodeExpression(Integer.parseInt(range.group("from")), Integer.parseInt(range.group("to")));
+        }
+        throw invalidQuery("expected a postal code prefix or range after '" + PostalCodeExpression.PREFIX + "'");
+    }
+
+    private static IllegalValueException invalidQuery(String reason) {
+        return new IllegalValueException(String.format(MESSAGE_INVALID_QUERY, reason));
+    }
+
+    private boolean hasNext() {
+        return position < tokens.size();
+    }
+
+    private String peek() {
+        return tokens.get(position);
+    }
+
+    private String next() {
+        return tokens.get(position++);
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.logic.parser;
 import seedu.address.logic.commands.*;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.SortField;
 
 import java.util.*;
 import java.util.regex.Matcher;
@@ -26,6 +28,10 @@ public class Parser {
     private static final Pattern KEYWORDS_ARGS_FORMAT =
             Pattern.compile("(?<keywords>\\S+(?:\\s+\\S+)*)"); // one or more keywords separated by whitespace
 
+    private static final Pattern LIST_ARGS_FORMAT = Pattern.compile(
+            "(?:" + ListCommand.SORT_PREFIX + "(?<field>\\S+)(?<isDescending>\\s+" + ListCommand.DESCENDING + ")?)?",
+            Pattern.CASE_INSENSITIVE);
+
     private static final Pattern PERSON_DATA_ARGS_FORMAT = // '/' forward slashes are reserved for delimiter prefixes
             Pattern.compile("(?<name>[^/]+)"
                     + " (?<isPhonePrivate>p?)p/(?<phone>[^/]+)"
@@ -33,6 +39,14 @@ public class Parser {
                     + " (?<isAddressPrivate>p?)a/(?<address>[^/]+)"
                     + "(?<tagArguments>(?: t/[^/]+)*)"); // variable number of tags
 
+    /**
+     * The word being completed at the end of a command text: the text after its last whitespace or parenthesis.
+     */
+    public static final Pattern COMPLETION_WORD_FORMAT = Pattern.compile("[^\\s()]*$");
+
+    private static final String TAG_PREFIX = "t/";
+    private static final String NAME_PREFIX = "n/";
+
     public Parser() {}
 
     /**
@@ -67,7 +81,13 @@ public class Parser {
             return prepareFind(arguments);
 
         case ListCommand.COMMAND_WORD:
-            return new ListCommand();
+            return prepareList(arguments);
+
+        case CallerCommand.COMMAND_WORD:
+            return prepareCaller(arguments);
+
+        case StatsCommand.COMMAND_WORD:
+            return prepareStats(arguments);
 
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
@@ -80,6 +100,60 @@ public class Parser {
         }
     }
 
+    /**
+     * Extracts the word to complete at the end of a command that is still being typed.
+     * Tag names are completed after {@code t/} in any command, and name words are completed in the arguments
+     * of a find command, with or without {@code n/}.
+     *
+     * @param userInput full user input string
+     * @return the word to complete, or {@code Optional.empty()} if it is not a tag or name word
+     */
+    public Optional<CompletionWord> parseCompletionWord(String userInput) {
+        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
+        final Matcher wordMatcher = COMPLETION_WORD_FORMAT.matcher(userInput);
+        if (!matcher.matches() || !wordMatcher.find() || wordMatcher.start() == 0) {
+            return Optional.empty();
+        }
+        final String word = wordMatcher.group();
+        if (word.startsWith(TAG_PREFIX)) {
+            final String stem = word.substring(TAG_PREFIX.length());
+            return Optional.of(new CompletionWord(CompletionWord.Kind.TAG, TAG_PREFIX, stem));
+        }
+        if (!matcher.group("commandWord").equals(FindCommand.COMMAND_WORD) || FindQueryParser.isReservedToken(word)) {
+            return Optional.empty();
+        }
+        if (word.startsWith(NAME_PREFIX)) {
+            final String stem = word.substring(NAME_PREFIX.length());
+            return Optional.of(new CompletionWord(CompletionWord.Kind.NAME, NAME_PREFIX, stem));
+        }
+        return FindQueryParser.isPlainKeyword(word)
+                ? Optional.of(new CompletionWord(CompletionWord.Kind.NAME, "", word))
+                : Optional.empty();
+    }
+
+    /**
+     * Extracts the keywords of a find command that may still be being typed.
+     *
+     * @param userInput full user input string
+     * @return the keywords typed so far, or {@code Optional.empty()} if the input is not a find command
+     *         or uses the operators or field prefixes of the query language
+     */
+    public Optional<List<String>> parsePartialFindKeywords(String userInput) {
+        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
+        if (!matcher.matches() || !matcher.group("commandWord").equals(FindCommand.COMMAND_WORD)) {
+            return Optional.empty();
+        }
+        final String arguments = matcher.group("arguments").trim();
+        if (arguments.isEmpty()) {
+            return Optional.of(Collections.emptyList());
+        }
+        final List<String> keywords = Arrays.asList(arguments.split("\\s+"));
+        if (!keywords.stream().allMatch(FindQueryParser::isPlainKeyword)) {
+            return Optional.empty();
+        }
+        return Optional.of(keywords);
+    }
+
     /**
      * Parses arguments in the context of the add person command.
      *
@@ -170,6 +244,60 @@ public class Parser {
 
     }
 
+    /**
+     * Parses arguments in the context of the list command.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    private Command prepareList(String args) {
+        final Matcher matcher = LIST_ARGS_FORMAT.matcher(args.trim());
+        if (!matcher.matches()) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
+        }
+        if (matcher.group("field") == null) {
+            return new ListCommand();
+        }
+        final SortField field;
+        try {
+            field = SortField.valueOf(matcher.group("field").toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException iae) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE));
+        }
+        return new ListCommand(field, matcher.group("isDescending") != null);
+    }
+
+    /**
+     * Parses arguments in the context of the caller command.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    private Command prepareCaller(String args) {
+        final String number = args.trim();
+        if (!Phone.isValidPhone(number)) {
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, CallerCommand.MESSAGE_USAGE));
+        }
+        return new CallerCommand(number);
+    }
+
+    /**
+     * Parses arguments in the context of the stats command.
+     *
+     * @param args full command args string
+     * @return the prepared command
+     */
+    private Command prepareStats(String args) {
+        switch (args.trim()) {
+        case "":
+            return new StatsCommand();
+        case StatsCommand.SUBJECT_DOMAINS:
+            return new StatsCommand(StatsCommand.Subject.EMAIL_DOMAINS);
+        default:
+            return new IncorrectCommand(String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+        }
+    }
+
     /**
      * Parses arguments in the context of the find person command.
      *
@@ -183,10 +311,11 @@ public class Parser {
                     FindCommand.MESSAGE_USAGE));
         }
 
-        // keywords delimited by whitespace
-        final String[] keywords = matcher.group("keywords").split("\\s+");
-        final Set<String> keywordSet = new HashSet<>(Arrays.asList(keywords));
-        return new FindCommand(keywordSet);
+        try {
+            return new FindCommand(FindQueryParser.parse(matcher.group("keywords")));
+        } catch (IllegalValueException ive) {
+            return new IncorrectCommand(ive.getMessage());
+        }
     }
 
 }
\ No newline at end of file
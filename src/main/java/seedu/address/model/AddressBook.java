@@ -1,9 +1,19 @@
 package seedu.address.model;
 
-import javafx.collections.ObservableList;
+import seedu.address.commons.core.ListListener;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.person.SortField;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.index.BkTree;
+import seedu.address.model.index.DigitTrie;
+import seedu.address.model.index.DomainIndex;
+import seedu.address.model.index.InvertedIndex;
+import seedu.address.model.index.PrefixTrie;
+import seedu.address.model.index.SortedKeyIndex;
+import seedu.address.model.index.Soundex;
+import seedu.address.model.index.TrigramIndex;
+import seedu.address.model.query.PersonIndex;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.UniqueTagList;
 
@@ -13,15 +23,53 @@ import java.util.stream.Collectors;
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .equals comparison)
+ * The indexes over the persons are each built from the persons when first used, and maintained from then on,
+ * so that a book of persons backed by records, e.g. one mapped from a file, is not decoded until it is searched.
  */
-public class AddressBook implements ReadOnlyAddressBook {
+public class AddressBook implements ReadOnlyAddressBook, PersonIndex {
+
+    private static final BitSet EMPTY_SLOT_SET = new BitSet();
 
     private final UniquePersonList persons;
     private final UniqueTagList tags;
+    /** The persons by id, built on the first lookup by id */
+    private Map<Long, Person> personsById;
+    private long nextId;
+    /** Slots of the persons with each tag, keyed by lower case tag name, built with {@link #tagNames} */
+    private Map<String, BitSet> personSlotsByTag;
+    /** Names of the tags of the persons, for completion */
+    private PrefixTrie tagNames;
+    /** Slots of the persons with a name word of each Soundex code, built with the other name word indexes */
+    private Map<String, BitSet> personSlotsByNameSound;
+    /** Slots of the persons with each name word, keyed by lower case word */
+    private Map<String, BitSet> personSlotsByNameWord;
+    /** Words in the names of the persons, for completion */
+    private PrefixTrie nameWords;
+    /** Lower case words in the names of the persons, for fuzzy search */
+    private BkTree nameWordDictionary;
+    /** Slots of the persons by the postal code in their address, built on the first postal code search */
+    private SortedKeyIndex personSlotsByPostalCode;
+    /** Slots and counts of the persons by the domain of their email, built on the first domain search or count */
+    private DomainIndex emailDomains;
+    /** Trigrams of the names, phones, emails and addresses of the persons, built on the first substring search */
+    private TrigramIndex fieldTrigrams;
+    /** Digits of the phones of the persons, built on the first phone search */
+    private DigitTrie phoneDigits;
+    /** Terms of the names, emails, addresses and tags of the persons, built on the first ranked search */
+    private InvertedIndex fieldTerms;
+    /** The persons in the order of each sort field, each built when it is first read */
+    private final Map<SortField, SortedPersonList> personsBySortField;
 
     {
         persons = new UniquePersonList();
         tags = new UniqueTagList();
+        nextId = ReadOnlyPerson.UNASSIGNED_ID + 1;
+        personsBySortField = new EnumMap<>(SortField.class);
+        for (SortField field : SortField.values()) {
+            final SortedPersonList sortedPersons = new SortedPersonList(field, persons.getInternalList());
+            persons.addListener(sortedPersons);
+            personsBySortField.put(field, sortedPersons);
+        }
     }
 
     public AddressBook() {}
@@ -40,22 +88,108 @@ public class AddressBook implements ReadOnlyAddressBook {
         resetData(persons.getInternalList(), tags.getInternalList());
     }
 
+    /**
+     * Returns an address book that takes ownership of the persons and tags of {@code loaded}, such as a book just
+     * read from storage, instead of copying them. {@code loaded} must not be used afterwards, and if it is not an
+     * address book itself, its {@link ReadOnlyAddressBook#getUniquePersonList()} must return a new list.
+     */
+    public static AddressBook adopt(ReadOnlyAddressBook loaded) {
+        if (loaded instanceof AddressBook) {
+            return (AddressBook) loaded;
+        }
+        final AddressBook adopted = new AddressBook();
+        adopted.setPersons(loaded.getUniquePersonList().getInternalList());
+        adopted.setTags(loaded.getUniqueTagList().getInternalList());
+        return adopted;
+    }
+
     public static ReadOnlyAddressBook getEmptyAddressBook() {
         return new AddressBook();
     }
 
 //// list overwrite operations
 
-    public ObservableList<Person> getPersons() {
+    /**
+     * Returns an unmodifiable view of the persons in this address book.
+     */
+    public List<Person> getPersons() {
         return persons.getInternalList();
     }
 
+    /**
+     * Returns an unmodifiable view of the persons in ascending order of {@code field}.
+     */
+    public SortedPersonList getPersonsSortedBy(SortField field) {
+        return personsBySortField.get(field);
+    }
+
+    /**
+     * Adds a listener that is told of each change to {@link #getPersons()}.
+     */
+    public void addPersonListListener(ListListener<? super Person> listener) {
+        persons.addListener(listener);
+    }
+
     public void setPersons(List<Person> persons) {
-        this.persons.getInternalList().setAll(persons);
+        personsById = null;
+        if (!haveDistinctAssignedIds(persons)) {
+            personsById = new HashMap<>();
+            for (Person person : persons) {
+                registerId(person);
+            }
+        }
+        // the persons get their slots here, which the indexes are keyed by
+        this.persons.setPersons(persons);
+        fieldTerms = null;
+        dropSlotIndexes();
+    }
+
+    /**
+     * Returns true if every person in {@code persons} has an id, and no two have the same one, in which case
+     * {@link #nextId} is moved past their ids. Reads only the ids of the persons.
+     */
+    private boolean haveDistinctAssignedIds(List<Person> persons) {
+        final long[] ids = new long[persons.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = persons.get(i).getId();
+        }
+        Arrays.sort(ids);
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] == ReadOnlyPerson.UNASSIGNED_ID || (i > 0 && ids[i] == ids[i - 1])) {
+                return false;
+            }
+        }
+        if (ids.length > 0) {
+            nextId = Math.max(nextId, ids[ids.length - 1] + 1);
+        }
+        return true;
+    }
+
+    /**
+     * Drops the indexes over the persons that are keyed by slot, or built along with one that is, e.g. after the
+     * slots have changed. Each is built again from the persons when next used.
+     */
+    private void dropSlotIndexes() {
+        personSlotsByTag = null;
+        tagNames = null;
+        personSlotsByNameSound = null;
+        personSlotsByNameWord = null;
+        nameWords = null;
+        nameWordDictionary = null;
+        personSlotsByPostalCode = null;
+        emailDomains = null;
+        fieldTrigrams = null;
+        phoneDigits = null;
     }
 
     public void setTags(Collection<Tag> tags) {
-        this.tags.getInternalList().setAll(tags);
+        final List<Tag> interned = new ArrayList<>(tags.size());
+        for (Tag tag : tags) {
+            interned.add(tag.intern());
+        }
+        final List<Tag> internalTags = this.tags.getInternalList();
+        internalTags.clear();
+        internalTags.addAll(interned);
     }
 
     public void resetData(Collection<? extends ReadOnlyPerson> newPersons, Collection<Tag> newTags) {
@@ -73,49 +207,406 @@ public class AddressBook implements ReadOnlyAddressBook {
      * Adds a person to the address book.
      * Also checks the new person's tags and updates {@link #tags} with any new tags found,
      * and updates the Tag objects in the person to point to those in {@link #tags}.
+     * A person already held by another address book is added as a copy, as it cannot change once held.
      *
      * @throws UniquePersonList.DuplicatePersonException if an equivalent person already exists.
      */
     public void addPerson(Person p) throws UniquePersonList.DuplicatePersonException {
-        syncTagsWithMasterList(p);
-        persons.add(p);
+        final Person toAdd = p.getSlot() < 0 ? p : new Person(p);
+        syncTagsWithMasterList(toAdd);
+        // before the person is added, as the listeners to the person list may look at its id
+        assignFreshIdIfTaken(toAdd);
+        persons.add(toAdd);
+        registerId(toAdd);
+        updateIndexes(toAdd, true);
+    }
+
+    /**
+     * Gives {@code person} a fresh id if it has none, or if its id is already held by another person.
+     */
+    private void assignFreshIdIfTaken(Person person) {
+        if (person.getId() == ReadOnlyPerson.UNASSIGNED_ID || getPersonsById().containsKey(person.getId())) {
+            person.setId(nextId);
+        }
+    }
+
+    /**
+     * Adds the person to {@link #personsById}, after giving it a fresh id if needed.
+     */
+    private void registerId(Person person) {
+        assignFreshIdIfTaken(person);
+        nextId = Math.max(nextId, person.getId() + 1);
+        getPersonsById().put(person.getId(), person);
+    }
+
+    private Map<Long, Person> getPersonsById() {
+        if (personsById == null) {
+            personsById = new HashMap<>();
+            for (Person person : persons) {
+                personsById.put(person.getId(), person);
+            }
+        }
+        return personsById;
+    }
+
+    /**
+     * Adds the person to, or removes the person from, the indexes over the persons that have been built.
+     */
+    private void updateIndexes(Person person, boolean isAdded) {
+        if (personSlotsByTag != null) {
+            indexTags(person, isAdded);
+        }
+        if (personSlotsByNameWord != null) {
+            indexNameWords(person, isAdded);
+        }
+        if (personSlotsByPostalCode != null) {
+            indexPostalCode(person, isAdded);
+        }
+        if (emailDomains != null && isAdded) {
+            emailDomains.add(person.getEmail().getDomain(), person.getSlot());
+        } else if (emailDomains != null) {
+            emailDomains.remove(person.getEmail().getDomain(), person.getSlot());
+        }
+        if (phoneDigits != null && isAdded) {
+            phoneDigits.add(person.getPhone().value(), person.getSlot());
+        } else if (phoneDigits != null) {
+            phoneDigits.remove(person.getPhone().value(), person.getSlot());
+        }
+        if (fieldTrigrams != null && isAdded) {
+            fieldTrigrams.add(person.getSlot(), getSearchableValues(person));
+        } else if (fieldTrigrams != null) {
+            fieldTrigrams.remove(person.getSlot(), getSearchableValues(person));
+        }
+        if (fieldTerms != null && isAdded) {
+            fieldTerms.add(person.getId(), getScoredTexts(person));
+        } else if (fieldTerms != null) {
+            fieldTerms.remove(person.getId(), getScoredTexts(person));
+        }
+    }
+
+    /**
+     * Adds the person to, or removes the person from, {@link #personSlotsByTag} and {@link #tagNames}.
+     */
+    private void indexTags(Person person, boolean isAdded) {
+        final int slot = person.getSlot();
+        for (Tag tag : person.getTags()) {
+            personSlotsByTag.computeIfAbsent(tag.getTagName().toLowerCase(), tagName -> new BitSet())
+                    .set(slot, isAdded);
+            if (isAdded) {
+                tagNames.add(tag.getTagName());
+            } else {
+                tagNames.remove(tag.getTagName());
+            }
+        }
+    }
+
+    /**
+     * Adds the person to, or removes the person from, the entries of its name words and their codes in
+     * {@link #personSlotsByNameWord} and {@link #personSlotsByNameSound}, and {@link #nameWords} and
+     * {@link #nameWordDictionary}.
+     */
+    private void indexNameWords(Person person, boolean isAdded) {
+        final int slot = person.getSlot();
+        for (String word : person.getName().fullName().trim().split("\\s+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            final String lowerCaseWord = word.toLowerCase();
+            final String code = Soundex.encode(word);
+            if (!code.isEmpty()) {
+                // words without a code sound like nothing, and are not all kept under the empty code
+                personSlotsByNameSound.computeIfAbsent(code, key -> new BitSet()).set(slot, isAdded);
+            }
+            personSlotsByNameWord.computeIfAbsent(lowerCaseWord, key -> new BitSet()).set(slot, isAdded);
+            if (isAdded) {
+                nameWords.add(word);
+                nameWordDictionary.add(lowerCaseWord);
+            } else {
+                nameWords.remove(word);
+                nameWordDictionary.remove(lowerCaseWord);
+            }
+        }
+    }
+
+    private void indexPostalCode(Person person, boolean isAdded) {
+        final OptionalInt postalCode = person.getAddress().getPostalCode();
+        if (postalCode.isPresent() && isAdded) {
+            personSlotsByPostalCode.add(postalCode.getAsInt(), person.getSlot());
+        } else if (postalCode.isPresent()) {
+            personSlotsByPostalCode.remove(postalCode.getAsInt(), person.getSlot());
+        }
+    }
+
+    private void buildTagIndexes() {
+        if (personSlotsByTag == null) {
+            personSlotsByTag = new HashMap<>();
+            tagNames = new PrefixTrie();
+            for (Person person : persons) {
+                indexTags(person, true);
+            }
+        }
+    }
+
+    private void buildNameWordIndexes() {
+        if (personSlotsByNameWord == null) {
+            personSlotsByNameSound = new HashMap<>();
+            personSlotsByNameWord = new HashMap<>();
+            nameWords = new PrefixTrie();
+            nameWordDictionary = new BkTree();
+            for (Person person : persons) {
+                indexNameWords(person, true);
+            }
+        }
+    }
+
+    private static List<String> getScoredTexts(ReadOnlyPerson person) {
+        final List<String> texts = new ArrayList<>();
+        texts.add(person.getName().fullName());
+        texts.add(person.getEmail().value());
+        texts.add(person.getAddress().value);
+        for (Tag tag : person.getTags()) {
+            texts.add(tag.getTagName());
+        }
+        return texts;
+    }
+
+    private static String[] getSearchableValues(ReadOnlyPerson person) {
+        return new String[] {person.getName().fullName(), person.getPhone().value(),
+                person.getEmail().value(), person.getAddress().value};
     }
 
     /**
      * Ensures that every tag in this person:
      *  - exists in the master list {@link #tags}
-     *  - points to a Tag object in the master list
+     *  - points to the canonical Tag object, which is also the one in the master list
      */
     private void syncTagsWithMasterList(Person person) {
-        final UniqueTagList personTags = person.getTags();
-        tags.mergeFrom(personTags);
+        final Set<Tag> canonicalTags = new HashSet<>();
+        for (Tag tag : person.getTags()) {
+            final Tag canonical = tag.intern();
+            canonicalTags.add(canonical);
+            if (!tags.contains(canonical)) {
+                tags.getInternalList().add(canonical);
+            }
+        }
+        person.setTags(new UniqueTagList(canonicalTags));
+    }
 
-        // Create map with values = tag object references in the master list
-        final Map<Tag, Tag> masterTagObjects = new HashMap<>();
-        for (Tag tag : tags) {
-            masterTagObjects.put(tag, tag);
+    /**
+     * Removes the person equivalent to {@code key} from the address book.
+     *
+     * @throws UniquePersonList.PersonNotFoundException if no equivalent person exists.
+     */
+    public boolean removePerson(ReadOnlyPerson key) throws UniquePersonList.PersonNotFoundException {
+        final Person toRemove = findPerson(key).orElseThrow(UniquePersonList.PersonNotFoundException::new);
+        // while the person still has its slot
+        updateIndexes(toRemove, false);
+        persons.remove(toRemove);
+        if (personsById != null) {
+            personsById.remove(toRemove.getId());
         }
+        if (persons.renumberSlotsIfSparse()) {
+            dropSlotIndexes();
+        }
+        return true;
+    }
 
-        // Rebuild the list of person tags using references from the master list
-        final Set<Tag> commonTagReferences = new HashSet<>();
-        for (Tag tag : personTags) {
-            commonTagReferences.add(masterTagObjects.get(tag));
+    /**
+     * Returns the person in this address book equivalent to {@code key}.
+     * The lookup goes through {@link #personsById} when {@code key} carries the id of that person,
+     * and falls back to a scan of the person list otherwise.
+     */
+    private Optional<Person> findPerson(ReadOnlyPerson key) {
+        final Person byId = getPersonsById().get(key.getId());
+        if (byId != null && byId.isSameStateAs(key)) {
+            return Optional.of(byId);
         }
-        person.setTags(new UniqueTagList(commonTagReferences));
+        return persons.getInternalList().stream().filter(key::isSameStateAs).findFirst();
     }
 
-    public boolean removePerson(ReadOnlyPerson key) throws UniquePersonList.PersonNotFoundException {
-        if (persons.remove(key)) {
-            return true;
-        } else {
-            throw new UniquePersonList.PersonNotFoundException();
+    /**
+     * Returns the number of slots given out to persons. Every person currently in this address book has a smaller
+     * slot, and persons added later get larger ones until a removal renumbers the slots.
+     */
+    int getSlotCount() {
+        return persons.getSlotCount();
+    }
+
+    /**
+     * Returns a number that changes whenever a removal renumbers the slots of the persons.
+     */
+    int getSlotNumbering() {
+        return persons.getSlotNumbering();
+    }
+
+    /**
+     * Returns the persons in the given slots, in the order of the address book.
+     */
+    List<Person> getPersonsInSlots(BitSet slots) {
+        final List<Person> found = new ArrayList<>(slots.cardinality());
+        for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+            final Person person = persons.getPersonInSlot(slot);
+            if (person != null) {
+                found.add(person);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns the person with the given id, if any.
+     */
+    public Optional<ReadOnlyPerson> getPersonById(long id) {
+        return Optional.ofNullable(getPersonsById().get(id));
+    }
+
+    @Override
+    public int size() {
+        return persons.getInternalList().size();
+    }
+
+    @Override
+    public BitSet getPersonSlotsWithTag(String tagName) {
+        buildTagIndexes();
+        return personSlotsByTag.getOrDefault(tagName.toLowerCase(), EMPTY_SLOT_SET);
+    }
+
+    @Override
+    public BitSet getPersonSlotsWithNameSoundingLike(String word) {
+        final String code = Soundex.encode(word);
+        buildNameWordIndexes();
+        return code.isEmpty() ? EMPTY_SLOT_SET : personSlotsByNameSound.getOrDefault(code, EMPTY_SLOT_SET);
+    }
+
+    @Override
+    public BitSet getPersonSlotsWithPostalCodeBetween(int from, int to) {
+        if (personSlotsByPostalCode == null) {
+            personSlotsByPostalCode = new SortedKeyIndex();
+            for (Person person : persons) {
+                indexPostalCode(person, true);
+            }
+        }
+        return personSlotsByPostalCode.findIdsBetween(from, to);
+    }
+
+    @Override
+    public BitSet getPersonSlotsWithEmailDomain(String domain) {
+        return getEmailDomains().findIds(domain.toLowerCase());
+    }
+
+    /**
+     * Returns each domain of the emails of the persons mapped to the number of persons with an email there.
+     */
+    public Map<String, Integer> getEmailDomainCounts() {
+        return getEmailDomains().getCounts();
+    }
+
+    private DomainIndex getEmailDomains() {
+        if (emailDomains == null) {
+            emailDomains = new DomainIndex();
+            for (Person person : persons) {
+                emailDomains.add(person.getEmail().getDomain(), person.getSlot());
+            }
         }
+        return emailDomains;
+    }
+
+    @Override
+    public BitSet getPersonSlotsWithPhoneStartingWith(String digits) {
+        return getPhoneDigits().findIdsWithPrefix(digits);
+    }
+
+    /**
+     * Returns the longest phone of a person that {@code number} starts with, e.g. the main line of a company for a
+     * call from one of its extensions.
+     */
+    public Optional<String> findLongestPhonePrefixOf(String number) {
+        return Optional.ofNullable(getPhoneDigits().findLongestPrefixOf(number));
+    }
+
+    private DigitTrie getPhoneDigits() {
+        if (phoneDigits == null) {
+            phoneDigits = new DigitTrie();
+            for (Person person : persons) {
+                phoneDigits.add(person.getPhone().value(), person.getSlot());
+            }
+        }
+        return phoneDigits;
+    }
+
+    @Override
+    public BitSet findPersonSlotsContaining(String fragment) {
+        if (fieldTrigrams == null) {
+            fieldTrigrams = new TrigramIndex();
+            for (Person person : persons) {
+                fieldTrigrams.add(person.getSlot(), getSearchableValues(person));
+            }
+        }
+        return fieldTrigrams.findCandidates(fragment);
+    }
+
+    @Override
+    public Map<Long, Double> findTopScoredPersons(Collection<String> terms, int limit) {
+        if (fieldTerms == null) {
+            fieldTerms = new InvertedIndex();
+            for (Person person : persons) {
+                fieldTerms.add(person.getId(), getScoredTexts(person));
+            }
+        }
+        return fieldTerms.findTopScored(terms, limit);
+    }
+
+    @Override
+    public BitSet getPersonSlotsWithIds(Collection<Long> ids) {
+        final BitSet slots = new BitSet();
+        final Map<Long, Person> byId = getPersonsById();
+        for (long id : ids) {
+            final Person person = byId.get(id);
+            if (person != null) {
+                slots.set(person.getSlot());
+            }
+        }
+        return slots;
+    }
+
+    @Override
+    public BitSet getPersonSlotsWithNameWords(Collection<String> words) {
+        buildNameWordIndexes();
+        final BitSet slots = new BitSet();
+        for (String word : words) {
+            slots.or(personSlotsByNameWord.getOrDefault(word, EMPTY_SLOT_SET));
+        }
+        return slots;
+    }
+
+    @Override
+    public Map<String, Integer> findNameWordsWithin(String word, int maxDistance) {
+        buildNameWordIndexes();
+        return nameWordDictionary.search(word.toLowerCase(), maxDistance);
+    }
+
+    /**
+     * Returns up to {@code limit} distinct words of person names starting with {@code prefix}, ignoring case,
+     * in alphabetical order.
+     */
+    public List<String> completeNameWord(String prefix, int limit) {
+        buildNameWordIndexes();
+        return nameWords.complete(prefix, limit);
+    }
+
+    /**
+     * Returns up to {@code limit} names of tags held by persons starting with {@code prefix}, ignoring case,
+     * in alphabetical order.
+     */
+    public List<String> completeTagName(String prefix, int limit) {
+        buildTagIndexes();
+        return tagNames.complete(prefix, limit);
     }
 
 //// tag-level operations
 
     public void addTag(Tag t) throws UniqueTagList.DuplicateTagException {
-        tags.add(t);
+        tags.add(t.intern());
     }
 
 //// util methods
@@ -0,0 +1,226 @@
+package seedu.address.model;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonRecords;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.UniqueTagList;
+
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An immutable address book storing the fields of its persons in parallel column arrays rather than as objects:
+ * the text of the fields as UTF-8 in one byte array with an array of offsets into it, and the tags as ids into
+ * a table of the distinct tags. This takes a fraction of the heap of an {@link AddressBook} holding the same
+ * persons, which suits large books that are mostly read.
+ * <p>
+ * Persons are exposed as persons backed by their records, which decode a field from the columns the first time it
+ * is read. An {@link AddressBook} adopting this book keeps its persons backed by the columns, so only the persons
+ * that are read, and the fields that are indexed, take more heap.
+ */
+public class ColumnarAddressBook implements ReadOnlyAddressBook, PersonRecords {
+
+    private final int size;
+    private final long[] ids;
+    /** UTF-8 text of the fields of every person, field by field and person by person */
+    private final byte[] text;
+    /** Start of field f of person i in {@link #text} at index i * FIELD_COUNT + f, followed by the end of the text */
+    private final int[] textOffsets;
+    /** Start of the tags of person i in {@link #tagIds} at index i, followed by the end of the tag ids */
+    private final int[] tagOffsets;
+    /** Tags of the persons, as indexes into {@link #tagTable} */
+    private final int[] tagIds;
+    private final Tag[] tagTable;
+    private final List<Tag> tags;
+
+    private ColumnarAddressBook(Builder builder, List<Tag> tags) {
+        this.size = builder.size;
+        this.ids = Arrays.copyOf(builder.ids, builder.size);
+        this.text = Arrays.copyOf(builder.text, builder.textLength);
+        this.textOffsets = Arrays.copyOf(builder.textOffsets, builder.size * FIELD_COUNT + 1);
+        this.tagOffsets = Arrays.copyOf(builder.tagOffsets, builder.size + 1);
+        this.tagIds = Arrays.copyOf(builder.tagIds, builder.tagIdCount);
+        this.tagTable = builder.tagTable.toArray(new Tag[0]);
+        this.tags = Collections.unmodifiableList(new ArrayList<>(tags));
+    }
+
+    /**
+     * Returns a columnar copy of the persons and tags in {@code source}, keeping the ids of the persons.
+     */
+    public static ColumnarAddressBook copyOf(ReadOnlyAddressBook source) {
+        final Builder builder = new Builder();
+        for (ReadOnlyPerson person : source.getPersonList()) {
+            builder.add(person.getId(), person.getName().fullName(), person.getPhone().value(),
+                    person.getEmail().value(), person.getAddress().value, person.getTags().getInternalList());
+        }
+        return builder.build(source.getTagList());
+    }
+
+    /**
+     * Appends persons to growing column arrays, e.g. as their records are read from storage, and then builds a
+     * columnar address book of them.
+     */
+    public static class Builder {
+        private int size;
+        private long[] ids = new long[16];
+        private byte[] text = new byte[1024];
+        private int textLength;
+        private int fieldCount;
+        private int[] textOffsets = new int[16 * FIELD_COUNT + 1];
+        private int[] tagOffsets = new int[17];
+        private int[] tagIds = new int[16];
+        private int tagIdCount;
+        private final List<Tag> tagTable = new ArrayList<>();
+        private final Map<Tag, Integer> tagTableIndexes = new HashMap<>();
+        /** The name, phone, email and address of each person appended, joined by line breaks */
+        private final Set<String> appendedDetails = new HashSet<>();
+
+        /**
+         * Appends a person with the given id, text of its fields and tags, unless a person with the same name,
+         * phone, email and address has been appended already. The text must be valid for the fields, as it is
+         * stored as is, and the tags must be unique.
+         *
+         * @return true if the person was appended.
+         */
+        public boolean add(long id, String name, String phone, String email, String address, List<Tag> tags) {
+            // names, phones and emails hold no line breaks, so the joined details tell persons apart
+            if (!appendedDetails.add(name + '\n' + phone + '\n' + email + '\n' + address)) {
+                return false;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                textOffsets = Arrays.copyOf(textOffsets, size * 2 * FIELD_COUNT + 1);
+                tagOffsets = Arrays.copyOf(tagOffsets, size * 2 + 1);
+            }
+            ids[size] = id;
+            appendText(name);
+            appendText(phone);
+            appendText(email);
+            appendText(address);
+            for (Tag tag : tags) {
+                if (tagIdCount == tagIds.length) {
+                    tagIds = Arrays.copyOf(tagIds, tagIdCount * 2);
+                }
+                tagIds[tagIdCount++] = tagTableIndexes.computeIfAbsent(tag, newTag -> {
+                    tagTable.add(newTag);
+                    return tagTable.size() - 1;
+                });
+            }
+            size++;
+            tagOffsets[size] = tagIdCount;
+            return true;
+        }
+
+        /**
+         * Returns a columnar address book of the persons appended so far, with {@code tags} as its own tags.
+         */
+        public ColumnarAddressBook build(List<Tag> tags) {
+            return new ColumnarAddressBook(this, tags);
+        }
+
+        private void appendText(String value) {
+            final byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            while (textLength + encoded.length > text.length) {
+                text = Arrays.copyOf(text, text.length * 2);
+            }
+            System.arraycopy(encoded, 0, text, textLength, encoded.length);
+            textLength += encoded.length;
+            // the end of a field is the start of the next one
+            textOffsets[++fieldCount] = textLength;
+        }
+    }
+
+    /**
+     * Returns the number of persons in this address book.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long getId(int record) {
+        return ids[record];
+    }
+
+    @Override
+    public String getFieldText(int record, int field) {
+        final int start = textOffsets[record * FIELD_COUNT + field];
+        final int end = textOffsets[record * FIELD_COUNT + field + 1];
+        return new String(text, start, end - start, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public int getTagCount(int record) {
+        return tagOffsets[record + 1] - tagOffsets[record];
+    }
+
+    @Override
+    public Tag getTag(int record, int i) {
+        return tagTable[tagIds[tagOffsets[record] + i]];
+    }
+
+    /**
+     * Returns a new list of persons backed by the records of this book, none of whose fields is decoded yet.
+     */
+    @Override
+    public UniquePersonList getUniquePersonList() {
+        final List<Person> persons = new ArrayList<>(size);
+        for (int record = 0; record < size; record++) {
+            persons.add(new Person(this, record));
+        }
+        final UniquePersonList personList = new UniquePersonList();
+        personList.setPersons(persons);
+        return personList;
+    }
+
+    @Override
+    public UniqueTagList getUniqueTagList() {
+        try {
+            return new UniqueTagList(tags);
+        } catch (UniqueTagList.DuplicateTagException dte) {
+            throw new AssertionError("Stored tags are unique", dte);
+        }
+    }
+
+    /**
+     * Returns persons backed by the records of this book, created as they are read.
+     */
+    @Override
+    public List<ReadOnlyPerson> getPersonList() {
+        return new AbstractList<ReadOnlyPerson>() {
+            @Override
+            public ReadOnlyPerson get(int index) {
+                if (index < 0 || index >= size) {
+                    throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+                }
+                return new Person(ColumnarAddressBook.this, index);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public List<Tag> getTagList() {
+        return tags;
+    }
+
+    @Override
+    public String toString() {
+        return size + " persons, " + tags.size() + " tags";
+    }
+}
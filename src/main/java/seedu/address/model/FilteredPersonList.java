@@ -0,0 +1,307 @@
+package seedu.address.model;
+
+import seedu.address.commons.core.ListListener;
+import seedu.address.commons.core.ListenableList;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.person.UniquePersonList;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * An unmodifiable view of the persons in an address book that satisfy a predicate, in the order of a comparator.
+ * Persons that compare equal, or all of them when there is no comparator, stay in the order of the address book,
+ * which is the order of their slots, so a shown person is found by a binary search.
+ *
+ * Listens to the person list of the address book, so that its changes are applied without refiltering all persons,
+ * and reports its own changes to the {@link ListListener}s added to it.
+ * While neither a predicate nor a comparator is set, it reads the person list, or one of its sorted views, directly
+ * instead of keeping a copy.
+ */
+class FilteredPersonList extends AbstractList<ReadOnlyPerson>
+        implements ListenableList<ReadOnlyPerson>, ListListener<Person> {
+
+    private final List<Person> source;
+    /** The shown persons, ordered as by {@link #compareShown}; unused while all persons are shown */
+    private final ArrayList<Person> shown = new ArrayList<>();
+    private final List<ListListener<? super ReadOnlyPerson>> listeners = new ArrayList<>();
+    private Predicate<? super Person> predicate;
+    private Comparator<? super ReadOnlyPerson> comparator;
+    /** The order of all persons shown, or null to show them in the order of the address book */
+    private SortedPersonList sortedSource;
+    private boolean isDescending;
+    /** True while the shown persons are those appended by {@link #append}, rather than found by a scan */
+    private boolean isAppending;
+
+    FilteredPersonList(List<Person> source) {
+        this.source = source;
+    }
+
+    /**
+     * Shows the persons satisfying {@code predicate} in the order of {@code comparator}.
+     *
+     * @param predicate shows all persons if null
+     * @param comparator keeps the order of the address book if null
+     */
+    void update(Predicate<? super Person> predicate, Comparator<? super ReadOnlyPerson> comparator) {
+        this.predicate = predicate;
+        this.comparator = comparator;
+        this.sortedSource = null;
+        this.isAppending = false;
+        refresh();
+    }
+
+    /**
+     * Shows all persons in the order of {@code sortedSource}, or in the reverse order if {@code isDescending}.
+     * The persons are read from {@code sortedSource} as they are needed, so the order is switched in O(1).
+     */
+    void showAll(SortedPersonList sortedSource, boolean isDescending) {
+        this.predicate = null;
+        this.comparator = null;
+        this.sortedSource = sortedSource;
+        this.isDescending = isDescending;
+        this.isAppending = false;
+        refresh();
+    }
+
+    /**
+     * Shows no persons, and then the persons passed to {@link #append}, without scanning the address book.
+     * Persons added to the address book meanwhile are also shown if they satisfy {@code predicate}, which must
+     * hold for every appended person.
+     */
+    void showAppended(Predicate<? super Person> predicate) {
+        assert predicate != null;
+        this.predicate = predicate;
+        this.comparator = null;
+        this.sortedSource = null;
+        this.isAppending = true;
+        shown.clear();
+        for (ListListener<? super ReadOnlyPerson> listener : listeners) {
+            listener.onReplaced();
+        }
+    }
+
+    /**
+     * Also shows {@code persons}, which must be in the order of the address book. They usually follow the persons
+     * shown so far, and are then appended at once; otherwise each is inserted at its place.
+     * Only valid after {@link #showAppended}.
+     */
+    void append(List<? extends Person> persons) {
+        assert isAppending && comparator == null;
+        if (persons.isEmpty()) {
+            return;
+        }
+        if (!shown.isEmpty() && compareShown(persons.get(0), shown.get(shown.size() - 1)) < 0) {
+            persons.forEach(this::insertShown);
+            return;
+        }
+        final int index = shown.size();
+        shown.addAll(persons);
+        for (ListListener<? super ReadOnlyPerson> listener : listeners) {
+            listener.onAddedAll(index, persons);
+        }
+    }
+
+    /**
+     * Orders the shown persons by {@code comparator} without changing which persons are shown.
+     * The shown persons are sorted in place, rather than found again, unless the order is removed.
+     */
+    void setComparator(Comparator<? super ReadOnlyPerson> comparator) {
+        if (comparator == this.comparator) {
+            return;
+        }
+        if (comparator == null || isShowingAll() || sortedSource != null) {
+            update(predicate, comparator);
+            return;
+        }
+        this.comparator = comparator;
+        shown.sort(comparator);
+        for (ListListener<? super ReadOnlyPerson> listener : listeners) {
+            listener.onReplaced();
+        }
+    }
+
+    private boolean isShowingAll() {
+        return predicate == null && comparator == null;
+    }
+
+    private boolean isShown(Person person) {
+        return predicate == null || predicate.test(person);
+    }
+
+    /**
+     * Compares the shown persons by the comparator, and then by slot, which increases along the address book.
+     */
+    private int compareShown(Person person, Person other) {
+        final int byComparator = comparator == null ? 0 : comparator.compare(person, other);
+        return byComparator != 0 ? byComparator : Integer.compare(person.getSlot(), other.getSlot());
+    }
+
+    /**
+     * Returns the index of {@code person} among the shown persons if it is shown, or {@code -(insertion point) - 1}
+     * as {@link java.util.Collections#binarySearch} does. Takes O(log n).
+     */
+    private int searchShown(Person person) {
+        int low = 0;
+        int high = shown.size() - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int comparison = compareShown(shown.get(mid), person);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private void insertShown(Person person) {
+        final int index = -(searchShown(person) + 1);
+        shown.add(index, person);
+        for (ListListener<? super ReadOnlyPerson> listener : listeners) {
+            listener.onAdded(index, person);
+        }
+    }
+
+    private void refresh() {
+        shown.clear();
+        if (isShowingAll()) {
+            shown.trimToSize();
+        } else {
+            for (Person person : source) {
+                if (isShown(person)) {
+                    shown.add(person);
+                }
+            }
+            if (comparator != null) {
+                shown.sort(comparator); // stable, so equal persons stay in the order of the address book
+            }
+        }
+        for (ListListener<? super ReadOnlyPerson> listener : listeners) {
+            listener.onReplaced();
+        }
+    }
+
+    @Override
+    public ReadOnlyPerson get(int index) {
+        if (sortedSource != null) {
+            return sortedSource.get(isDescending ? sortedSource.size() - 1 - index : index);
+        }
+        return isShowingAll() ? source.get(index) : shown.get(index);
+    }
+
+    /**
+     * Iterates over the shown persons in O(n) overall, also while they are read from a sorted view.
+     */
+    @Override
+    public Iterator<ReadOnlyPerson> iterator() {
+        if (sortedSource == null) {
+            return super.iterator();
+        }
+        final Iterator<Person> persons = isDescending ? sortedSource.descendingIterator() : sortedSource.iterator();
+        return new Iterator<ReadOnlyPerson>() {
+            @Override
+            public boolean hasNext() {
+                return persons.hasNext();
+            }
+
+            @Override
+            public ReadOnlyPerson next() {
+                return persons.next();
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return isShowingAll() ? source.size() : shown.size();
+    }
+
+    @Override
+    public void addListener(ListListener<? super ReadOnlyPerson> listener) {
+        assert listener != null;
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(ListListener<? super ReadOnlyPerson> listener) {
+        listeners.remove(listener);
+    }
+
+    //=========== Changes to the address book ==================================================================
+
+    @Override
+    public void onAdded(int sourceIndex, Person person) {
+        if (!isShown(person)) {
+            return;
+        }
+        if (sortedSource == null && !isShowingAll()) {
+            insertShown(person);
+            return;
+        }
+        final int index;
+        if (sortedSource != null) {
+            final int position = sortedSource.positionOf(person);
+            index = isDescending ? size() - 1 - position : position;
+        } else {
+            index = sourceIndex;
+        }
+        for (ListListener<? super ReadOnlyPerson> listener : listeners) {
+            listener.onAdded(index, person);
+        }
+    }
+
+    @Override
+    public void onRemoved(int sourceIndex, Person person) {
+        final int index;
+        if (sortedSource != null) {
+            // the person is no longer in the sorted persons, but its position there is still known
+            final int position = sortedSource.positionOf(person);
+            index = isDescending ? size() - position : position;
+        } else {
+            index = isShowingAll() ? sourceIndex : searchShown(person);
+        }
+        if (index < 0) {
+            return;
+        }
+        if (!isShowingAll()) {
+            shown.remove(index);
+        }
+        for (ListListener<? super ReadOnlyPerson> listener : listeners) {
+            listener.onRemoved(index, person);
+        }
+    }
+
+    /**
+     * Returns the index of {@code person} among the shown persons, or -1 if it is not shown.
+     * The person is found by a binary search in O(log n).
+     */
+    int indexOfShown(ReadOnlyPerson person) {
+        if (!(person instanceof Person) || !isShown((Person) person)) {
+            return -1;
+        }
+        final int index;
+        if (sortedSource != null) {
+            final int position = sortedSource.positionOf((Person) person);
+            index = isDescending ? size() - 1 - position : position;
+        } else if (isShowingAll()) {
+            index = UniquePersonList.indexOfSlot(source, ((Person) person).getSlot());
+        } else {
+            index = searchShown((Person) person);
+        }
+        return (index >= 0 && index < size() && get(index) == person) ? index : -1;
+    }
+
+    @Override
+    public void onReplaced() {
+        refresh();
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.model;
+
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded cache of find results, evicting the least recently used result when full.
+ * Results are keyed by the normalized form of their find query, as given by {@code Expression#toString()},
+ * and hold the slots of the matching persons as a bitset.
+ * Each result is tagged with the generation of the address book it was computed on, and is discarded
+ * when looked up against a later generation.
+ */
+public class FindResultCache {
+
+    /**
+     * A snapshot of the cache usage counters.
+     */
+    public static class Statistics {
+        public final long hits;
+        public final long misses;
+        public final int size;
+        public final int capacity;
+
+        Statistics(long hits, long misses, int size, int capacity) {
+            this.hits = hits;
+            this.misses = misses;
+            this.size = size;
+            this.capacity = capacity;
+        }
+
+        /**
+         * Returns the fraction of lookups that were hits, or 0 if there were no lookups.
+         */
+        public double getHitRate() {
+            final long lookups = hits + misses;
+            return lookups == 0 ? 0 : (double) hits / lookups;
+        }
+    }
+
+    private static class Entry {
+        final long generation;
+        final BitSet matchedSlots;
+
+        Entry(long generation, BitSet matchedSlots) {
+            this.generation = generation;
+            this.matchedSlots = matchedSlots;
+        }
+    }
+
+    private final int capacity;
+    private final LinkedHashMap<String, Entry> entries;
+    private long hits;
+    private long misses;
+
+    public FindResultCache(int capacity) {
+        assert capacity > 0;
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<String, Entry>(capacity * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > FindResultCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the slots of the persons matched by {@code key} in the given generation of the address book,
+     * or null if that result is not cached.
+     */
+    public synchronized BitSet get(String key, long generation) {
+        final Entry entry = entries.get(key);
+        if (entry == null || entry.generation != generation) {
+            if (entry != null) {
+                entries.remove(key);
+            }
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.matchedSlots;
+    }
+
+    /**
+     * Caches the slots of the persons matched by {@code key} in the given generation of the address book.
+     * The bitset must not be modified afterwards.
+     */
+    public synchronized void put(String key, long generation, BitSet matchedSlots) {
+        entries.put(key, new Entry(generation, matchedSlots));
+    }
+
+    public synchronized Statistics getStatistics() {
+        return new Statistics(hits, misses, entries.size(), capacity);
+    }
+}
@@ -1,10 +1,15 @@
 package seedu.address.model;
 
-import seedu.address.commons.core.UnmodifiableObservableList;
+import seedu.address.commons.core.ListenableList;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.person.SortField;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.query.Expression;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -23,13 +28,68 @@ public interface Model {
     /** Adds the given person */
     void addPerson(Person person) throws UniquePersonList.DuplicatePersonException;
 
-    /** Returns the filtered person list as an {@code UnmodifiableObservableList<ReadOnlyPerson>} */
-    UnmodifiableObservableList<ReadOnlyPerson> getFilteredPersonList();
+    /** Returns the filtered person list as an unmodifiable {@code ListenableList<ReadOnlyPerson>} */
+    ListenableList<ReadOnlyPerson> getFilteredPersonList();
+
+    /** Returns the index of {@code person} in the filtered person list, or -1 if the list does not show it */
+    int getFilteredPersonIndex(ReadOnlyPerson person);
+
+    /** Returns up to {@code limit} persons of the filtered person list, from position {@code offset} */
+    List<ReadOnlyPerson> getPersons(int offset, int limit);
+
+    /**
+     * Returns up to {@code limit} persons satisfying the given find query, skipping the first {@code offset} of
+     * them, without changing the filtered person list. Unranked matches are in the order of the address book.
+     * Only the candidates up to the end of the page are evaluated, unless the query ranks its matches.
+     */
+    PersonPage getPersons(Expression query, int offset, int limit);
 
     /** Updates the filter of the filtered person list to show all persons */
     void updateFilteredListToShowAll();
 
+    /** Updates the filtered person list to show all persons, sorted by {@code field} */
+    void updateFilteredListToShowAll(SortField field, boolean isDescending);
+
     /** Updates the filter of the filtered person list to filter by the given keywords*/
     void updateFilteredPersonList(Set<String> keywords);
 
+    /** Updates the filter of the filtered person list to the persons satisfying the given find query */
+    void updateFilteredPersonList(Expression query);
+
+    /**
+     * Updates the filter of the filtered person list to the persons satisfying the given find query, scanning
+     * large address books on a background thread. Matches are shown as they are found, and progress is reported
+     * through {@link seedu.address.commons.events.model.SearchProgressEvent}s. Any search in progress is
+     * cancelled first.
+     */
+    void updateFilteredPersonListInBackground(Expression query);
+
+    /**
+     * Updates the filter of the filtered person list to persons with a name word starting with any of the
+     * given prefixes. When each new prefix extends one of the previous prefixes, only the previous matches are
+     * rescanned.
+     */
+    void updateFilteredPersonListByPrefixes(List<String> prefixes);
+
+    /** Returns up to {@code limit} words of person names starting with {@code prefix}, ignoring case */
+    List<String> completeNameWord(String prefix, int limit);
+
+    /** Returns up to {@code limit} tag names starting with {@code prefix}, ignoring case */
+    List<String> completeTagName(String prefix, int limit);
+
+    /** Returns the hit and miss counts of the cache of find results */
+    FindResultCache.Statistics getFindResultCacheStatistics();
+
+    /** Returns the longest phone of a person that {@code number} starts with, if any */
+    Optional<String> findLongestPhonePrefixOf(String number);
+
+    /** Returns each domain of the persons' emails mapped to the number of persons with an email there */
+    Map<String, Integer> getEmailDomainCounts();
+
+    /** Returns true if a background search has not finished publishing its matches yet */
+    boolean isBackgroundSearchInProgress();
+
+    /** Cancels the background search in progress, if any. Matches found so far stay shown. */
+    void cancelBackgroundSearch();
+
 }
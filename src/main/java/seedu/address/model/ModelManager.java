@@ -1,18 +1,35 @@
 package seedu.address.model;
 
-import javafx.collections.transformation.FilteredList;
+import seedu.address.commons.core.ListenableList;
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.core.UnmodifiableObservableList;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.model.SearchProgressEvent;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.person.SortField;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.person.UniquePersonList.PersonNotFoundException;
-
+import seedu.address.model.query.Expression;
+import seedu.address.model.query.FieldExpression;
+import seedu.address.model.query.OrExpression;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -21,22 +38,37 @@ import java.util.logging.Logger;
 public class ModelManager extends ComponentManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
+    private static final int FIND_RESULT_CACHE_CAPACITY = 32;
+
     private final AddressBook addressBook;
-    private final FilteredList<Person> filteredPersons;
+    /** The filtered persons, ranked by the last find if its matches are ranked */
+    private final FilteredPersonList filteredPersons;
+
+    private final FindResultCache findResultCache = new FindResultCache(FIND_RESULT_CACHE_CAPACITY);
+    /** Incremented on every change to the address book, to tell whether cached find results are still valid */
+    private long generation;
+
+    private final ExecutorService searchExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "background-search");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private Executor searchPublisher;
+    private int backgroundSearchThreshold;
+    private ForkJoinPool parallelSearchPool;
+    private int parallelSearchThreshold;
+    private volatile BackgroundSearch currentSearch;
+    private PrefixFilter lastPrefixFilter;
 
     /**
      * Initializes a ModelManager with the given AddressBook
      * AddressBook and its variables should not be null
      */
     public ModelManager(AddressBook src, UserPrefs userPrefs) {
-        super();
-        assert src != null;
+        this(new AddressBook(src));
         assert userPrefs != null;
 
         logger.fine("Initializing with address book: " + src + " and user prefs " + userPrefs);
-
-        addressBook = new AddressBook(src);
-        filteredPersons = new FilteredList<>(addressBook.getPersons());
     }
 
     public ModelManager() {
@@ -44,12 +76,63 @@ public class ModelManager extends ComponentManager implements Model {
     }
 
     public ModelManager(ReadOnlyAddressBook initialData, UserPrefs userPrefs) {
-        addressBook = new AddressBook(initialData);
-        filteredPersons = new FilteredList<>(addressBook.getPersons());
+        this(new AddressBook(initialData));
+        assert userPrefs != null;
+
+        logger.fine("Initializing with address book: " + initialData + " and user prefs " + userPrefs);
+    }
+
+    /**
+     * Initializes a ModelManager that owns {@code addressBook}.
+     */
+    private ModelManager(AddressBook addressBook) {
+        super();
+        assert addressBook != null;
+
+        this.addressBook = addressBook;
+        filteredPersons = new FilteredPersonList(addressBook.getPersons());
+        addressBook.addPersonListListener(filteredPersons);
+    }
+
+    /**
+     * Returns a ModelManager that takes ownership of {@code loadedData}, such as an address book just read from
+     * storage, without copying its persons. {@code loadedData} must not be used afterwards.
+     *
+     * @see AddressBook#adopt(ReadOnlyAddressBook)
+     */
+    public static ModelManager adopt(ReadOnlyAddressBook loadedData, UserPrefs userPrefs) {
+        assert loadedData != null && userPrefs != null;
+        logger.fine("Initializing with adopted address book: " + loadedData + " and user prefs " + userPrefs);
+        return new ModelManager(AddressBook.adopt(loadedData));
+    }
+
+    /**
+     * Enables {@link #updateFilteredPersonListInBackground(Expression)} to scan at least {@code threshold} candidates
+     * on a worker thread.
+     *
+     * @param publisher runs the given tasks on the thread that owns the filtered person list,
+     *                  e.g. the JavaFX application thread
+     */
+    public void enableBackgroundSearch(Executor publisher, int threshold) {
+        assert publisher != null && threshold > 0;
+        this.searchPublisher = publisher;
+        this.backgroundSearchThreshold = threshold;
+    }
+
+    /**
+     * Enables finds to evaluate their query on lists of at least {@code threshold} persons in parallel.
+     * The matches are collected into a bitset on the given pool, and then applied to the filtered person list
+     * in a single update.
+     */
+    public void enableParallelSearch(ForkJoinPool pool, int threshold) {
+        assert pool != null && threshold > 0;
+        this.parallelSearchPool = pool;
+        this.parallelSearchThreshold = threshold;
     }
 
     @Override
-    public void resetData(ReadOnlyAddressBook newData) {
+    public synchronized void resetData(ReadOnlyAddressBook newData) {
+        cancelBackgroundSearch();
         addressBook.resetData(newData);
         indicateAddressBookChanged();
     }
@@ -61,6 +144,8 @@ public class ModelManager extends ComponentManager implements Model {
 
     /** Raises an event to indicate the model has changed */
     private void indicateAddressBookChanged() {
+        generation++;
+        lastPrefixFilter = null;
         raise(new AddressBookChangedEvent(addressBook));
     }
 
@@ -73,80 +158,409 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public synchronized void addPerson(Person person) throws UniquePersonList.DuplicatePersonException {
         addressBook.addPerson(person);
-        updateFilteredListToShowAll();
         indicateAddressBookChanged();
     }
 
     //=========== Filtered Person List Accessors ===============================================================
 
     @Override
-    public UnmodifiableObservableList<ReadOnlyPerson> getFilteredPersonList() {
-        return new UnmodifiableObservableList<>(filteredPersons);
+    public ListenableList<ReadOnlyPerson> getFilteredPersonList() {
+        return filteredPersons;
     }
 
     @Override
-    public void updateFilteredListToShowAll() {
-        filteredPersons.setPredicate(null);
+    public synchronized int getFilteredPersonIndex(ReadOnlyPerson person) {
+        return filteredPersons.indexOfShown(person);
     }
 
     @Override
-    public void updateFilteredPersonList(Set<String> keywords){
-        updateFilteredPersonList(new PredicateExpression(new NameQualifier(keywords)));
+    public synchronized List<ReadOnlyPerson> getPersons(int offset, int limit) {
+        assert offset >= 0 && limit >= 0;
+        final int end = (int) Math.min(filteredPersons.size(), (long) offset + limit);
+        final List<ReadOnlyPerson> page = new ArrayList<>(Math.max(0, end - offset));
+        for (int i = offset; i < end; i++) {
+            page.add(filteredPersons.get(i));
+        }
+        return page;
     }
 
-    private void updateFilteredPersonList(Expression expression) {
-        filteredPersons.setPredicate(expression::satisfies);
+    /**
+     * Scans the persons in order, skipping those the indexes or a cached result rule out, and stops after the
+     * first match past the page. When the scan stops early, the match count is extrapolated from the share of the
+     * candidates scanned. A completed scan is added to {@link #findResultCache}.
+     */
+    @Override
+    public synchronized PersonPage getPersons(Expression query, int offset, int limit) {
+        assert offset >= 0 && limit >= 0;
+        final String key = query.toString();
+        final Expression expression = query.optimize(addressBook);
+        final BitSet cachedSlots = findResultCache.get(key, generation);
+        final BitSet candidateSlots = cachedSlots != null ? cachedSlots : expression.findCandidates(addressBook);
+        final long wanted = expression.isRanked() ? Long.MAX_VALUE : (long) offset + limit + 1;
+
+        final List<Person> persons = addressBook.getPersons();
+        final List<ReadOnlyPerson> matches = new ArrayList<>();
+        final BitSet matchedSlots = new BitSet();
+        int scannedCandidates = 0;
+        int position = 0;
+        for (; position < persons.size() && matches.size() < wanted; position++) {
+            final Person person = persons.get(position);
+            if (candidateSlots != null && !candidateSlots.get(person.getSlot())) {
+                continue;
+            }
+            scannedCandidates++;
+            if (cachedSlots != null || expression.satisfies(person)) {
+                matches.add(person);
+                matchedSlots.set(person.getSlot());
+            }
+        }
+        final boolean isComplete = position == persons.size();
+        if (isComplete && cachedSlots == null) {
+            findResultCache.put(key, generation, matchedSlots);
+        }
+        if (expression.isRanked()) {
+            matches.sort(getRanking(expression));
+        }
+
+        final int matchCount;
+        if (isComplete || cachedSlots != null) {
+            matchCount = cachedSlots != null ? cachedSlots.cardinality() : matches.size();
+        } else {
+            final int candidateCount = candidateSlots == null ? persons.size() : candidateSlots.cardinality();
+            matchCount = (int) Math.min(candidateCount,
+                    Math.round((double) matches.size() * candidateCount / scannedCandidates));
+        }
+        final int from = Math.min(offset, matches.size());
+        final int to = (int) Math.min(matches.size(), (long) from + limit);
+        return new PersonPage(new ArrayList<>(matches.subList(from, to)), offset, matchCount,
+                isComplete || cachedSlots != null, matches.size() > to);
+    }
+
+    @Override
+    public synchronized void updateFilteredListToShowAll() {
+        cancelBackgroundSearch();
+        lastPrefixFilter = null;
+        filteredPersons.update(null, null);
     }
 
-    //========== Inner classes/interfaces used for filtering ==================================================
+    @Override
+    public synchronized void updateFilteredListToShowAll(SortField field, boolean isDescending) {
+        cancelBackgroundSearch();
+        lastPrefixFilter = null;
+        filteredPersons.showAll(addressBook.getPersonsSortedBy(field), isDescending);
+    }
 
-    interface Expression {
-        boolean satisfies(ReadOnlyPerson person);
-        String toString();
+    @Override
+    public synchronized void updateFilteredPersonList(Set<String> keywords){
+        findPersons(new OrExpression(keywords.stream()
+                .map(keyword -> new FieldExpression(FieldExpression.Field.NAME, keyword))
+                .collect(Collectors.toList())), false);
     }
 
-    private class PredicateExpression implements Expression {
+    @Override
+    public synchronized void updateFilteredPersonList(Expression query) {
+        findPersons(query, false);
+    }
 
-        private final Qualifier qualifier;
+    @Override
+    public synchronized void updateFilteredPersonListInBackground(Expression query) {
+        findPersons(query, searchPublisher != null);
+    }
 
-        PredicateExpression(Qualifier qualifier) {
-            this.qualifier = qualifier;
+    /**
+     * Filters the person list by the given query, reusing the cached result for it if it is still valid.
+     * The query is evaluated in its cheapest order, and only on the persons its index lookups leave as candidates.
+     * Any search in progress is cancelled first.
+     *
+     * @param canSearchInBackground true if the candidates may be scanned on the search thread when there are many
+     */
+    private void findPersons(Expression query, boolean canSearchInBackground) {
+        cancelBackgroundSearch();
+        lastPrefixFilter = null;
+        final String key = query.toString();
+        final Expression expression = query.optimize(addressBook);
+        logger.fine("Finding persons by " + expression);
+        final BitSet cachedSlots = findResultCache.get(key, generation);
+        if (cachedSlots != null) {
+            showMatchedSlots(cachedSlots, addressBook.getSlotCount(), expression);
+            return;
         }
+        final List<Person> candidates = findCandidates(expression);
+        if (canSearchInBackground && candidates.size() >= backgroundSearchThreshold) {
+            // unranked while the search runs, so that each batch of matches is appended without a rescan
+            filteredPersons.showAppended(expression::satisfies);
+            currentSearch = new BackgroundSearch(key, generation, expression, new ArrayList<>(candidates));
+            searchExecutor.execute(currentSearch);
+        } else {
+            final BitSet matchedSlots = findMatchedSlots(candidates, expression);
+            findResultCache.put(key, generation, matchedSlots);
+            showMatchedSlots(matchedSlots, addressBook.getSlotCount(), expression);
+        }
+    }
 
-        @Override
-        public boolean satisfies(ReadOnlyPerson person) {
-            return qualifier.run(person);
+    /**
+     * Returns the persons that may satisfy {@code expression}, as found through the indexes of the address book.
+     */
+    private List<Person> findCandidates(Expression expression) {
+        final BitSet candidateSlots = expression.findCandidates(addressBook);
+        if (candidateSlots == null) {
+            return addressBook.getPersons();
         }
+        return addressBook.getPersonsInSlots(candidateSlots);
+    }
 
-        @Override
-        public String toString() {
-            return qualifier.toString();
+    /**
+     * Returns the slots of the persons satisfying {@code expression}.
+     */
+    private BitSet findMatchedSlots(List<Person> persons, Expression expression) {
+        final BitSet matchedPositions = findMatchedPositions(persons, expression);
+        final BitSet matchedSlots = new BitSet();
+        for (int i = matchedPositions.nextSetBit(0); i >= 0; i = matchedPositions.nextSetBit(i + 1)) {
+            matchedSlots.set(persons.get(i).getSlot());
         }
+        return matchedSlots;
     }
 
-    interface Qualifier {
-        boolean run(ReadOnlyPerson person);
-        String toString();
+    /**
+     * Returns the positions in {@code persons} of the persons satisfying {@code expression}.
+     * Long lists are split across {@link #parallelSearchPool} if it is enabled.
+     */
+    private BitSet findMatchedPositions(List<Person> persons, Expression expression) {
+        if (parallelSearchPool != null && persons.size() >= parallelSearchThreshold) {
+            return parallelSearchPool.invoke(new ParallelMatchTask(persons, expression));
+        }
+        return ParallelMatchTask.scan(persons, expression, 0, persons.size());
     }
 
-    private class NameQualifier implements Qualifier {
-        private Set<String> nameKeyWords;
+    /**
+     * Shows the persons whose slots are in {@code matchedSlots}.
+     * Persons with slots of at least {@code slotBoundary} were added after the slots were collected,
+     * and are filtered by evaluating the expression directly, as are all persons once the slots are renumbered.
+     */
+    private void showMatchedSlots(BitSet matchedSlots, int slotBoundary, Expression expression) {
+        final int slotNumbering = addressBook.getSlotNumbering();
+        filteredPersons.update(person -> person.getSlot() >= slotBoundary
+                        || addressBook.getSlotNumbering() != slotNumbering
+                ? expression.satisfies(person)
+                : matchedSlots.get(person.getSlot()),
+                getRanking(expression));
+    }
+
+    /**
+     * Returns the order of the persons by their rank in {@code expression}, or null if it does not rank its matches.
+     */
+    private static Comparator<ReadOnlyPerson> getRanking(Expression expression) {
+        return expression.isRanked() ? Comparator.comparingDouble(expression::getRank) : null;
+    }
+
+    @Override
+    public synchronized List<String> completeNameWord(String prefix, int limit) {
+        return addressBook.completeNameWord(prefix, limit);
+    }
+
+    @Override
+    public synchronized List<String> completeTagName(String prefix, int limit) {
+        return addressBook.completeTagName(prefix, limit);
+    }
+
+    @Override
+    public FindResultCache.Statistics getFindResultCacheStatistics() {
+        return findResultCache.getStatistics();
+    }
+
+    @Override
+    public synchronized Optional<String> findLongestPhonePrefixOf(String number) {
+        return addressBook.findLongestPhonePrefixOf(number);
+    }
+
+    @Override
+    public synchronized Map<String, Integer> getEmailDomainCounts() {
+        return addressBook.getEmailDomainCounts();
+    }
 
-        NameQualifier(Set<String> nameKeyWords) {
-            this.nameKeyWords = nameKeyWords;
+    @Override
+    public synchronized void updateFilteredPersonListByPrefixes(List<String> prefixes) {
+        cancelBackgroundSearch();
+        if (prefixes.isEmpty()) {
+            lastPrefixFilter = null;
+            filteredPersons.update(null, null);
+            return;
         }
+        final PrefixFilter filter = new PrefixFilter(prefixes);
+        final List<Person> candidates = filter.refines(lastPrefixFilter)
+                ? lastPrefixFilter.matches
+                : addressBook.getPersons();
+        filter.scan(candidates);
+        lastPrefixFilter = filter;
+        filteredPersons.update(filter::isMatch, null);
+    }
 
-        @Override
-        public boolean run(ReadOnlyPerson person) {
-            return nameKeyWords.stream()
-                    .filter(keyword -> StringUtil.containsIgnoreCase(person.getName().fullName, keyword))
-                    .findAny()
-                    .isPresent();
+    @Override
+    public boolean isBackgroundSearchInProgress() {
+        return currentSearch != null;
+    }
+
+    @Override
+    public synchronized void cancelBackgroundSearch() {
+        final BackgroundSearch search = currentSearch;
+        if (search == null) {
+            return;
+        }
+        search.cancel();
+        currentSearch = null;
+        raise(new SearchProgressEvent(SearchProgressEvent.Status.CANCELLED, search.scanned, search.snapshot.size(),
+                filteredPersons.size()));
+    }
+
+    /**
+     * The matches of a filter by name word prefixes, kept so that a filter typed after it can rescan only them.
+     * Must be dropped whenever the address book changes.
+     */
+    private class PrefixFilter {
+
+        private final List<String> prefixes;
+        private final List<Person> matches = new ArrayList<>();
+        private final Set<Person> matchSet = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        PrefixFilter(List<String> prefixes) {
+            this.prefixes = prefixes;
+        }
+
+        /**
+         * Returns true if every person matched by this filter is also matched by {@code previous}, as each of its
+         * prefixes extends one of the previous prefixes.
+         */
+        boolean refines(PrefixFilter previous) {
+            return previous != null && prefixes.stream()
+                    .allMatch(newPrefix -> previous.prefixes.stream().anyMatch(
+                        oldPrefix -> newPrefix.regionMatches(true, 0, oldPrefix, 0, oldPrefix.length())));
+        }
+
+        void scan(List<Person> candidates) {
+            for (Person person : candidates) {
+                if (hasNameWordWithPrefix(person)) {
+                    matches.add(person);
+                    matchSet.add(person);
+                }
+            }
+        }
+
+        private boolean hasNameWordWithPrefix(ReadOnlyPerson person) {
+            // a plain loop, as this runs against every candidate on each keystroke
+            final String fullName = person.getName().fullName();
+            for (String prefix : prefixes) {
+                if (StringUtil.containsWordStartingWithIgnoreCase(fullName, prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        boolean isMatch(ReadOnlyPerson person) {
+            return matchSet.contains(person);
+        }
+    }
+
+    //========== Background search ============================================================================
+
+    /**
+     * Scans a snapshot of the person list on the search thread and publishes the matches found since the last
+     * publish to {@link #filteredPersons} through {@link #searchPublisher}, which appends them to the persons shown.
+     * Persons added after the snapshot was taken are filtered by {@link #filteredPersons} as they are added.
+     * A completed search is added to {@link #findResultCache}.
+     */
+    private class BackgroundSearch implements Runnable {
+
+        /** Number of persons scanned between checks for cancellation and publishing, unless scanned in parallel */
+        private static final int CHECK_INTERVAL = 1024;
+        private static final long PUBLISH_INTERVAL_NANOS = 100_000_000L;
+
+        private final String key;
+        private final long snapshotGeneration;
+        private final Expression expression;
+        private final List<Person> snapshot;
+        /** Matches found since the last publish, in the order of the snapshot */
+        private List<Person> unpublishedMatches = new ArrayList<>();
+        /** Slots of the matches published so far; only used on the publishing thread */
+        private final BitSet publishedMatchedSlots = new BitSet();
+
+        private volatile boolean isCancelled;
+        private volatile int scanned;
+
+        BackgroundSearch(String key, long snapshotGeneration, Expression expression, List<Person> snapshot) {
+            this.key = key;
+            this.snapshotGeneration = snapshotGeneration;
+            this.expression = expression;
+            this.snapshot = snapshot;
+        }
+
+        void cancel() {
+            isCancelled = true;
         }
 
         @Override
-        public String toString() {
-            return "name=" + String.join(", ", nameKeyWords);
+        public void run() {
+            // with parallel search, scan chunks large enough for the pool to split
+            final int chunkSize = parallelSearchPool == null
+                    ? CHECK_INTERVAL
+                    : Math.max(CHECK_INTERVAL, parallelSearchThreshold);
+            long lastPublished = System.nanoTime();
+            for (int from = 0; from < snapshot.size(); from += chunkSize) {
+                if (isCancelled) {
+                    return;
+                }
+                scanned = from;
+                if (System.nanoTime() - lastPublished > PUBLISH_INTERVAL_NANOS) {
+                    publish(SearchProgressEvent.Status.IN_PROGRESS);
+                    lastPublished = System.nanoTime();
+                }
+                scanChunk(from, Math.min(from + chunkSize, snapshot.size()));
+            }
+            scanned = snapshot.size();
+            publish(SearchProgressEvent.Status.FINISHED);
+        }
+
+        private void scanChunk(int from, int to) {
+            final List<Person> chunk = snapshot.subList(from, to);
+            final BitSet matchedPositions = findMatchedPositions(chunk, expression);
+            for (int i = matchedPositions.nextSetBit(0); i >= 0; i = matchedPositions.nextSetBit(i + 1)) {
+                unpublishedMatches.add(chunk.get(i));
+            }
+        }
+
+        /**
+         * Appends the matches found since the last publish to the persons shown, unless this search has been
+         * cancelled or superseded by then. Matches removed from the address book meanwhile are left out.
+         * The slots of the matches are only read here, on the publishing thread, while holding the model's lock.
+         */
+        private void publish(SearchProgressEvent.Status status) {
+            final int scannedSoFar = scanned;
+            final List<Person> newMatches = unpublishedMatches;
+            unpublishedMatches = new ArrayList<>();
+            searchPublisher.execute(() -> {
+                synchronized (ModelManager.this) {
+                    if (currentSearch != this) {
+                        return;
+                    }
+                    if (status == SearchProgressEvent.Status.FINISHED) {
+                        currentSearch = null;
+                    }
+                    if (generation != snapshotGeneration) {
+                        newMatches.removeIf(person ->
+                                addressBook.getPersonById(person.getId()).orElse(null) != person);
+                    } else {
+                        newMatches.forEach(person -> publishedMatchedSlots.set(person.getSlot()));
+                    }
+                    filteredPersons.append(newMatches);
+                    if (status == SearchProgressEvent.Status.FINISHED) {
+                        if (generation == snapshotGeneration) {
+                            findResultCache.put(key, snapshotGeneration, publishedMatchedSlots);
+                        }
+                        filteredPersons.setComparator(getRanking(expression));
+                    }
+                    raise(new SearchProgressEvent(status, scannedSoFar, snapshot.size(), filteredPersons.size()));
+                }
+            });
         }
     }
 
@@ -0,0 +1,65 @@
+package seedu.address.model;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.query.Expression;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Evaluates an expression on a range of a person list in parallel, splitting the range until it is small enough
+ * to scan on one thread. Results in the positions in the list of the persons satisfying the expression, so that
+ * the persons are only read through the expression and may be scanned on any thread.
+ * The person list must not be modified while the task runs.
+ */
+class ParallelMatchTask extends RecursiveTask<BitSet> {
+
+    /** Ranges of at most this many persons are scanned without splitting further */
+    static final int SEQUENTIAL_SCAN_SIZE = 4096;
+
+    private final List<Person> persons;
+    private final Expression expression;
+    private final int from;
+    private final int to;
+
+    ParallelMatchTask(List<Person> persons, Expression expression) {
+        this(persons, expression, 0, persons.size());
+    }
+
+    private ParallelMatchTask(List<Person> persons, Expression expression, int from, int to) {
+        this.persons = persons;
+        this.expression = expression;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected BitSet compute() {
+        if (to - from <= SEQUENTIAL_SCAN_SIZE) {
+            return scan(persons, expression, from, to);
+        }
+        final int middle = (from + to) >>> 1;
+        final ParallelMatchTask left = new ParallelMatchTask(persons, expression, from, middle);
+        final ParallelMatchTask right = new ParallelMatchTask(persons, expression, middle, to);
+        left.fork();
+        final BitSet rightMatches = right.compute();
+        final BitSet leftMatches = left.join();
+        leftMatches.or(rightMatches);
+        return leftMatches;
+    }
+
+    /**
+     * Returns the positions in {@code persons} of the persons in the given range satisfying {@code expression},
+     * scanned on the calling thread.
+     */
+    static BitSet scan(List<Person> persons, Expression expression, int from, int to) {
+        final BitSet matchedPositions = new BitSet();
+        for (int i = from; i < to; i++) {
+            if (expression.satisfies(persons.get(i))) {
+                matchedPositions.set(i);
+            }
+        }
+        return matchedPositions;
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.address.model;
+
+import seedu.address.model.person.ReadOnlyPerson;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A window of the persons satisfying a find query, with the number of persons satisfying it in total.
+ * The number is exact if the query was evaluated on every candidate found through the indexes, and otherwise
+ * estimated from the matches among the candidates scanned to fill the window.
+ */
+public class PersonPage {
+    public final List<ReadOnlyPerson> persons;
+    /** Number of matches before the first person of this page */
+    public final int offset;
+    public final int matchCount;
+    public final boolean isMatchCountExact;
+    /** True if more persons satisfy the query after this page */
+    public final boolean hasMore;
+
+    PersonPage(List<ReadOnlyPerson> persons, int offset, int matchCount, boolean isMatchCountExact,
+               boolean hasMore) {
+        this.persons = Collections.unmodifiableList(persons);
+        this.offset = offset;
+        this.matchCount = matchCount;
+        this.isMatchCountExact = isMatchCountExact;
+        this.hasMore = hasMore;
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.address.model;
+
+import seedu.address.commons.core.ListListener;
+import seedu.address.model.index.SortedKeyList;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.SortField;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * An unmodifiable view of the persons in an address book in the order of their sort keys by a field, and then of
+ * their ids. The sort keys are computed once for each person, and the order is built when the view is first read.
+ * From then on, it is updated in O(log n) as persons are added and removed, by listening to the person list.
+ */
+public class SortedPersonList extends AbstractList<Person> implements ListListener<Person> {
+
+    private final SortField field;
+    private final List<Person> source;
+    private final SortedKeyList<Person> sorted = new SortedKeyList<>();
+    /** False until the order is first read, and again after the person list was replaced */
+    private boolean isBuilt;
+
+    SortedPersonList(SortField field, List<Person> source) {
+        this.field = field;
+        this.source = source;
+    }
+
+    @Override
+    public Person get(int index) {
+        ensureBuilt();
+        return sorted.get(index);
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    @Override
+    public Iterator<Person> iterator() {
+        ensureBuilt();
+        return sorted.iterator();
+    }
+
+    public Iterator<Person> descendingIterator() {
+        ensureBuilt();
+        return sorted.descendingIterator();
+    }
+
+    /**
+     * Returns the position of {@code person} in this list, or if it was just removed, the position it had.
+     */
+    public int positionOf(Person person) {
+        ensureBuilt();
+        return sorted.rank(field.getKey(person), person.getId());
+    }
+
+    private void ensureBuilt() {
+        if (isBuilt) {
+            return;
+        }
+        final int size = source.size();
+        final Integer[] order = new Integer[size];
+        final byte[][] keys = new byte[size][];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+            keys[i] = field.getKey(source.get(i));
+        }
+        Arrays.sort(order, Comparator.<Integer, byte[]>comparing(i -> keys[i], SortedKeyList::compareKeys)
+                .thenComparingLong(i -> source.get(i).getId()));
+        final byte[][] sortedKeys = new byte[size][];
+        final long[] sortedIds = new long[size];
+        final Person[] sortedPersons = new Person[size];
+        for (int i = 0; i < size; i++) {
+            sortedPersons[i] = source.get(order[i]);
+            sortedKeys[i] = keys[order[i]];
+            sortedIds[i] = sortedPersons[i].getId();
+        }
+        sorted.setAll(sortedKeys, sortedIds, sortedPersons);
+        isBuilt = true;
+    }
+
+    @Override
+    public void onAdded(int index, Person person) {
+        if (isBuilt) {
+            sorted.add(field.getKey(person), person.getId(), person);
+        }
+    }
+
+    @Override
+    public void onRemoved(int index, Person person) {
+        if (isBuilt) {
+            sorted.remove(field.getKey(person), person.getId());
+        }
+    }
+
+    @Override
+    public void onReplaced() {
+        isBuilt = false;
+        sorted.clear();
+    }
+}
@@ -0,0 +1,152 @@
+package seedu.address.model.index;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A BK-tree over words, finding the words within an edit distance of a given word without computing the
+ * distance to every word. Each child of a node holds the words at a given distance from the word of the node,
+ * so by the triangle inequality a search only descends into the children whose distance is close to its own.
+ * Words are counted as they are added and removed. Removed words stay in the tree as tombstones until they
+ * outnumber the live words, when the tree is rebuilt.
+ */
+public class BkTree {
+
+    /** The tree is not rebuilt while it has fewer tombstones than this */
+    private static final int MIN_TOMBSTONES_TO_REBUILD = 1024;
+
+    private static class Node {
+        private final String word;
+        private int count;
+        /** Children indexed by their distance from this node; null entries for distances without a child */
+        private Node[] children;
+
+        Node(String word) {
+            this.word = word;
+        }
+
+        Node getChild(int distance) {
+            return children != null && distance < children.length ? children[distance] : null;
+        }
+
+        void setChild(int distance, Node child) {
+            if (children == null || distance >= children.length) {
+                children = children == null
+                        ? new Node[distance + 1]
+                        : Arrays.copyOf(children, Math.max(distance + 1, children.length * 2));
+            }
+            children[distance] = child;
+        }
+    }
+
+    private Node root;
+    private final Map<String, Node> nodesByWord = new HashMap<>();
+    private int tombstones;
+
+    /**
+     * Adds one occurrence of the given word.
+     */
+    public void add(String word) {
+        assert word != null && !word.isEmpty();
+        final Node existing = nodesByWord.get(word);
+        if (existing != null) {
+            if (existing.count == 0) {
+                tombstones--;
+            }
+            existing.count++;
+            return;
+        }
+        final Node added = new Node(word);
+        added.count = 1;
+        nodesByWord.put(word, added);
+        insert(added);
+    }
+
+    private void insert(Node added) {
+        if (root == null) {
+            root = added;
+            return;
+        }
+        Node node = root;
+        while (true) {
+            final int distance = EditDistance.between(added.word, node.word);
+            final Node child = node.getChild(distance);
+            if (child == null) {
+                node.setChild(distance, added);
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Removes one occurrence of the given word, if it has been added.
+     */
+    public void remove(String word) {
+        final Node node = nodesByWord.get(word);
+        if (node == null || node.count == 0) {
+            return;
+        }
+        node.count--;
+        if (node.count == 0) {
+            tombstones++;
+            if (tombstones >= MIN_TOMBSTONES_TO_REBUILD && tombstones > nodesByWord.size() - tombstones) {
+                rebuild();
+            }
+        }
+    }
+
+    private void rebuild() {
+        final List<Node> live = new ArrayList<>(nodesByWord.size() - tombstones);
+        for (Node node : nodesByWord.values()) {
+            if (node.count > 0) {
+                final Node copy = new Node(node.word);
+                copy.count = node.count;
+                live.add(copy);
+            }
+        }
+        clear();
+        for (Node node : live) {
+            nodesByWord.put(node.word, node);
+            insert(node);
+        }
+    }
+
+    /**
+     * Returns the words within {@code maxDistance} edits of {@code word}, mapped to their distance from it.
+     */
+    public Map<String, Integer> search(String word, int maxDistance) {
+        final Map<String, Integer> found = new HashMap<>();
+        if (root == null) {
+            return found;
+        }
+        final Deque<Node> toVisit = new ArrayDeque<>();
+        toVisit.push(root);
+        while (!toVisit.isEmpty()) {
+            final Node node = toVisit.pop();
+            final int distance = EditDistance.between(word, node.word);
+            if (distance <= maxDistance && node.count > 0) {
+                found.put(node.word, distance);
+            }
+            final int highest = distance + maxDistance;
+            for (int childDistance = Math.max(1, distance - maxDistance); childDistance <= highest; childDistance++) {
+                final Node child = node.getChild(childDistance);
+                if (child != null) {
+                    toVisit.push(child);
+                }
+            }
+        }
+        return found;
+    }
+
+    public void clear() {
+        root = null;
+        nodesByWord.clear();
+        tombstones = 0;
+    }
+}
@@ -0,0 +1,143 @@
+package seedu.address.model.index;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+
+/**
+ * A trie of digit strings, such as phone numbers, each holding the ids added under it.
+ * Finding the ids under a prefix walks to the node of the prefix and collects its subtree, and finding the
+ * longest string added that is a prefix of a number walks the digits of the number once.
+ */
+public class DigitTrie {
+
+    private static final int RADIX = 10;
+    private static final int[] NO_IDS = new int[0];
+
+    private static class Node {
+        /** Children by digit, allocated on the first child */
+        private Node[] children;
+        private int childCount;
+        /** Ids added under the string ending at this node, in the order they were added */
+        private int[] ids = NO_IDS;
+
+        Node getChild(int digit) {
+            return children == null ? null : children[digit];
+        }
+
+        boolean isEmpty() {
+            return childCount == 0 && ids.length == 0;
+        }
+    }
+
+    private final Node root = new Node();
+
+    /**
+     * Adds {@code id} under {@code digits}, which must contain only the digits 0 to 9.
+     */
+    public void add(String digits, int id) {
+        Node node = root;
+        for (int i = 0; i < digits.length(); i++) {
+            final int digit = toDigit(digits.charAt(i));
+            assert digit >= 0 : "Not a digit string: " + digits;
+            if (node.children == null) {
+                node.children = new Node[RADIX];
+            }
+            if (node.children[digit] == null) {
+                node.children[digit] = new Node();
+                node.childCount++;
+            }
+            node = node.children[digit];
+        }
+        node.ids = Arrays.copyOf(node.ids, node.ids.length + 1);
+        node.ids[node.ids.length - 1] = id;
+    }
+
+    /**
+     * Removes {@code id} from under {@code digits}, and the nodes left empty by that.
+     */
+    public void remove(String digits, int id) {
+        final Node[] path = new Node[digits.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < digits.length(); i++) {
+            final int digit = toDigit(digits.charAt(i));
+            path[i + 1] = digit < 0 ? null : path[i].getChild(digit);
+            if (path[i + 1] == null) {
+                return;
+            }
+        }
+        final Node node = path[digits.length()];
+        for (int i = 0; i < node.ids.length; i++) {
+            if (node.ids[i] == id) {
+                final int[] remaining = new int[node.ids.length - 1];
+                System.arraycopy(node.ids, 0, remaining, 0, i);
+                System.arraycopy(node.ids, i + 1, remaining, i, remaining.length - i);
+                node.ids = remaining.length == 0 ? NO_IDS : remaining;
+                break;
+            }
+        }
+        for (int i = digits.length(); i > 0 && path[i].isEmpty(); i--) {
+            path[i - 1].children[toDigit(digits.charAt(i - 1))] = null;
+            path[i - 1].childCount--;
+        }
+    }
+
+    /**
+     * Returns the ids under the strings starting with {@code prefix}.
+     */
+    public BitSet findIdsWithPrefix(String prefix) {
+        final BitSet ids = new BitSet();
+        final Node start = find(prefix);
+        if (start == null) {
+            return ids;
+        }
+        final Deque<Node> toVisit = new ArrayDeque<>();
+        toVisit.push(start);
+        while (!toVisit.isEmpty()) {
+            final Node node = toVisit.pop();
+            for (int id : node.ids) {
+                ids.set(id);
+            }
+            for (int digit = 0; node.childCount > 0 && digit < RADIX; digit++) {
+                if (node.children[digit] != null) {
+                    toVisit.push(node.children[digit]);
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the longest string with ids under it that {@code number} starts with, or null if there is none.
+     * Characters of {@code number} other than digits end the search.
+     */
+    public String findLongestPrefixOf(String number) {
+        Node node = root;
+        int longest = root.ids.length > 0 ? 0 : -1;
+        for (int i = 0; i < number.length(); i++) {
+            final int digit = toDigit(number.charAt(i));
+            node = digit < 0 ? null : node.getChild(digit);
+            if (node == null) {
+                break;
+            }
+            if (node.ids.length > 0) {
+                longest = i + 1;
+            }
+        }
+        return longest < 0 ? null : number.substring(0, longest);
+    }
+
+    private Node find(String digits) {
+        Node node = root;
+        for (int i = 0; i < digits.length() && node != null; i++) {
+            final int digit = toDigit(digits.charAt(i));
+            node = digit < 0 ? null : node.getChild(digit);
+        }
+        return node;
+    }
+
+    private static int toDigit(char c) {
+        return c >= '0' && c <= '9' ? c - '0' : -1;
+    }
+}
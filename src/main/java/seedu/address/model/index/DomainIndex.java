@@ -0,0 +1,97 @@
+package seedu.address.model.index;
+
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An index from domain names to the ids holding them, with a count of the ids of each domain.
+ * Domains are kept sorted by their labels in reverse, as in "com.example.sales", so that a domain and its
+ * subdomains are next to each other and are found with one range lookup.
+ */
+public class DomainIndex {
+
+    private static final String LABEL_SEPARATOR = ".";
+    /** The character right after the label separator, bounding the reversed subdomains of a domain */
+    private static final String AFTER_LABEL_SEPARATOR = "/";
+
+    /**
+     * The ids holding a domain.
+     */
+    private static class Entry {
+        private final BitSet ids = new BitSet();
+        private int count;
+    }
+
+    private final TreeMap<String, Entry> entriesByReversedDomain = new TreeMap<>();
+
+    public void add(String domain, int id) {
+        final Entry entry = entriesByReversedDomain.computeIfAbsent(reverse(domain), reversed -> new Entry());
+        entry.count++;
+        entry.ids.set(id);
+    }
+
+    /**
+     * Removes {@code id} from {@code domain}, which it must have been added to.
+     */
+    public void remove(String domain, int id) {
+        final String reversed = reverse(domain);
+        final Entry entry = entriesByReversedDomain.get(reversed);
+        if (entry == null) {
+            return;
+        }
+        entry.ids.clear(id);
+        if (--entry.count == 0) {
+            entriesByReversedDomain.remove(reversed);
+        }
+    }
+
+    /**
+     * Returns the ids holding {@code domain} or one of its subdomains.
+     */
+    public BitSet findIds(String domain) {
+        final String reversed = reverse(domain);
+        final BitSet ids = new BitSet();
+        final Entry exact = entriesByReversedDomain.get(reversed);
+        if (exact != null) {
+            ids.or(exact.ids);
+        }
+        for (Entry subdomain : entriesByReversedDomain.subMap(reversed + LABEL_SEPARATOR,
+                reversed + AFTER_LABEL_SEPARATOR).values()) {
+            ids.or(subdomain.ids);
+        }
+        return ids;
+    }
+
+    /**
+     * Returns each domain mapped to the number of ids holding it, with subdomains right after their parents.
+     */
+    public Map<String, Integer> getCounts() {
+        final Map<String, Integer> counts = new LinkedHashMap<>();
+        for (Map.Entry<String, Entry> entry : entriesByReversedDomain.entrySet()) {
+            counts.put(reverse(entry.getKey()), entry.getValue().count);
+        }
+        return counts;
+    }
+
+    public void clear() {
+        entriesByReversedDomain.clear();
+    }
+
+    /**
+     * Returns {@code domain} with its labels in reverse order, e.g. "com.example.sales" for "sales.example.com".
+     * Reversing twice gives back the domain.
+     */
+    static String reverse(String domain) {
+        final String[] labels = domain.split("\\.", -1);
+        final StringBuilder reversed = new StringBuilder(domain.length());
+        for (int i = labels.length - 1; i >= 0; i--) {
+            reversed.append(labels[i]);
+            if (i > 0) {
+                reversed.append(LABEL_SEPARATOR);
+            }
+        }
+        return reversed.toString();
+    }
+}
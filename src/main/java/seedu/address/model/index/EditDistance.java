@@ -0,0 +1,33 @@
+package seedu.address.model.index;
+
+/**
+ * Computes Levenshtein distances between words.
+ */
+public class EditDistance {
+
+    private EditDistance() {}
+
+    /**
+     * Returns the minimum number of single character insertions, deletions and substitutions turning
+     * {@code first} into {@code second}.
+     */
+    public static int between(String first, String second) {
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            final char c = first.charAt(i - 1);
+            for (int j = 1; j <= second.length(); j++) {
+                final int substitution = previous[j - 1] + (c == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            final int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+}
@@ -0,0 +1,176 @@
+package seedu.address.model.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * An index from the terms of documents to the ids of the documents holding them, with the number of times they
+ * hold each term. Documents are scored against a list of terms with BM25, and only the best scored are kept.
+ * Terms are the lower case runs of letters and digits in the text of a document.
+ */
+public class InvertedIndex {
+
+    /** How quickly the score of a document saturates as it holds a term more often */
+    private static final double K1 = 1.2;
+    /** How much the score of a document is normalized by its length */
+    private static final double B = 0.75;
+
+    /**
+     * The ids of the documents holding a term, sorted by id, each with the number of times it holds the term.
+     */
+    private static class PostingList {
+        private long[] ids = new long[2];
+        private int[] frequencies = new int[2];
+        private int size;
+
+        void add(long id, int frequency) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                frequencies[index] += frequency;
+                return;
+            }
+            index = -index - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            System.arraycopy(ids, index, ids, index + 1, size - index);
+            System.arraycopy(frequencies, index, frequencies, index + 1, size - index);
+            ids[index] = id;
+            frequencies[index] = frequency;
+            size++;
+        }
+
+        void remove(long id) {
+            final int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+                System.arraycopy(frequencies, index + 1, frequencies, index, size - index - 1);
+                size--;
+            }
+        }
+    }
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, Integer> documentLengths = new HashMap<>();
+    private long totalLength;
+
+    /**
+     * Returns the terms of {@code text}, in order and with repetitions.
+     */
+    public static List<String> getTerms(String text) {
+        final List<String> terms = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            final boolean isTermCharacter = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isTermCharacter && start < 0) {
+                start = i;
+            } else if (!isTermCharacter && start >= 0) {
+                terms.add(text.substring(start, i).toLowerCase());
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Indexes the terms of the given texts as the document with the given id, which must not be indexed yet.
+     */
+    public void add(long id, Collection<String> texts) {
+        assert !documentLengths.containsKey(id);
+        final Map<String, Integer> frequencies = getTermFrequencies(texts);
+        int length = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), term -> new PostingList()).add(id, entry.getValue());
+            length += entry.getValue();
+        }
+        documentLengths.put(id, length);
+        totalLength += length;
+    }
+
+    /**
+     * Removes the document with the given id, which must have been added with the given texts.
+     */
+    public void remove(long id, Collection<String> texts) {
+        final Integer length = documentLengths.remove(id);
+        if (length == null) {
+            return;
+        }
+        totalLength -= length;
+        for (String term : getTermFrequencies(texts).keySet()) {
+            final PostingList postingList = postings.get(term);
+            if (postingList == null) {
+                continue;
+            }
+            postingList.remove(id);
+            if (postingList.size == 0) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    /**
+     * Returns the ids of the {@code limit} documents scoring highest against {@code terms}, mapped to their scores
+     * and ordered from the highest score. Documents scoring the same are ordered by id.
+     * Only documents holding one of the terms are scored, and a heap of {@code limit} entries keeps the best.
+     */
+    public Map<Long, Double> findTopScored(Collection<String> terms, int limit) {
+        assert limit > 0;
+        final Map<Long, Double> scores = new HashMap<>();
+        final double averageLength = documentLengths.isEmpty() ? 0 : (double) totalLength / documentLengths.size();
+        for (String term : terms) {
+            final PostingList postingList = postings.get(term);
+            if (postingList == null) {
+                continue;
+            }
+            final double idf = Math.log(1 + (documentLengths.size() - postingList.size + 0.5)
+                    / (postingList.size + 0.5));
+            for (int i = 0; i < postingList.size; i++) {
+                final long id = postingList.ids[i];
+                final int frequency = postingList.frequencies[i];
+                final double lengthRatio = documentLengths.get(id) / averageLength;
+                final double score = idf * frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * lengthRatio));
+                scores.merge(id, score, Double::sum);
+            }
+        }
+
+        final Comparator<Map.Entry<Long, Double>> worstFirst = Comparator.<Map.Entry<Long, Double>>comparingDouble(
+                Map.Entry::getValue).thenComparing(Map.Entry::getKey, Comparator.reverseOrder());
+        final PriorityQueue<Map.Entry<Long, Double>> best =
+                new PriorityQueue<>(Math.min(limit, scores.size()) + 1, worstFirst);
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            if (best.size() < limit) {
+                best.add(entry);
+            } else if (worstFirst.compare(entry, best.peek()) > 0) {
+                best.poll();
+                best.add(entry);
+            }
+        }
+        final List<Map.Entry<Long, Double>> bestFirst = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            bestFirst.add(best.poll());
+        }
+        final Map<Long, Double> topScored = new LinkedHashMap<>();
+        for (int i = bestFirst.size() - 1; i >= 0; i--) {
+            topScored.put(bestFirst.get(i).getKey(), bestFirst.get(i).getValue());
+        }
+        return topScored;
+    }
+
+    private static Map<String, Integer> getTermFrequencies(Collection<String> texts) {
+        final Map<String, Integer> frequencies = new HashMap<>();
+        for (String text : texts) {
+            for (String term : getTerms(text)) {
+                frequencies.merge(term, 1, Integer::sum);
+            }
+        }
+        return frequencies;
+    }
+}
@@ -0,0 +1,152 @@
+package seedu.address.model.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A prefix trie over words, counting how many times each word has been added so that it can be maintained
+ * incrementally as the words of persons come and go.
+ * Lookups ignore case, and a word is completed in the case it was first added in.
+ * Each node keeps its children in sorted arrays rather than a map, to keep the trie compact for large books.
+ */
+public class PrefixTrie {
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private static class Node {
+        /** Lower case characters leading to the children, sorted */
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        /** Number of times the word ending at this node has been added; 0 if no word ends here */
+        private int count;
+        private String word;
+
+        Node getChild(char key) {
+            final int index = Arrays.binarySearch(keys, key);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node getOrAddChild(char key) {
+            final int index = Arrays.binarySearch(keys, key);
+            if (index >= 0) {
+                return children[index];
+            }
+            final int insertAt = -index - 1;
+            final char[] newKeys = new char[keys.length + 1];
+            final Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            newKeys[insertAt] = key;
+            newChildren[insertAt] = new Node();
+            keys = newKeys;
+            children = newChildren;
+            return newChildren[insertAt];
+        }
+
+        void removeChild(char key) {
+            final int index = Arrays.binarySearch(keys, key);
+            assert index >= 0;
+            final char[] newKeys = new char[keys.length - 1];
+            final Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(keys, index + 1, newKeys, index, keys.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            keys = newKeys.length == 0 ? NO_KEYS : newKeys;
+            children = newChildren.length == 0 ? NO_CHILDREN : newChildren;
+        }
+
+        boolean isEmpty() {
+            return count == 0 && keys.length == 0;
+        }
+    }
+
+    private Node root = new Node();
+    private int size;
+
+    /**
+     * Adds one occurrence of the given word.
+     */
+    public void add(String word) {
+        assert word != null && !word.isEmpty();
+        Node node = root;
+        for (int i = 0; i < word.length(); i++) {
+            node = node.getOrAddChild(Character.toLowerCase(word.charAt(i)));
+        }
+        if (node.count == 0) {
+            node.word = word;
+            size++;
+        }
+        node.count++;
+    }
+
+    /**
+     * Removes one occurrence of the given word, if it has been added.
+     */
+    public void remove(String word) {
+        final Node[] path = new Node[word.length() + 1];
+        path[0] = root;
+        for (int i = 0; i < word.length(); i++) {
+            path[i + 1] = path[i].getChild(Character.toLowerCase(word.charAt(i)));
+            if (path[i + 1] == null) {
+                return;
+            }
+        }
+        final Node node = path[word.length()];
+        if (node.count == 0) {
+            return;
+        }
+        node.count--;
+        if (node.count > 0) {
+            return;
+        }
+        node.word = null;
+        size--;
+        for (int i = word.length(); i > 0 && path[i].isEmpty(); i--) {
+            path[i - 1].removeChild(Character.toLowerCase(word.charAt(i - 1)));
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} words starting with {@code prefix}, ignoring case, in alphabetical order.
+     * Takes time proportional to the length of the prefix and the words returned, not to the size of the trie.
+     */
+    public List<String> complete(String prefix, int limit) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.getChild(Character.toLowerCase(prefix.charAt(i)));
+        }
+        if (node == null || limit <= 0) {
+            return Collections.emptyList();
+        }
+        final List<String> completions = new ArrayList<>(Math.min(limit, size));
+        collectWords(node, limit, completions);
+        return completions;
+    }
+
+    private static void collectWords(Node node, int limit, List<String> completions) {
+        if (node.count > 0) {
+            completions.add(node.word);
+        }
+        for (int i = 0; i < node.children.length && completions.size() < limit; i++) {
+            collectWords(node.children[i], limit, completions);
+        }
+    }
+
+    /**
+     * Returns the number of distinct words in this trie.
+     */
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        root = new Node();
+        size = 0;
+    }
+}
@@ -0,0 +1,157 @@
+package seedu.address.model.index;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * An index from non-negative int keys to int ids, kept in primitive arrays sorted by key and then id, so that
+ * the ids with keys in a range are found by binary search.
+ * Each entry packs its key into the high and its id into the low half of a long.
+ * <p>
+ * Most entries are in one large sorted array, where removed entries are only marked. Added entries are appended
+ * to a second array, which is sorted when the index is next read, and is small unless many entries were added
+ * at once. Both are merged into the large array when the index is read once the added entries or the marks grow
+ * past about the square root of the size, so that the large array is never sorted again, and adding or removing
+ * an entry takes O(sqrt n) amortized time.
+ */
+public class SortedKeyIndex {
+
+    /** Entries added or removed since the last merge that do not yet cause one, at any size */
+    private static final int MIN_CHANGES_TO_MERGE = 64;
+
+    /** The merged entries, sorted, including the ones marked as removed */
+    private long[] merged = new long[0];
+    private int mergedSize;
+    /** Positions in {@link #merged} of the entries removed since the last merge */
+    private final BitSet removed = new BitSet();
+    private int removedCount;
+    /** The entries added since the last merge */
+    private long[] added = new long[16];
+    private int addedSize;
+    /** False while entries appended to {@link #added} out of order have not been sorted in */
+    private boolean isAddedSorted = true;
+
+    /**
+     * Adds an entry of {@code id} under {@code key}.
+     * The entry is appended, and sorted in once the index is next read.
+     */
+    public void add(int key, int id) {
+        assert key >= 0 && id >= 0;
+        final long entry = pack(key, id);
+        if (addedSize == added.length) {
+            added = Arrays.copyOf(added, addedSize * 2);
+        }
+        if (addedSize > 0 && added[addedSize - 1] > entry) {
+            isAddedSorted = false;
+        }
+        added[addedSize++] = entry;
+    }
+
+    /**
+     * Removes the entry of {@code id} under {@code key}, if any.
+     */
+    public void remove(int key, int id) {
+        prepareForRead();
+        final long entry = pack(key, id);
+        final int addedIndex = Arrays.binarySearch(added, 0, addedSize, entry);
+        if (addedIndex >= 0) {
+            System.arraycopy(added, addedIndex + 1, added, addedIndex, addedSize - addedIndex - 1);
+            addedSize--;
+            return;
+        }
+        final int mergedIndex = Arrays.binarySearch(merged, 0, mergedSize, entry);
+        if (mergedIndex >= 0 && !removed.get(mergedIndex)) {
+            removed.set(mergedIndex);
+            removedCount++;
+        }
+    }
+
+    /**
+     * Returns the ids of the entries with keys from {@code from} to {@code to}, both inclusive.
+     */
+    public BitSet findIdsBetween(int from, int to) {
+        prepareForRead();
+        final BitSet ids = new BitSet();
+        if (from > to) {
+            return ids;
+        }
+        final long first = pack(from, 0);
+        final long afterLast = pack(to, Integer.MAX_VALUE) + 1;
+        final int mergedEnd = insertionPoint(merged, mergedSize, afterLast);
+        for (int i = insertionPoint(merged, mergedSize, first); i < mergedEnd; i++) {
+            if (!removed.get(i)) {
+                ids.set((int) merged[i]);
+            }
+        }
+        final int addedEnd = insertionPoint(added, addedSize, afterLast);
+        for (int i = insertionPoint(added, addedSize, first); i < addedEnd; i++) {
+            ids.set((int) added[i]);
+        }
+        return ids;
+    }
+
+    public int size() {
+        return mergedSize - removedCount + addedSize;
+    }
+
+    public void clear() {
+        merged = new long[0];
+        mergedSize = 0;
+        removed.clear();
+        removedCount = 0;
+        addedSize = 0;
+        isAddedSorted = true;
+    }
+
+    /**
+     * Sorts the added entries, and merges them into the merged ones, dropping the removed ones, once there are
+     * enough of either that skipping over them costs more than the merge.
+     */
+    private void prepareForRead() {
+        if (!isAddedSorted) {
+            Arrays.sort(added, 0, addedSize);
+            isAddedSorted = true;
+        }
+        final int changesToMerge = Math.max(MIN_CHANGES_TO_MERGE, (int) Math.sqrt(size()));
+        if (addedSize >= changesToMerge || removedCount >= changesToMerge) {
+            merge();
+            // gives back the room taken by many entries added at once
+            added = new long[Math.min(added.length, 2 * changesToMerge)];
+        }
+    }
+
+    private void merge() {
+        final long[] result = new long[size()];
+        int resultSize = 0;
+        int j = 0;
+        for (int i = 0; i < mergedSize; i++) {
+            if (removed.get(i)) {
+                continue;
+            }
+            while (j < addedSize && added[j] < merged[i]) {
+                result[resultSize++] = added[j++];
+            }
+            result[resultSize++] = merged[i];
+        }
+        while (j < addedSize) {
+            result[resultSize++] = added[j++];
+        }
+        merged = result;
+        mergedSize = resultSize;
+        removed.clear();
+        removedCount = 0;
+        addedSize = 0;
+    }
+
+    /**
+     * Returns the index of the first of the {@code size} entries in {@code entries} not smaller than {@code entry}.
+     */
+    private static int insertionPoint(long[] entries, int size, long entry) {
+        final int index = Arrays.binarySearch(entries, 0, size, entry);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private static long pack(int key, int id) {
+        return ((long) key << 32) | id;
+    }
+}
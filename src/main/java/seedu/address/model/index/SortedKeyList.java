@@ -0,0 +1,376 @@
+package seedu.address.model.index;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A list of elements kept in the order of their byte keys, compared as unsigned bytes, and then of their ids.
+ * Adding, removing and finding the position of an element, and reading the element at a position, take O(log n).
+ *
+ * The elements are the nodes of a treap, a binary search tree balanced by random priorities, where each node
+ * also counts the nodes of its subtree. The nodes are stored in parallel arrays indexed by node number rather than
+ * as objects, and the numbers of removed nodes are reused.
+ */
+public class SortedKeyList<E> extends AbstractList<E> {
+
+    /** The number of the absent node; the arrays hold no node at this number */
+    private static final int NIL = 0;
+
+    private byte[][] keys = new byte[16][];
+    private long[] ids = new long[16];
+    private Object[] elements = new Object[16];
+    private int[] left = new int[16];
+    private int[] right = new int[16];
+    /** Number of nodes in the subtree of each node, 0 for {@link #NIL} */
+    private int[] counts = new int[16];
+    private int[] priorities = new int[16];
+
+    private int root = NIL;
+    /** Next node number never used so far */
+    private int nextNode = 1;
+    /** First node of the chain of removed nodes linked through {@link #left}, or {@link #NIL} */
+    private int freeNode = NIL;
+    private int randomState = 0x2545F491;
+
+    /** Roots of the two halves of the last {@link #split} */
+    private int splitLeft;
+    private int splitRight;
+    /** The node unlinked by the last {@link #remove(int, byte[], long)}, or {@link #NIL} */
+    private int removedNode;
+
+    /**
+     * Adds {@code element} under {@code key} and {@code id}, which must not be in this list yet.
+     *
+     * @return the position of the element in this list
+     */
+    public int add(byte[] key, long id, E element) {
+        assert key != null;
+        final int node = allocate(key, id, element);
+        root = insert(root, node);
+        modCount++;
+        return rank(key, id);
+    }
+
+    /**
+     * Removes the element under {@code key} and {@code id}, if any.
+     *
+     * @return true if an element was removed
+     */
+    public boolean remove(byte[] key, long id) {
+        removedNode = NIL;
+        root = remove(root, key, id);
+        if (removedNode == NIL) {
+            return false;
+        }
+        keys[removedNode] = null;
+        elements[removedNode] = null;
+        left[removedNode] = freeNode;
+        freeNode = removedNode;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Returns the number of elements ordered before {@code key} and {@code id}.
+     * This is the position of the element under them if there is one, or else the position it had before it was
+     * removed, as long as no other element was added or removed since.
+     */
+    public int rank(byte[] key, long id) {
+        int rank = 0;
+        int node = root;
+        while (node != NIL) {
+            final int comparison = compare(key, id, node);
+            if (comparison == 0) {
+                return rank + counts[left[node]];
+            } else if (comparison < 0) {
+                node = left[node];
+            } else {
+                rank += counts[left[node]] + 1;
+                node = right[node];
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Replaces the elements of this list with {@code elements} under the keys and ids at the same positions,
+     * which must be sorted and distinct. Takes O(n), unlike adding the elements one by one.
+     */
+    public void setAll(byte[][] sortedKeys, long[] sortedIds, Object[] sortedElements) {
+        assert sortedKeys.length == sortedIds.length && sortedIds.length == sortedElements.length;
+        clear();
+        final int size = sortedKeys.length;
+        ensureCapacity(size + 1);
+        // builds the tree in order on a stack of its right spine, as in the construction of a Cartesian tree
+        final int[] spine = new int[size];
+        int top = 0;
+        for (int i = 0; i < size; i++) {
+            final int node = allocate(sortedKeys[i], sortedIds[i], sortedElements[i]);
+            int last = NIL;
+            while (top > 0 && priorities[spine[top - 1]] < priorities[node]) {
+                last = spine[--top];
+                updateCount(last);
+            }
+            left[node] = last;
+            if (top > 0) {
+                right[spine[top - 1]] = node;
+            }
+            spine[top++] = node;
+        }
+        root = top > 0 ? spine[0] : NIL;
+        while (top > 0) {
+            updateCount(spine[--top]);
+        }
+        modCount++;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        int node = root;
+        while (true) {
+            final int leftCount = counts[left[node]];
+            if (index < leftCount) {
+                node = left[node];
+            } else if (index == leftCount) {
+                return (E) elements[node];
+            } else {
+                index -= leftCount + 1;
+                node = right[node];
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return counts[root];
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(keys, null);
+        Arrays.fill(elements, null);
+        root = NIL;
+        nextNode = 1;
+        freeNode = NIL;
+        modCount++;
+    }
+
+    /**
+     * Iterates over the elements in order in O(n) overall, rather than reading each position in O(log n).
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new TreeIterator(left, right);
+    }
+
+    /**
+     * Iterates over the elements in reverse order in O(n) overall.
+     */
+    public Iterator<E> descendingIterator() {
+        return new TreeIterator(right, left);
+    }
+
+    /**
+     * Walks the tree in order, with the children given by {@code first} visited before those by {@code second}.
+     */
+    private class TreeIterator implements Iterator<E> {
+        private final int[] first;
+        private final int[] second;
+        private final int expectedModCount = modCount;
+        /** The nodes whose {@code first} subtree is being visited */
+        private int[] path = new int[64];
+        private int depth;
+        private int next;
+
+        TreeIterator(int[] first, int[] second) {
+            this.first = first;
+            this.second = second;
+            next = descend(root);
+        }
+
+        /**
+         * Returns the first node of the walk within {@code node}, or the next node on the path if it is absent.
+         */
+        private int descend(int node) {
+            while (node != NIL) {
+                if (depth == path.length) {
+                    path = Arrays.copyOf(path, depth * 2);
+                }
+                path[depth++] = node;
+                node = first[node];
+            }
+            return depth > 0 ? path[--depth] : NIL;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != NIL;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next == NIL) {
+                throw new NoSuchElementException();
+            }
+            final E element = (E) elements[next];
+            next = descend(second[next]);
+            return element;
+        }
+    }
+
+    //=========== Treap operations =============================================================================
+
+    private int insert(int subtree, int node) {
+        if (subtree == NIL) {
+            return node;
+        }
+        if (priorities[node] > priorities[subtree]) {
+            split(subtree, node);
+            left[node] = splitLeft;
+            right[node] = splitRight;
+            updateCount(node);
+            return node;
+        }
+        if (compare(keys[node], ids[node], subtree) < 0) {
+            left[subtree] = insert(left[subtree], node);
+        } else {
+            right[subtree] = insert(right[subtree], node);
+        }
+        updateCount(subtree);
+        return subtree;
+    }
+
+    /**
+     * Splits {@code subtree} into the nodes ordered before {@code node}, in {@link #splitLeft}, and the nodes
+     * ordered after it, in {@link #splitRight}.
+     */
+    private void split(int subtree, int node) {
+        if (subtree == NIL) {
+            splitLeft = NIL;
+            splitRight = NIL;
+            return;
+        }
+        if (compare(keys[subtree], ids[subtree], node) < 0) {
+            split(right[subtree], node);
+            right[subtree] = splitLeft;
+            splitLeft = subtree;
+        } else {
+            split(left[subtree], node);
+            left[subtree] = splitRight;
+            splitRight = subtree;
+        }
+        updateCount(subtree);
+    }
+
+    private int remove(int subtree, byte[] key, long id) {
+        if (subtree == NIL) {
+            return NIL;
+        }
+        final int comparison = compare(key, id, subtree);
+        if (comparison == 0) {
+            removedNode = subtree;
+            return merge(left[subtree], right[subtree]);
+        }
+        if (comparison < 0) {
+            left[subtree] = remove(left[subtree], key, id);
+        } else {
+            right[subtree] = remove(right[subtree], key, id);
+        }
+        updateCount(subtree);
+        return subtree;
+    }
+
+    /**
+     * Joins two subtrees where every node of {@code first} is ordered before every node of {@code second}.
+     */
+    private int merge(int first, int second) {
+        if (first == NIL) {
+            return second;
+        }
+        if (second == NIL) {
+            return first;
+        }
+        if (priorities[first] > priorities[second]) {
+            right[first] = merge(right[first], second);
+            updateCount(first);
+            return first;
+        }
+        left[second] = merge(first, left[second]);
+        updateCount(second);
+        return second;
+    }
+
+    private void updateCount(int node) {
+        counts[node] = counts[left[node]] + counts[right[node]] + 1;
+    }
+
+    private int compare(byte[] key, long id, int node) {
+        final int comparison = compareKeys(key, keys[node]);
+        return comparison != 0 ? comparison : Long.compare(id, ids[node]);
+    }
+
+    /**
+     * Compares two keys as sequences of unsigned bytes, a key ordered before any longer key it is a prefix of.
+     */
+    public static int compareKeys(byte[] first, byte[] second) {
+        final int length = Math.min(first.length, second.length);
+        for (int i = 0; i < length; i++) {
+            if (first[i] != second[i]) {
+                return (first[i] & 0xFF) - (second[i] & 0xFF);
+            }
+        }
+        return first.length - second.length;
+    }
+
+    private int allocate(byte[] key, long id, Object element) {
+        final int node;
+        if (freeNode != NIL) {
+            node = freeNode;
+            freeNode = left[node];
+        } else {
+            ensureCapacity(nextNode + 1);
+            node = nextNode++;
+        }
+        keys[node] = key;
+        ids[node] = id;
+        elements[node] = element;
+        left[node] = NIL;
+        right[node] = NIL;
+        counts[node] = 1;
+        priorities[node] = nextRandom();
+        return node;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ids.length) {
+            return;
+        }
+        final int newCapacity = Math.max(capacity, ids.length * 2);
+        keys = Arrays.copyOf(keys, newCapacity);
+        ids = Arrays.copyOf(ids, newCapacity);
+        elements = Arrays.copyOf(elements, newCapacity);
+        left = Arrays.copyOf(left, newCapacity);
+        right = Arrays.copyOf(right, newCapacity);
+        counts = Arrays.copyOf(counts, newCapacity);
+        priorities = Arrays.copyOf(priorities, newCapacity);
+    }
+
+    /** Returns the next number of a xorshift generator, which is random enough to balance the treap */
+    private int nextRandom() {
+        randomState ^= randomState << 13;
+        randomState ^= randomState >>> 17;
+        randomState ^= randomState << 5;
+        return randomState;
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.model.index;
+
+/**
+ * Computes American Soundex codes of words, so that words sounding alike, such as "Jon" and "John", or "Sean" and
+ * "Shawn", have the same code.
+ */
+public class Soundex {
+
+    public static final int CODE_LENGTH = 4;
+
+    /**
+     * Digits of the letters A to Z. Vowels are 0 and separate equal digits, while H and W are - and do not.
+     */
+    private static final String DIGITS = "0123012-02245501262301-202";
+    private static final char VOWEL = '0';
+    private static final char SILENT = '-';
+
+    private Soundex() {}
+
+    /**
+     * Returns the code of {@code word}: its first letter in upper case followed by three digits. Characters other
+     * than the letters A to Z are ignored, and a word without any of them has an empty code.
+     */
+    public static String encode(String word) {
+        final StringBuilder code = new StringBuilder(CODE_LENGTH);
+        char previousDigit = VOWEL;
+        for (int i = 0; i < word.length() && code.length() < CODE_LENGTH; i++) {
+            final char letter = Character.toUpperCase(word.charAt(i));
+            if (letter < 'A' || letter > 'Z') {
+                continue;
+            }
+            final char digit = DIGITS.charAt(letter - 'A');
+            if (code.length() == 0) {
+                code.append(letter);
+            } else if (digit != VOWEL && digit != SILENT && digit != previousDigit) {
+                code.append(digit);
+            }
+            if (digit != SILENT) {
+                previousDigit = digit;
+            }
+        }
+        while (code.length() > 0 && code.length() < CODE_LENGTH) {
+            code.append('0');
+        }
+        return code.toString();
+    }
+}
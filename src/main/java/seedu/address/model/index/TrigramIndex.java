@@ -0,0 +1,166 @@
+package seedu.address.model.index;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An index from the trigrams (substrings of three characters) of text values to the ids holding those values.
+ * A value containing a fragment contains all the trigrams of the fragment, so intersecting the posting lists
+ * of those trigrams gives the candidates for a substring search, which then only need to be verified.
+ * Trigrams are compared ignoring case.
+ */
+public class TrigramIndex {
+
+    public static final int GRAM_LENGTH = 3;
+
+    /**
+     * The sorted ids holding a trigram. Ids are usually added in increasing order, so adding appends,
+     * and the list is only sorted again when an id arrives out of order.
+     */
+    private static class PostingList {
+        private int[] ids = new int[2];
+        private int size;
+        private boolean isSorted = true;
+
+        void add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            if (size > 0 && ids[size - 1] > id) {
+                isSorted = false;
+            }
+            ids[size++] = id;
+        }
+
+        void remove(int id) {
+            ensureSorted();
+            final int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+                size--;
+            }
+        }
+
+        boolean contains(int id) {
+            ensureSorted();
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+
+        void ensureSorted() {
+            if (!isSorted) {
+                Arrays.sort(ids, 0, size);
+                isSorted = true;
+            }
+        }
+    }
+
+    /** Posting lists this many times longer than the candidates left are probed rather than merged */
+    private static final int PROBE_RATIO = 16;
+
+    private final Map<Long, PostingList> postings = new HashMap<>();
+
+    /**
+     * Indexes the distinct trigrams of the given values under {@code id}.
+     */
+    public void add(int id, String... values) {
+        for (long trigram : getDistinctTrigrams(values)) {
+            postings.computeIfAbsent(trigram, key -> new PostingList()).add(id);
+        }
+    }
+
+    /**
+     * Removes {@code id} from the trigrams of the given values, which must be the values it was added with.
+     */
+    public void remove(int id, String... values) {
+        for (long trigram : getDistinctTrigrams(values)) {
+            final PostingList postingList = postings.get(trigram);
+            if (postingList == null) {
+                continue;
+            }
+            postingList.remove(id);
+            if (postingList.size == 0) {
+                postings.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Returns the ids holding all the trigrams of {@code fragment}, a superset of the ids holding a value that
+     * contains it. The posting lists are intersected from the shortest up. A list much longer than the ids left
+     * is probed for each of them, and any other list is merged in whole.
+     *
+     * @return null if the fragment is too short to have a trigram, so that every id is a candidate
+     */
+    public BitSet findCandidates(String fragment) {
+        if (fragment.length() < GRAM_LENGTH) {
+            return null;
+        }
+        final long[] trigrams = getDistinctTrigrams(fragment);
+        final PostingList[] lists = new PostingList[trigrams.length];
+        for (int i = 0; i < trigrams.length; i++) {
+            lists[i] = postings.get(trigrams[i]);
+            if (lists[i] == null) {
+                return new BitSet();
+            }
+        }
+        Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+
+        final BitSet candidates = toBitSet(lists[0]);
+        int candidateCount = lists[0].size;
+        for (int i = 1; i < lists.length && candidateCount > 0; i++) {
+            if (lists[i].size > candidateCount * PROBE_RATIO) {
+                for (int id = candidates.nextSetBit(0); id >= 0; id = candidates.nextSetBit(id + 1)) {
+                    if (!lists[i].contains(id)) {
+                        candidates.clear(id);
+                    }
+                }
+            } else {
+                candidates.and(toBitSet(lists[i]));
+            }
+            candidateCount = candidates.cardinality();
+        }
+        return candidates;
+    }
+
+    private static BitSet toBitSet(PostingList postingList) {
+        final BitSet ids = new BitSet();
+        for (int i = 0; i < postingList.size; i++) {
+            ids.set(postingList.ids[i]);
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the distinct trigrams of the given values, encoded as longs of three lower case characters.
+     */
+    private static long[] getDistinctTrigrams(String... values) {
+        int count = 0;
+        for (String value : values) {
+            count += Math.max(0, value.length() - GRAM_LENGTH + 1);
+        }
+        final long[] trigrams = new long[count];
+        int next = 0;
+        for (String value : values) {
+            for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+                trigrams[next++] = encode(value.charAt(i), value.charAt(i + 1), value.charAt(i + 2));
+            }
+        }
+        Arrays.sort(trigrams);
+        int distinct = 0;
+        for (int i = 0; i < trigrams.length; i++) {
+            if (i == 0 || trigrams[i] != trigrams[i - 1]) {
+                trigrams[distinct++] = trigrams[i];
+            }
+        }
+        return Arrays.copyOf(trigrams, distinct);
+    }
+
+    private static long encode(char first, char second, char third) {
+        return ((long) Character.toLowerCase(first) << 32)
+                | ((long) Character.toLowerCase(second) << 16)
+                | Character.toLowerCase(third);
+    }
+}
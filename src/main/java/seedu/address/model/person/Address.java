@@ -3,6 +3,10 @@ package seedu.address.model.person;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 
+import java.util.OptionalInt;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -11,8 +15,14 @@ public class Address {
     
     public static final String MESSAGE_ADDRESS_CONSTRAINTS = "Person addresses can be in any format";
     public static final String ADDRESS_VALIDATION_REGEX = ".+";
+    private static final Pattern ADDRESS_VALIDATION_PATTERN = Pattern.compile(ADDRESS_VALIDATION_REGEX);
+
+    /** A run of exactly six digits, as in "Singapore 119077" */
+    private static final Pattern POSTAL_CODE_FORMAT = Pattern.compile("(?<!\\d)\\d{6}(?!\\d)");
+    private static final int NO_POSTAL_CODE = -1;
 
     public final String value;
+    private final int postalCode;
 
     /**
      * Validates given address.
@@ -25,13 +35,33 @@ public class Address {
             throw new IllegalValueException(MESSAGE_ADDRESS_CONSTRAINTS);
         }
         this.value = address;
+        this.postalCode = parsePostalCode(address);
+    }
+
+    /**
+     * Returns the last postal code in the address, if any.
+     */
+    private static int parsePostalCode(String address) {
+        final Matcher matcher = POSTAL_CODE_FORMAT.matcher(address);
+        int found = NO_POSTAL_CODE;
+        while (matcher.find()) {
+            found = Integer.parseInt(matcher.group());
+        }
+        return found;
     }
 
     /**
      * Returns true if a given string is a valid person email.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(ADDRESS_VALIDATION_REGEX);
+        return ADDRESS_VALIDATION_PATTERN.matcher(test).matches();
+    }
+
+    /**
+     * Returns the six digit postal code in this address, if any. If there are several, the last one is taken.
+     */
+    public OptionalInt getPostalCode() {
+        return postalCode == NO_POSTAL_CODE ? OptionalInt.empty() : OptionalInt.of(postalCode);
     }
 
     @Override
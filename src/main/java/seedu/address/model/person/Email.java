@@ -2,6 +2,11 @@ package seedu.address.model.person;
 
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.StringUtil;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.regex.Pattern;
 
 /**
  * Represents a Person's phone number in the address book.
@@ -12,8 +17,14 @@ public class Email {
     public static final String MESSAGE_EMAIL_CONSTRAINTS =
             "Person emails should be 2 alphanumeric/period strings separated by '@'";
     public static final String EMAIL_VALIDATION_REGEX = "[\\w\\.]+@[\\w\\.]+";
+    private static final Pattern EMAIL_VALIDATION_PATTERN = Pattern.compile(EMAIL_VALIDATION_REGEX);
 
-    public final String value;
+    /** The email in Latin-1, one byte per character, as valid emails are ASCII */
+    private final byte[] latin1Value;
+    /** Hash of the bytes, computed on first use, or 0 before */
+    private int hash;
+    /** Lower case domain of the email, pooled as many persons share a domain */
+    private final String domain;
 
     /**
      * Validates given email.
@@ -26,31 +37,51 @@ public class Email {
         if (!isValidEmail(email)) {
             throw new IllegalValueException(MESSAGE_EMAIL_CONSTRAINTS);
         }
-        this.value = email;
+        this.latin1Value = email.getBytes(StandardCharsets.ISO_8859_1);
+        this.domain = StringUtil.intern(email.substring(email.indexOf('@') + 1).toLowerCase());
     }
 
     /**
      * Returns if a given string is a valid person email.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(EMAIL_VALIDATION_REGEX);
+        return EMAIL_VALIDATION_PATTERN.matcher(test).matches();
+    }
+
+    /**
+     * Returns the domain of this email, the part after the '@', in lower case.
+     */
+    public String getDomain() {
+        return domain;
+    }
+
+    /**
+     * Returns the email, decoded from its bytes on each call.
+     */
+    public String value() {
+        return new String(latin1Value, StandardCharsets.ISO_8859_1);
     }
 
     @Override
     public String toString() {
-        return value;
+        return value();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Email // instanceof handles nulls
-                && this.value.equals(((Email) other).value)); // state check
+                && Arrays.equals(this.latin1Value, ((Email) other).latin1Value)); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        int h = hash;
+        if (h == 0) {
+            h = Arrays.hashCode(latin1Value);
+            hash = h;
+        }
+        return h;
     }
 
 }
@@ -2,6 +2,10 @@ package seedu.address.model.person;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -10,8 +14,12 @@ public class Name {
 
     public static final String MESSAGE_NAME_CONSTRAINTS = "Person names should be spaces or alphanumeric characters";
     public static final String NAME_VALIDATION_REGEX = "[\\p{Alnum} ]+";
+    private static final Pattern NAME_VALIDATION_PATTERN = Pattern.compile(NAME_VALIDATION_REGEX);
 
-    public final String fullName;
+    /** The name in Latin-1, one byte per character, as valid names are ASCII */
+    private final byte[] latin1Name;
+    /** Hash of the bytes, computed on first use, or 0 before */
+    private int hash;
 
     /**
      * Validates given name.
@@ -24,32 +32,44 @@ public class Name {
         if (!isValidName(name)) {
             throw new IllegalValueException(MESSAGE_NAME_CONSTRAINTS);
         }
-        this.fullName = name;
+        this.latin1Name = name.getBytes(StandardCharsets.ISO_8859_1);
     }
 
     /**
      * Returns true if a given string is a valid person name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(NAME_VALIDATION_REGEX);
+        return NAME_VALIDATION_PATTERN.matcher(test).matches();
     }
 
 
+    /**
+     * Returns the full name, decoded from its bytes on each call.
+     */
+    public String fullName() {
+        return new String(latin1Name, StandardCharsets.ISO_8859_1);
+    }
+
     @Override
     public String toString() {
-        return fullName;
+        return fullName();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Name // instanceof handles nulls
-                && this.fullName.equals(((Name) other).fullName)); // state check
+                && Arrays.equals(this.latin1Name, ((Name) other).latin1Name)); // state check
     }
 
     @Override
     public int hashCode() {
-        return fullName.hashCode();
+        int h = hash;
+        if (h == 0) {
+            h = Arrays.hashCode(latin1Name);
+            hash = h;
+        }
+        return h;
     }
 
 }
@@ -1,16 +1,31 @@
 package seedu.address.model.person;
 
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.CollectionUtil;
+import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.UniqueTagList;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated.
+ * A person is not changed once a {@link UniquePersonList} holds it, apart from its slot, so that a search thread may
+ * read it through its details.
+ * A person may instead be backed by a record of {@link PersonRecords}, such as a book mapped from a file, in which
+ * case each field is decoded from the record the first time it is read.
  */
 public class Person implements ReadOnlyPerson {
 
+    private long id = UNASSIGNED_ID;
+    /** The records backing this person and its record among them, or null and -1 */
+    private final PersonRecords records;
+    private final int record;
+
+    // decoded from the record on first read if this person is backed by one. Like the caches below, each may be
+    // decoded on any thread without locking, as it holds an immutable value and is the same whoever decodes it
     private Name name;
     private Phone phone;
     private Email email;
@@ -18,11 +33,22 @@ public class Person implements ReadOnlyPerson {
 
     private UniqueTagList tags;
 
+    /** Slot of this person in the {@link UniquePersonList} holding it, or -1; maintained by that list */
+    int slot = -1;
+
+    // derived from the fields and tags on first use, and cleared when the tags change. Like String.hash, each may
+    // be computed on any thread without locking, as it holds an immutable value and is the same whoever computes it
+    private int hash;
+    private String asText;
+    private String tagsText;
+
     /**
      * Every field must be present and not null.
      */
     public Person(Name name, Phone phone, Email email, Address address, UniqueTagList tags) {
         assert !CollectionUtil.isAnyNull(name, phone, email, address, tags);
+        this.records = null;
+        this.record = -1;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -31,42 +57,172 @@ public class Person implements ReadOnlyPerson {
     }
 
     /**
-     * Copy constructor.
+     * Creates a person backed by the given record, with the id of the record.
+     */
+    public Person(PersonRecords records, int record) {
+        assert records != null && record >= 0 && record < records.size();
+        this.records = records;
+        this.record = record;
+        this.id = records.getId(record);
+    }
+
+    /**
+     * Copy constructor. The copy keeps the id of the source, and shares the record backing the source, if any.
      */
     public Person(ReadOnlyPerson source) {
-        this(source.getName(), source.getPhone(), source.getEmail(), source.getAddress(), source.getTags());
+        final Person backed = source instanceof Person && ((Person) source).records != null ? (Person) source : null;
+        if (backed == null) {
+            this.records = null;
+            this.record = -1;
+            this.name = source.getName();
+            this.phone = source.getPhone();
+            this.email = source.getEmail();
+            this.address = source.getAddress();
+            this.tags = source.getTags();
+        } else {
+            this.records = backed.records;
+            this.record = backed.record;
+            this.name = backed.name;
+            this.phone = backed.phone;
+            this.email = backed.email;
+            this.address = backed.address;
+            this.tags = backed.tags == null ? null : new UniqueTagList(backed.tags);
+        }
+        this.id = source.getId();
+    }
+
+    @Override
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Sets the id of this person. Ids are managed by the {@code AddressBook} holding the person, which sets them
+     * before the person is added to its list.
+     */
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    /**
+     * Returns the slot of this person in the {@link UniquePersonList} holding it, or -1 if no list holds it.
+     * Slots are small numbers that increase along the list, and key the bitsets of the indexes over its persons.
+     */
+    public int getSlot() {
+        return slot;
     }
 
     @Override
     public Name getName() {
-        return name;
+        Name decoded = name;
+        if (decoded == null) {
+            try {
+                decoded = new Name(records.getFieldText(record, PersonRecords.NAME));
+            } catch (IllegalValueException ive) {
+                throw new AssertionError("Stored names are valid", ive);
+            }
+            name = decoded;
+        }
+        return decoded;
     }
 
     @Override
     public Phone getPhone() {
-        return phone;
+        Phone decoded = phone;
+        if (decoded == null) {
+            try {
+                decoded = new Phone(records.getFieldText(record, PersonRecords.PHONE));
+            } catch (IllegalValueException ive) {
+                throw new AssertionError("Stored phones are valid", ive);
+            }
+            phone = decoded;
+        }
+        return decoded;
     }
 
     @Override
     public Email getEmail() {
-        return email;
+        Email decoded = email;
+        if (decoded == null) {
+            try {
+                decoded = new Email(records.getFieldText(record, PersonRecords.EMAIL));
+            } catch (IllegalValueException ive) {
+                throw new AssertionError("Stored emails are valid", ive);
+            }
+            email = decoded;
+        }
+        return decoded;
     }
 
     @Override
     public Address getAddress() {
-        return address;
+        Address decoded = address;
+        if (decoded == null) {
+            try {
+                decoded = new Address(records.getFieldText(record, PersonRecords.ADDRESS));
+            } catch (IllegalValueException ive) {
+                throw new AssertionError("Stored addresses are valid", ive);
+            }
+            address = decoded;
+        }
+        return decoded;
     }
 
     @Override
     public UniqueTagList getTags() {
-        return new UniqueTagList(tags);
+        return new UniqueTagList(getInternalTags());
+    }
+
+    private UniqueTagList getInternalTags() {
+        UniqueTagList decoded = tags;
+        if (decoded == null) {
+            final int tagCount = records.getTagCount(record);
+            final List<Tag> recordTags = new ArrayList<>(tagCount);
+            for (int i = 0; i < tagCount; i++) {
+                recordTags.add(records.getTag(record, i));
+            }
+            try {
+                decoded = new UniqueTagList(recordTags);
+            } catch (UniqueTagList.DuplicateTagException dte) {
+                throw new AssertionError("Stored tags are unique", dte);
+            }
+            tags = decoded;
+        }
+        return decoded;
+    }
+
+    @Override
+    public boolean hasTag(String tagName) {
+        final UniqueTagList decoded = tags;
+        if (decoded == null) {
+            // checks the tags of the record without decoding them into a list
+            final int tagCount = records.getTagCount(record);
+            for (int i = 0; i < tagCount; i++) {
+                if (records.getTag(record, i).getTagName().equalsIgnoreCase(tagName)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        // checks the internal tags, as getTags() copies them
+        for (Tag tag : decoded) {
+            if (tag.getTagName().equalsIgnoreCase(tagName)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
      * Replaces this person's tags with the tags in the argument tag list.
+     * Only valid before the person is added to a {@link UniquePersonList}.
      */
     public void setTags(UniqueTagList replacement) {
-        tags.setTags(replacement);
+        assert slot < 0 : "the tags of a person held by a list must not change";
+        tags = new UniqueTagList(replacement);
+        hash = 0;
+        asText = null;
+        tagsText = null;
     }
 
     @Override
@@ -78,8 +234,33 @@ public class Person implements ReadOnlyPerson {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags);
+        int h = hash;
+        if (h == 0) {
+            // use this method for custom fields hashing instead of implementing your own
+            h = Objects.hash(getName(), getPhone(), getEmail(), getAddress(), getInternalTags());
+            hash = h;
+        }
+        return h;
+    }
+
+    @Override
+    public String getAsText() {
+        String text = asText;
+        if (text == null) {
+            text = ReadOnlyPerson.super.getAsText();
+            asText = text;
+        }
+        return text;
+    }
+
+    @Override
+    public String tagsString() {
+        String text = tagsText;
+        if (text == null) {
+            text = ReadOnlyPerson.super.tagsString();
+            tagsText = text;
+        }
+        return text;
     }
 
     @Override
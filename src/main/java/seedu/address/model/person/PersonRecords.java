@@ -0,0 +1,37 @@
+package seedu.address.model.person;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Persons stored as numbered records outside of {@link Person} objects, e.g. in columns or in a file mapped into
+ * memory. A person backed by a record decodes each of its fields from the stored text when the field is first read.
+ * The stored text of every record must be valid, and the records must not change while persons are backed by them.
+ */
+public interface PersonRecords {
+
+    int NAME = 0;
+    int PHONE = 1;
+    int EMAIL = 2;
+    int ADDRESS = 3;
+    int FIELD_COUNT = 4;
+
+    /**
+     * Returns the number of records, which are numbered from 0.
+     */
+    int size();
+
+    long getId(int record);
+
+    /**
+     * Returns the stored text of the given field of a record, which is one of {@link #NAME}, {@link #PHONE},
+     * {@link #EMAIL} and {@link #ADDRESS}.
+     */
+    String getFieldText(int record, int field);
+
+    int getTagCount(int record);
+
+    /**
+     * Returns the tag at position {@code i} of the tags of a record.
+     */
+    Tag getTag(int record, int i);
+}
@@ -2,6 +2,10 @@ package seedu.address.model.person;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -10,8 +14,18 @@ public class Phone {
 
     public static final String MESSAGE_PHONE_CONSTRAINTS = "Person phone numbers should only contain numbers";
     public static final String PHONE_VALIDATION_REGEX = "\\d+";
+    private static final Pattern PHONE_VALIDATION_PATTERN = Pattern.compile(PHONE_VALIDATION_REGEX);
+
+    /** Most digits that fit in {@link #packedDigits} */
+    private static final int MAX_PACKED_DIGITS = Long.SIZE / 4;
 
-    public final String value;
+    /** The digits as packed BCD, four bits each with the last digit lowest, if there are few enough */
+    private final long packedDigits;
+    private final int digitCount;
+    /** The digits in Latin-1 if there are too many to pack, or null */
+    private final byte[] unpackedDigits;
+    /** Hash of the digits, computed on first use, or 0 before */
+    private int hash;
 
     /**
      * Validates given phone number.
@@ -24,31 +38,71 @@ public class Phone {
         if (!isValidPhone(phone)) {
             throw new IllegalValueException(MESSAGE_PHONE_CONSTRAINTS);
         }
-        this.value = phone;
+        this.digitCount = phone.length();
+        if (digitCount <= MAX_PACKED_DIGITS) {
+            long packed = 0;
+            for (int i = 0; i < digitCount; i++) {
+                packed = packed << 4 | (phone.charAt(i) - '0');
+            }
+            this.packedDigits = packed;
+            this.unpackedDigits = null;
+        } else {
+            this.packedDigits = 0;
+            this.unpackedDigits = phone.getBytes(StandardCharsets.ISO_8859_1);
+        }
     }
 
     /**
      * Returns true if a given string is a valid person phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(PHONE_VALIDATION_REGEX);
+        return PHONE_VALIDATION_PATTERN.matcher(test).matches();
+    }
+
+    /**
+     * Returns the phone number, decoded from its digits on each call.
+     */
+    public String value() {
+        if (unpackedDigits != null) {
+            return new String(unpackedDigits, StandardCharsets.ISO_8859_1);
+        }
+        final char[] digits = new char[digitCount];
+        long packed = packedDigits;
+        for (int i = digitCount - 1; i >= 0; i--) {
+            digits[i] = (char) ('0' + (packed & 0xF));
+            packed >>>= 4;
+        }
+        return new String(digits);
     }
 
     @Override
     public String toString() {
-        return value;
+        return value();
     }
 
     @Override
     public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof Phone // instanceof handles nulls
-                && this.value.equals(((Phone) other).value)); // state check
+        if (other == this) { // short circuit if same object
+            return true;
+        }
+        if (!(other instanceof Phone)) { // instanceof handles nulls
+            return false;
+        }
+        final Phone otherPhone = (Phone) other;
+        return digitCount == otherPhone.digitCount && packedDigits == otherPhone.packedDigits
+                && Arrays.equals(unpackedDigits, otherPhone.unpackedDigits);
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        int h = hash;
+        if (h == 0) {
+            h = unpackedDigits != null
+                    ? Arrays.hashCode(unpackedDigits)
+                    : 31 * Long.hashCode(packedDigits) + digitCount;
+            hash = h;
+        }
+        return h;
     }
 
 }
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.UniqueTagList;
 
 /**
@@ -8,6 +9,15 @@ import seedu.address.model.tag.UniqueTagList;
  */
 public interface ReadOnlyPerson {
 
+    /** Id of a person that has not been added to an address book yet. */
+    long UNASSIGNED_ID = 0;
+
+    /**
+     * Returns the id of this person, which stays the same across sessions.
+     * Returns {@link #UNASSIGNED_ID} if no id has been assigned yet.
+     */
+    long getId();
+
     Name getName();
     Phone getPhone();
     Email getEmail();
@@ -19,6 +29,18 @@ public interface ReadOnlyPerson {
      */
     UniqueTagList getTags();
 
+    /**
+     * Returns true if this person has a tag with the given name, ignoring case.
+     */
+    default boolean hasTag(String tagName) {
+        for (Tag tag : getTags()) {
+            if (tag.getTagName().equalsIgnoreCase(tagName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Returns true if both have the same state. (interfaces cannot override .equals)
      */
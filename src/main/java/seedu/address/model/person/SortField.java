@@ -0,0 +1,55 @@
+package seedu.address.model.person;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * A field of persons that the person list can be sorted by.
+ * Each person has a sort key for each field, which orders the persons when compared as unsigned bytes,
+ * so that sorting does not apply the rules of a {@code Collator} on every comparison.
+ */
+public enum SortField {
+
+    /**
+     * By the names, ignoring case and spaces. As names are made of ASCII letters, digits and spaces, this is the
+     * order of an English {@code Collator} of secondary strength, but the keys take far less time to compute.
+     */
+    NAME {
+        @Override
+        public byte[] getKey(ReadOnlyPerson person) {
+            final String name = person.getName().fullName();
+            final byte[] key = new byte[name.length()];
+            int length = 0;
+            for (int i = 0; i < name.length(); i++) {
+                final char c = name.charAt(i);
+                if (c != ' ') {
+                    key[length++] = (byte) Character.toLowerCase(c);
+                }
+            }
+            return length == key.length ? key : Arrays.copyOf(key, length);
+        }
+    },
+
+    /** By the emails, ignoring case */
+    EMAIL {
+        @Override
+        public byte[] getKey(ReadOnlyPerson person) {
+            // the code point order of the text, as UTF-8 sorts by code point
+            return person.getEmail().value().toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8);
+        }
+    },
+
+    /** By the digits of the phones, from the first digit */
+    PHONE {
+        @Override
+        public byte[] getKey(ReadOnlyPerson person) {
+            return person.getPhone().value().getBytes(StandardCharsets.US_ASCII);
+        }
+    };
+
+    /**
+     * Returns the sort key of {@code person} by this field.
+     */
+    public abstract byte[] getKey(ReadOnlyPerson person);
+}
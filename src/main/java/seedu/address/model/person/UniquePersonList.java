@@ -1,7 +1,6 @@
 package seedu.address.model.person;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import seedu.address.commons.core.ListListener;
 import seedu.address.commons.util.CollectionUtil;
 import seedu.address.commons.exceptions.DuplicateDataException;
 
@@ -10,7 +9,7 @@ import java.util.*;
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
  *
- * Supports a minimal set of list operations.
+ * Supports a minimal set of list operations, and reports each change to the {@link ListListener}s added to it.
  *
  * @see Person#equals(Object)
  * @see CollectionUtil#elementsAreUnique(Collection)
@@ -32,7 +31,22 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public static class PersonNotFoundException extends Exception {}
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    /** Slots are renumbered once this many slots have been given out per person held */
+    private static final int SLOTS_PER_PERSON_TO_RENUMBER = 2;
+    /** Lists with at most this many slots given out are not renumbered */
+    private static final int MIN_SLOTS_TO_RENUMBER = 64;
+
+    private final ArrayList<Person> internalList = new ArrayList<>();
+    private final List<Person> unmodifiableView = Collections.unmodifiableList(internalList);
+    private final List<ListListener<? super Person>> listeners = new ArrayList<>();
+    /** The persons by their slot, null at the slots of removed persons */
+    private Person[] personsBySlot = new Person[16];
+    /** Number of slots given out since the slots were last numbered from 0 */
+    private int slotCount;
+    /** Number of times the slots have been numbered from 0 */
+    private int slotNumbering;
+    /** The persons in this list by name, for duplicate checks; null until the first check */
+    private Map<Name, List<Person>> personsByName;
 
     /**
      * Constructs empty PersonList.
@@ -41,41 +55,206 @@ public class UniquePersonList implements Iterable<Person> {
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
+     * Only the persons with the same name are compared.
      */
     public boolean contains(ReadOnlyPerson toCheck) {
         assert toCheck != null;
-        return internalList.contains(toCheck);
+        if (personsByName == null) {
+            personsByName = new HashMap<>();
+            for (Person person : internalList) {
+                addByName(person);
+            }
+        }
+        for (Person person : personsByName.getOrDefault(toCheck.getName(), Collections.emptyList())) {
+            if (toCheck.isSameStateAs(person)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void addByName(Person person) {
+        final List<Person> sameName = personsByName.get(person.getName());
+        if (sameName == null) {
+            personsByName.put(person.getName(), Collections.singletonList(person));
+        } else if (sameName.size() == 1) {
+            personsByName.put(person.getName(), new ArrayList<>(Arrays.asList(sameName.get(0), person)));
+        } else {
+            sameName.add(person);
+        }
+    }
+
+    private void removeByName(Person person) {
+        final List<Person> sameName = personsByName.get(person.getName());
+        if (sameName.size() == 1) {
+            personsByName.remove(person.getName());
+        } else {
+            sameName.removeIf(held -> held == person);
+        }
     }
 
     /**
-     * Adds a person to the list.
+     * Adds a person to the list, in the next slot. The person must not be held by another list.
      *
      * @throws DuplicatePersonException if the person to add is a duplicate of an existing person in the list.
      */
     public void add(Person toAdd) throws DuplicatePersonException {
-        assert toAdd != null;
+        assert toAdd != null && toAdd.slot < 0 : "a person is held by at most one list";
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        if (slotCount == personsBySlot.length) {
+            personsBySlot = Arrays.copyOf(personsBySlot, slotCount * 2);
+        }
+        toAdd.slot = slotCount++;
+        personsBySlot[toAdd.slot] = toAdd;
         internalList.add(toAdd);
+        addByName(toAdd);
+        final int index = internalList.size() - 1;
+        for (ListListener<? super Person> listener : listeners) {
+            listener.onAdded(index, toAdd);
+        }
     }
 
     /**
      * Removes the equivalent person from the list.
+     * A person held by this list is found by a binary search on its slot, without comparing it to other persons,
+     * and the slots of the other persons do not change. Its slot is only freed after the listeners are told.
      *
      * @throws PersonNotFoundException if no such person could be found in the list.
      */
     public boolean remove(ReadOnlyPerson toRemove) throws PersonNotFoundException {
         assert toRemove != null;
-        final boolean personFoundAndDeleted = internalList.remove(toRemove);
-        if (!personFoundAndDeleted) {
+        final int index = indexOf(toRemove);
+        if (index < 0) {
             throw new PersonNotFoundException();
         }
-        return personFoundAndDeleted;
+        final Person removed = internalList.remove(index);
+        if (personsByName != null) {
+            removeByName(removed);
+        }
+        for (ListListener<? super Person> listener : listeners) {
+            listener.onRemoved(index, removed);
+        }
+        personsBySlot[removed.slot] = null;
+        removed.slot = -1;
+        return true;
+    }
+
+    /**
+     * Returns the index of {@code person} in this list, or -1 if there is no equivalent person.
+     */
+    public int indexOf(ReadOnlyPerson person) {
+        if (person instanceof Person) {
+            final int slot = ((Person) person).slot;
+            if (slot >= 0 && slot < slotCount && personsBySlot[slot] == person) {
+                return indexOfSlot(internalList, slot);
+            }
+        }
+        return internalList.indexOf(person);
+    }
+
+    /**
+     * Returns the index of the person in {@code slot} among {@code persons}, which must be held by the same list and
+     * be in its order, or -1 if that person is not among them. Takes O(log n).
+     */
+    public static int indexOfSlot(List<? extends Person> persons, int slot) {
+        int low = 0;
+        int high = persons.size() - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int midSlot = persons.get(mid).slot;
+            if (midSlot < slot) {
+                low = mid + 1;
+            } else if (midSlot > slot) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the person in {@code slot}, or null if the slot is not held.
+     */
+    public Person getPersonInSlot(int slot) {
+        return slot >= 0 && slot < slotCount ? personsBySlot[slot] : null;
+    }
+
+    /**
+     * Returns the number of slots given out since they were last numbered from 0. Every person in this list has
+     * a smaller slot, and persons added later get larger ones.
+     */
+    public int getSlotCount() {
+        return slotCount;
+    }
+
+    /**
+     * Returns a number that changes whenever the slots are numbered from 0 again, after which slots noted
+     * earlier may belong to other persons.
+     */
+    public int getSlotNumbering() {
+        return slotNumbering;
+    }
+
+    /**
+     * Numbers the slots of the persons from 0 again, in the order of this list, if most of the slots given out are
+     * no longer held, so that bitsets keyed by slot stay dense. The order of the slots along the list is kept.
+     *
+     * @return true if the slots were renumbered, in which case any bitset keyed by the old slots is stale.
+     */
+    public boolean renumberSlotsIfSparse() {
+        if (slotCount <= MIN_SLOTS_TO_RENUMBER || slotCount < SLOTS_PER_PERSON_TO_RENUMBER * internalList.size()) {
+            return false;
+        }
+        numberSlots();
+        return true;
+    }
+
+    private void numberSlots() {
+        slotNumbering++;
+        slotCount = internalList.size();
+        personsBySlot = internalList.toArray(new Person[Math.max(16, slotCount)]);
+        for (int i = 0; i < slotCount; i++) {
+            personsBySlot[i].slot = i;
+        }
+    }
+
+    /**
+     * Replaces the persons in this list with {@code replacement}, which must not contain duplicates.
+     * The persons get the slots from 0 in order.
+     */
+    public void setPersons(Collection<? extends Person> replacement) {
+        CollectionUtil.assertNoNullElements(replacement);
+        final Person[] persons = replacement.toArray(new Person[0]); // in case replacement is a view of this list
+        for (Person person : internalList) {
+            person.slot = -1;
+        }
+        internalList.clear();
+        internalList.addAll(Arrays.asList(persons));
+        internalList.trimToSize();
+        personsByName = null;
+        numberSlots();
+        for (ListListener<? super Person> listener : listeners) {
+            listener.onReplaced();
+        }
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons in this list.
+     */
+    public List<Person> getInternalList() {
+        return unmodifiableView;
+    }
+
+    public void addListener(ListListener<? super Person> listener) {
+        assert listener != null;
+        listeners.add(listener);
     }
 
-    public ObservableList<Person> getInternalList() {
-        return internalList;
+    public void removeListener(ListListener<? super Person> listener) {
+        listeners.remove(listener);
     }
 
     @Override
@@ -0,0 +1,72 @@
+package seedu.address.model.query;
+
+import seedu.address.model.person.ReadOnlyPerson;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Matches persons satisfying all of its operands.
+ */
+public class AndExpression extends CompoundExpression {
+
+    public AndExpression(List<Expression> operands) {
+        super(operands);
+    }
+
+    @Override
+    String getOperator() {
+        return "AND";
+    }
+
+    @Override
+    boolean getShortCircuitValue() {
+        return false;
+    }
+
+    @Override
+    CompoundExpression withOperands(List<Expression> operands) {
+        return new AndExpression(operands);
+    }
+
+    @Override
+    public double estimateSelectivity(PersonIndex index) {
+        double selectivity = 1;
+        for (int i = 0; i < operands.size(); i++) {
+            selectivity *= getOperandSelectivity(i, index);
+        }
+        return selectivity;
+    }
+
+    /**
+     * Returns the sum of the ranks of the operands, as a person satisfying this expression satisfies all of them.
+     */
+    @Override
+    public double getRank(ReadOnlyPerson person) {
+        double rank = 0;
+        for (Expression operand : operands) {
+            rank += operand.getRank(person);
+        }
+        return rank;
+    }
+
+    /**
+     * Returns the intersection of the candidates of the operands that can be looked up in the index.
+     */
+    @Override
+    public BitSet findCandidates(PersonIndex index) {
+        BitSet candidates = null;
+        for (Expression operand : operands) {
+            final BitSet operandCandidates = operand.findCandidates(index);
+            if (operandCandidates == null) {
+                continue;
+            }
+            if (candidates == null) {
+                candidates = (BitSet) operandCandidates.clone();
+            } else {
+                candidates.and(operandCandidates);
+            }
+        }
+        return candidates;
+    }
+}
@@ -0,0 +1,128 @@
+package seedu.address.model.query;
+
+import seedu.address.model.person.ReadOnlyPerson;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * An AND or OR over a list of operands, evaluated in order and short-circuited.
+ */
+abstract class CompoundExpression implements Expression {
+
+    protected final List<Expression> operands;
+    /** The estimated selectivities of the operands, in their order, once ordered by {@link #optimize} */
+    private double[] operandSelectivities;
+
+    CompoundExpression(List<Expression> operands) {
+        assert !operands.isEmpty();
+        this.operands = Collections.unmodifiableList(new ArrayList<>(operands));
+    }
+
+    /** Returns the operator joining the operands in the normalized form of this expression */
+    abstract String getOperator();
+
+    /** Returns the value of this expression as soon as one of its operands has the given value */
+    abstract boolean getShortCircuitValue();
+
+    /** Returns an expression of the same kind over the given operands */
+    abstract CompoundExpression withOperands(List<Expression> operands);
+
+    /**
+     * Returns the fraction of the persons that have to be evaluated on the next operand after an operand with the
+     * given selectivity.
+     */
+    private double getPassRate(double selectivity) {
+        return getShortCircuitValue() ? 1 - selectivity : selectivity;
+    }
+
+    /**
+     * Returns the estimated selectivity of the operand at {@code i} among the persons in {@code index}, as estimated
+     * when the operands were ordered if they were.
+     */
+    protected double getOperandSelectivity(int i, PersonIndex index) {
+        return operandSelectivities != null ? operandSelectivities[i] : operands.get(i).estimateSelectivity(index);
+    }
+
+    @Override
+    public boolean satisfies(ReadOnlyPerson person) {
+        // a plain loop, as this runs against every person
+        final boolean shortCircuitValue = getShortCircuitValue();
+        for (Expression operand : operands) {
+            if (operand.satisfies(person) == shortCircuitValue) {
+                return shortCircuitValue;
+            }
+        }
+        return !shortCircuitValue;
+    }
+
+    /**
+     * Returns the expected cost of evaluating the operands in their current order, as later operands are only
+     * evaluated on the persons that earlier operands did not short-circuit. The operands pass on persons at the
+     * rate of the selectivities estimated by {@link #optimize}, or of their default selectivities before that.
+     */
+    @Override
+    public double getCost() {
+        double cost = 0;
+        double evaluatedFraction = 1;
+        for (int i = 0; i < operands.size(); i++) {
+            final Expression operand = operands.get(i);
+            cost += evaluatedFraction * operand.getCost();
+            evaluatedFraction *= getPassRate(operandSelectivities != null
+                    ? operandSelectivities[i]
+                    : operand.getDefaultSelectivity());
+        }
+        return cost;
+    }
+
+    /**
+     * Orders the operands so that the ones that are cheap and likely to short-circuit the evaluation come first.
+     * Sorting by cost over the chance of short-circuiting minimizes the expected cost of independent operands.
+     * The selectivity of each operand is estimated once, and kept for {@link #getCost()}.
+     */
+    @Override
+    public Expression optimize(PersonIndex index) {
+        final int count = operands.size();
+        final List<Expression> optimized = new ArrayList<>(count);
+        final double[] selectivities = new double[count];
+        final List<Integer> order = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            optimized.add(operands.get(i).optimize(index));
+            selectivities[i] = optimized.get(i).estimateSelectivity(index);
+            order.add(i);
+        }
+        order.sort(Comparator.comparingDouble(i -> optimized.get(i).getCost()
+                / Math.max(1 - getPassRate(selectivities[i]), Double.MIN_VALUE)));
+
+        final List<Expression> orderedOperands = new ArrayList<>(count);
+        final double[] orderedSelectivities = new double[count];
+        for (int i = 0; i < count; i++) {
+            orderedOperands.add(optimized.get(order.get(i)));
+            orderedSelectivities[i] = selectivities[order.get(i)];
+        }
+        final CompoundExpression ordered = withOperands(orderedOperands);
+        ordered.operandSelectivities = orderedSelectivities;
+        return ordered;
+    }
+
+    @Override
+    public boolean isRanked() {
+        for (Expression operand : operands) {
+            if (operand.isRanked()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return operands.stream()
+                .map(Expression::toString)
+                .sorted()
+                .collect(Collectors.joining(" " + getOperator() + " ", "(", ")"));
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.model.query;
+
+import seedu.address.model.person.ReadOnlyPerson;
+
+import java.util.BitSet;
+
+/**
+ * Matches persons with an email at a domain or one of its subdomains, ignoring case.
+ * Candidates are looked up in the email domain index of a {@link PersonIndex}, so only they need to be checked.
+ */
+public class EmailDomainExpression implements Expression {
+
+    public static final String PREFIX = FieldExpression.Field.EMAIL.prefix + "@";
+
+    private static final double COST = 1;
+    private static final double DEFAULT_SELECTIVITY = 0.05;
+
+    private final String domain;
+
+    public EmailDomainExpression(String domain) {
+        assert !domain.isEmpty();
+        this.domain = domain.toLowerCase();
+    }
+
+    @Override
+    public boolean satisfies(ReadOnlyPerson person) {
+        final String emailDomain = person.getEmail().getDomain();
+        return emailDomain.equals(domain) || emailDomain.endsWith("." + domain);
+    }
+
+    @Override
+    public double getCost() {
+        return COST;
+    }
+
+    @Override
+    public double getDefaultSelectivity() {
+        return DEFAULT_SELECTIVITY;
+    }
+
+    @Override
+    public BitSet findCandidates(PersonIndex index) {
+        return index.getPersonSlotsWithEmailDomain(domain);
+    }
+
+    @Override
+    public String toString() {
+        return PREFIX + domain;
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.model.query;
+
+import seedu.address.model.person.ReadOnlyPerson;
+
+import java.util.BitSet;
+
+/**
+ * A condition on persons, as compiled from a find query.
+ * Besides evaluating the condition on a person, an expression estimates how expensive and how selective that
+ * evaluation is, so that compound expressions can evaluate their cheapest and most selective parts first.
+ */
+public interface Expression {
+
+    /** Cost of evaluating an expression that does not estimate its own cost */
+    double DEFAULT_COST = 5;
+    /** Fraction of persons satisfying an expression that does not estimate its own selectivity */
+    double DEFAULT_SELECTIVITY = 0.5;
+
+    boolean satisfies(ReadOnlyPerson person);
+
+    /**
+     * Returns the estimated relative cost of evaluating {@link #satisfies(ReadOnlyPerson)} on one person.
+     */
+    default double getCost() {
+        return DEFAULT_COST;
+    }
+
+    /**
+     * Returns the estimated fraction of the persons in {@code index} satisfying this expression: the share of the
+     * persons left as {@link #findCandidates candidates}, or {@link #getDefaultSelectivity()} if there are none.
+     */
+    default double estimateSelectivity(PersonIndex index) {
+        final BitSet candidates = findCandidates(index);
+        if (candidates == null) {
+            return getDefaultSelectivity();
+        }
+        return index.size() == 0 ? 0 : (double) candidates.cardinality() / index.size();
+    }
+
+    /**
+     * Returns the estimated fraction of persons satisfying this expression, regardless of the persons searched.
+     */
+    default double getDefaultSelectivity() {
+        return DEFAULT_SELECTIVITY;
+    }
+
+    /**
+     * Returns the slots of a superset of the persons in {@code index} satisfying this expression, as found through
+     * the index without evaluating the expression on any person.
+     *
+     * @return null if every person is a candidate
+     */
+    default BitSet findCandidates(PersonIndex index) {
+        return null;
+    }
+
+    /**
+     * Returns an equivalent expression that evaluates its parts in the cheapest order for the persons in
+     * {@code index}.
+     */
+    default Expression optimize(PersonIndex index) {
+        return this;
+    }
+
+    /**
+     * Returns true if the persons satisfying this expression should be shown in the order of their
+     * {@link #getRank(ReadOnlyPerson)}, e.g. because they match it approximately.
+     */
+    default boolean isRanked() {
+        return false;
+    }
+
+    /**
+     * Returns how closely a person satisfying this expression matches it, lower being closer.
+     * Only meaningful if {@link #isRanked()}.
+     */
+    default double getRank(ReadOnlyPerson person) {
+        return 0;
+    }
+
+    /**
+     * Returns a normalized form of this expression. Equivalent find queries have the same normalized form,
+     * regardless of the case of their keywords and the order of their operands.
+     */
+    String toString();
+}
@@ -0,0 +1,90 @@
+package seedu.address.model.query;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.ReadOnlyPerson;
+
+import java.util.BitSet;
+
+/**
+ * Matches persons by a single keyword in one of their fields.
+ * Names and addresses match if they contain the keyword as a word, phones and emails match if they equal the
+ * keyword, and tags match if the person has a tag named by the keyword. All comparisons ignore case.
+ */
+public class FieldExpression implements Expression {
+
+    /**
+     * The person fields that can be searched, with the prefix selecting them in a find query and the estimated
+     * cost and selectivity of a match on them.
+     */
+    public enum Field {
+        NAME("n/", 4, 0.1),
+        PHONE("p/", 1, 0.01),
+        EMAIL("e/", 2, 0.01),
+        ADDRESS("a/", 6, 0.1),
+        TAG("t/", 1, 0.2);
+
+        public final String prefix;
+        final double cost;
+        final double selectivity;
+
+        Field(String prefix, double cost, double selectivity) {
+            this.prefix = prefix;
+            this.cost = cost;
+            this.selectivity = selectivity;
+        }
+    }
+
+    private final Field field;
+    private final String keyword;
+
+    public FieldExpression(Field field, String keyword) {
+        assert field != null && keyword != null;
+        this.field = field;
+        this.keyword = keyword;
+    }
+
+    @Override
+    public boolean satisfies(ReadOnlyPerson person) {
+        switch (field) {
+        case NAME:
+            return StringUtil.containsIgnoreCase(person.getName().fullName(), keyword);
+        case PHONE:
+            return person.getPhone().value().equals(keyword);
+        case EMAIL:
+            return person.getEmail().value().equalsIgnoreCase(keyword);
+        case ADDRESS:
+            return StringUtil.containsIgnoreCase(person.getAddress().value, keyword);
+        case TAG:
+            return person.hasTag(keyword);
+        default:
+            throw new AssertionError("Unknown field " + field);
+        }
+    }
+
+    @Override
+    public double getCost() {
+        return field.cost;
+    }
+
+    @Override
+    public double getDefaultSelectivity() {
+        return field.selectivity;
+    }
+
+    @Override
+    public BitSet findCandidates(PersonIndex index) {
+        switch (field) {
+        case PHONE:
+            return index.getPersonSlotsWithPhoneStartingWith(keyword);
+        case TAG:
+            return index.getPersonSlotsWithTag(keyword);
+        default:
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return field.prefix + keyword.toLowerCase();
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.model.query;
+
+import seedu.address.model.index.EditDistance;
+import seedu.address.model.person.ReadOnlyPerson;
+
+import java.util.BitSet;
+import java.util.Map;
+
+/**
+ * Matches persons with a word in their name within a small edit distance of a keyword, ignoring case.
+ * Matches are ranked by that distance.
+ * Once optimized for a {@link PersonIndex}, the name words within the distance are looked up in the index once,
+ * up front, so that matching a person only needs exact word lookups, and only the persons with one of those words
+ * are candidates.
+ */
+public class FuzzyNameExpression implements Expression {
+
+    public static final String PREFIX = "~";
+
+    /** Keywords up to this length match words one edit away, longer keywords match words two edits away */
+    private static final int MAX_LENGTH_FOR_ONE_EDIT = 4;
+    private static final double COST_WITH_INDEX = 3;
+    private static final double COST_WITHOUT_INDEX = 20;
+    private static final double DEFAULT_SELECTIVITY = 0.01;
+
+    private final String keyword;
+    private final int maxDistance;
+    /** The name words within {@link #maxDistance} of the keyword, mapped to their distance; null if not known */
+    private final Map<String, Integer> matchedWords;
+
+    public FuzzyNameExpression(String keyword) {
+        this(keyword.toLowerCase(), null);
+    }
+
+    private FuzzyNameExpression(String keyword, Map<String, Integer> matchedWords) {
+        assert !keyword.isEmpty();
+        this.keyword = keyword;
+        this.maxDistance = keyword.length() <= MAX_LENGTH_FOR_ONE_EDIT ? 1 : 2;
+        this.matchedWords = matchedWords;
+    }
+
+    @Override
+    public boolean satisfies(ReadOnlyPerson person) {
+        return getDistance(person) <= maxDistance;
+    }
+
+    /**
+     * Returns the smallest edit distance between the keyword and a word in the person's name,
+     * or {@code Integer.MAX_VALUE} if it is larger than {@link #maxDistance}.
+     */
+    private int getDistance(ReadOnlyPerson person) {
+        int distance = Integer.MAX_VALUE;
+        for (String word : person.getName().fullName().toLowerCase().split("\\s+")) {
+            final int wordDistance = matchedWords != null
+                    ? matchedWords.getOrDefault(word, Integer.MAX_VALUE)
+                    : EditDistance.between(keyword, word);
+            distance = Math.min(distance, wordDistance);
+        }
+        return distance <= maxDistance ? distance : Integer.MAX_VALUE;
+    }
+
+    @Override
+    public double getCost() {
+        return matchedWords != null ? COST_WITH_INDEX : COST_WITHOUT_INDEX;
+    }
+
+    @Override
+    public double getDefaultSelectivity() {
+        return DEFAULT_SELECTIVITY;
+    }
+
+    /**
+     * Returns the slots of the persons with one of the matched name words once optimized.
+     */
+    @Override
+    public BitSet findCandidates(PersonIndex index) {
+        return matchedWords == null ? null : index.getPersonSlotsWithNameWords(matchedWords.keySet());
+    }
+
+    @Override
+    public Expression optimize(PersonIndex index) {
+        return new FuzzyNameExpression(keyword, index.findNameWordsWithin(keyword, maxDistance));
+    }
+
+    @Override
+    public boolean isRanked() {
+        return true;
+    }
+
+    @Override
+    public double getRank(ReadOnlyPerson person) {
+        return getDistance(person);
+    }
+
+    @Override
+    public String toString() {
+        return PREFIX + keyword;
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.model.query;
+
+import seedu.address.model.person.ReadOnlyPerson;
+
+/**
+ * Matches persons not satisfying its operand.
+ */
+public class NotExpression implements Expression {
+
+    private final Expression operand;
+
+    public NotExpression(Expression operand) {
+        assert operand != null;
+        this.operand = operand;
+    }
+
+    @Override
+    public boolean satisfies(ReadOnlyPerson person) {
+        return !operand.satisfies(person);
+    }
+
+    @Override
+    public double getCost() {
+        return operand.getCost();
+    }
+
+    @Override
+    public double estimateSelectivity(PersonIndex index) {
+        return 1 - operand.estimateSelectivity(index);
+    }
+
+    @Override
+    public Expression optimize(PersonIndex index) {
+        return new NotExpression(operand.optimize(index));
+    }
+
+    @Override
+    public String toString() {
+        return "NOT " + operand;
+    }
+}
@@ -0,0 +1,70 @@
+package seedu.address.model.query;
+
+import seedu.address.model.person.ReadOnlyPerson;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Matches persons satisfying any of its operands.
+ */
+public class OrExpression extends CompoundExpression {
+
+    public OrExpression(List<Expression> operands) {
+        super(operands);
+    }
+
+    @Override
+    String getOperator() {
+        return "OR";
+    }
+
+    @Override
+    boolean getShortCircuitValue() {
+        return true;
+    }
+
+    @Override
+    CompoundExpression withOperands(List<Expression> operands) {
+        return new OrExpression(operands);
+    }
+
+    @Override
+    public double estimateSelectivity(PersonIndex index) {
+        double unmatched = 1;
+        for (int i = 0; i < operands.size(); i++) {
+            unmatched *= 1 - getOperandSelectivity(i, index);
+        }
+        return 1 - unmatched;
+    }
+
+    /**
+     * Returns the best rank among the operands the person satisfies.
+     */
+    @Override
+    public double getRank(ReadOnlyPerson person) {
+        double rank = Double.MAX_VALUE;
+        for (Expression operand : operands) {
+            if (operand.satisfies(person)) {
+                rank = Math.min(rank, operand.getRank(person));
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Returns the union of the candidates of the operands, if all of them can be looked up in the index.
+     */
+    @Override
+    public BitSet findCandidates(PersonIndex index) {
+        final BitSet candidates = new BitSet();
+        for (Expression operand : operands) {
+            final BitSet operandCandidates = operand.findCandidates(index);
+            if (operandCandidates == null) {
+                return null;
+            }
+            candidates.or(operandCandidates);
+        }
+        return candidates;
+    }
+}
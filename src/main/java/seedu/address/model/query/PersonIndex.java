@@ -0,0 +1,91 @@
+package seedu.address.model.query;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Indexes over the persons in an address book, used to evaluate {@link Expression}s without scanning every person.
+ * Persons are found as bitsets of their slots, the small numbers identifying them in the address book.
+ *
+ * @see seedu.address.model.person.Person#getSlot()
+ */
+public interface PersonIndex {
+
+    /** Returns the number of persons indexed */
+    int size();
+
+    /**
+     * Returns the slots of the persons with the given tag, ignoring case.
+     * The returned bitset must not be modified.
+     *
+     * @return null if the tag index is not available
+     */
+    BitSet getPersonSlotsWithTag(String tagName);
+
+    /**
+     * Returns the slots of the persons with a name word of the same Soundex code as {@code word}, or none if
+     * {@code word} has no code.
+     * The returned bitset must not be modified.
+     *
+     * @return null if the index is not available
+     */
+    BitSet getPersonSlotsWithNameSoundingLike(String word);
+
+    /**
+     * Returns the slots of the persons with a postal code from {@code from} to {@code to}, both inclusive, in their
+     * address. The returned bitset may be modified by the caller.
+     *
+     * @return null if the index is not available
+     */
+    BitSet getPersonSlotsWithPostalCodeBetween(int from, int to);
+
+    /**
+     * Returns the slots of the persons with an email at {@code domain} or one of its subdomains, ignoring case.
+     * The returned bitset may be modified by the caller.
+     *
+     * @return null if the index is not available
+     */
+    BitSet getPersonSlotsWithEmailDomain(String domain);
+
+    /**
+     * Returns the slots of the persons with a phone starting with {@code digits}.
+     * The returned bitset may be modified by the caller.
+     *
+     * @return null if the index is not available
+     */
+    BitSet getPersonSlotsWithPhoneStartingWith(String digits);
+
+    /**
+     * Returns the slots of a superset of the persons with a name, phone, email or address containing {@code fragment},
+     * ignoring case. The returned bitset may be modified by the caller.
+     *
+     * @return null if the index cannot narrow down the persons for this fragment
+     */
+    BitSet findPersonSlotsContaining(String fragment);
+
+    /**
+     * Returns the ids of the {@code limit} persons scoring highest against the given lower case terms with BM25,
+     * over the terms of their names, emails, addresses and tags. The ids are mapped to their scores and ordered
+     * from the highest score.
+     */
+    Map<Long, Double> findTopScoredPersons(Collection<String> terms, int limit);
+
+    /**
+     * Returns the slots of the persons with the given ids. Ids of no person are left out.
+     * The returned bitset may be modified by the caller.
+     */
+    BitSet getPersonSlotsWithIds(Collection<Long> ids);
+
+    /**
+     * Returns the slots of the persons with any of the given lower case words in their name.
+     * The returned bitset may be modified by the caller.
+     */
+    BitSet getPersonSlotsWithNameWords(Collection<String> words);
+
+    /**
+     * Returns the lower case words in the names of the persons within {@code maxDistance} edits of {@code word},
+     * mapped to their edit distance from it.
+     */
+    Map<String, Integer> findNameWordsWithin(String word, int maxDistance);
+}
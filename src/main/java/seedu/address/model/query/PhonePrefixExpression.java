@@ -0,0 +1,50 @@
+package seedu.address.model.query;
+
+import seedu.address.model.person.ReadOnlyPerson;
+
+import java.util.BitSet;
+
+/**
+ * Matches persons with a phone starting with some digits, such as an area code.
+ * Candidates are looked up in the phone index of a {@link PersonIndex}, so only they need to be checked.
+ */
+public class PhonePrefixExpression implements Expression {
+
+    public static final String PREFIX = FieldExpression.Field.PHONE.prefix;
+    /** Written after the digits, as in {@code p/6512*} */
+    public static final String WILDCARD = "*";
+
+    private static final double COST = 1;
+    private static final double DEFAULT_SELECTIVITY = 0.05;
+
+    private final String digits;
+
+    public PhonePrefixExpression(String digits) {
+        this.digits = digits;
+    }
+
+    @Override
+    public boolean satisfies(ReadOnlyPerson person) {
+        return person.getPhone().value().startsWith(digits);
+    }
+
+    @Override
+    public double getCost() {
+        return COST;
+    }
+
+    @Override
+    public double getDefaultSelectivity() {
+        return DEFAULT_SELECTIVITY;
+    }
+
+    @Override
+    public BitSet findCandidates(PersonIndex index) {
+        return index.getPersonSlotsWithPhoneStartingWith(digits);
+    }
+
+    @Override
+    public String toString() {
+        return PREFIX + digits + WILDCARD;
+    }
+}
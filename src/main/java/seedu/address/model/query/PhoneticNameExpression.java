@@ -0,0 +1,61 @@
+package seedu.address.model.query;
+
+import seedu.address.model.index.Soundex;
+import seedu.address.model.person.ReadOnlyPerson;
+
+import java.util.BitSet;
+
+/**
+ * Matches persons with a word in their name sounding like a keyword, i.e. with the same Soundex code.
+ * Candidates are looked up by that code in a {@link PersonIndex}, so only they need to be checked.
+ * Words without a code, such as numbers, sound like nothing, so a keyword without a code matches no person.
+ */
+public class PhoneticNameExpression implements Expression {
+
+    public static final String PREFIX = "~~";
+
+    private static final double COST = 6;
+    private static final double DEFAULT_SELECTIVITY = 0.01;
+
+    private final String keyword;
+    private final String code;
+
+    public PhoneticNameExpression(String keyword) {
+        assert !keyword.isEmpty();
+        this.keyword = keyword.toLowerCase();
+        this.code = Soundex.encode(keyword);
+    }
+
+    @Override
+    public boolean satisfies(ReadOnlyPerson person) {
+        if (code.isEmpty()) {
+            return false;
+        }
+        for (String word : person.getName().fullName().trim().split("\\s+")) {
+            if (Soundex.encode(word).equals(code)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public double getCost() {
+        return COST;
+    }
+
+    @Override
+    public double getDefaultSelectivity() {
+        return DEFAULT_SELECTIVITY;
+    }
+
+    @Override
+    public BitSet findCandidates(PersonIndex index) {
+        return index.getPersonSlotsWithNameSoundingLike(keyword);
+    }
+
+    @Override
+    public String toString() {
+        return PREFIX + keyword;
+    }
+}
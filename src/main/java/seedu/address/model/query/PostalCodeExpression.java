@@ -0,0 +1,69 @@
+package seedu.address.model.query;
+
+import seedu.address.model.person.ReadOnlyPerson;
+
+import java.util.BitSet;
+import java.util.OptionalInt;
+
+/**
+ * Matches persons with a postal code in a range in their address.
+ * Candidates are looked up in the postal code index of a {@link PersonIndex}, so only they need to be checked.
+ */
+public class PostalCodeExpression implements Expression {
+
+    public static final String PREFIX = FieldExpression.Field.ADDRESS.prefix + "postal:";
+    public static final int POSTAL_CODE_LENGTH = 6;
+
+    private static final double COST = 1;
+    private static final double DEFAULT_SELECTIVITY = 0.01;
+
+    private final int from;
+    private final int to;
+
+    /**
+     * Matches postal codes from {@code from} to {@code to}, both inclusive.
+     */
+    public PostalCodeExpression(int from, int to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Returns an expression matching the postal codes starting with the given digits.
+     */
+    public static PostalCodeExpression withPrefix(String digits) {
+        assert !digits.isEmpty() && digits.length() <= POSTAL_CODE_LENGTH;
+        int scale = 1;
+        for (int i = digits.length(); i < POSTAL_CODE_LENGTH; i++) {
+            scale *= 10;
+        }
+        final int prefix = Integer.parseInt(digits);
+        return new PostalCodeExpression(prefix * scale, (prefix + 1) * scale - 1);
+    }
+
+    @Override
+    public boolean satisfies(ReadOnlyPerson person) {
+        final OptionalInt postalCode = person.getAddress().getPostalCode();
+        return postalCode.isPresent() && postalCode.getAsInt() >= from && postalCode.getAsInt() <= to;
+    }
+
+    @Override
+    public double getCost() {
+        return COST;
+    }
+
+    @Override
+    public double getDefaultSelectivity() {
+        return DEFAULT_SELECTIVITY;
+    }
+
+    @Override
+    public BitSet findCandidates(PersonIndex index) {
+        return index.getPersonSlotsWithPostalCodeBetween(from, to);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s%06d-%06d", PREFIX, from, to);
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.model.query;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.ReadOnlyPerson;
+
+import java.util.BitSet;
+
+/**
+ * Matches persons with a name, phone, email or address containing a fragment, ignoring case.
+ * Candidates are looked up in the trigram index of a {@link PersonIndex}, so only they need to be checked.
+ */
+public class SubstringExpression implements Expression {
+
+    /** Written on both sides of a fragment, as in {@code *fragment*} */
+    public static final String WILDCARD = "*";
+
+    private static final double COST = 8;
+    private static final double DEFAULT_SELECTIVITY = 0.05;
+
+    private final String fragment;
+
+    public SubstringExpression(String fragment) {
+        assert !fragment.isEmpty();
+        this.fragment = fragment.toLowerCase();
+    }
+
+    @Override
+    public boolean satisfies(ReadOnlyPerson person) {
+        return StringUtil.containsFragmentIgnoreCase(person.getName().fullName(), fragment)
+                || StringUtil.containsFragmentIgnoreCase(person.getPhone().value(), fragment)
+                || StringUtil.containsFragmentIgnoreCase(person.getEmail().value(), fragment)
+                || StringUtil.containsFragmentIgnoreCase(person.getAddress().value, fragment);
+    }
+
+    @Override
+    public double getCost() {
+        return COST;
+    }
+
+    @Override
+    public double getDefaultSelectivity() {
+        return DEFAULT_SELECTIVITY;
+    }
+
+    @Override
+    public BitSet findCandidates(PersonIndex index) {
+        return index.findPersonSlotsContaining(fragment);
+    }
+
+    @Override
+    public String toString() {
+        return WILDCARD + fragment + WILDCARD;
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.address.model.query;
+
+import seedu.address.model.index.InvertedIndex;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Matches the persons scoring highest against some terms with BM25, over the terms of their names, emails,
+ * addresses and tags. Matches are ranked by their score.
+ * Once optimized for a {@link PersonIndex}, the best scored persons are looked up in the index up front, so that
+ * matching a person only needs an id lookup.
+ */
+public class TopScoredExpression implements Expression {
+
+    public static final String PREFIX = "top/";
+
+    private static final double COST_WITH_SCORES = 1;
+
+    private final SortedSet<String> terms;
+    private final int limit;
+    /** The ids of the best scored persons, mapped to their scores; null if not known */
+    private final Map<Long, Double> scores;
+
+    /**
+     * @param terms lower case terms, as split by {@link InvertedIndex#getTerms(String)}
+     * @param limit the number of persons to match
+     */
+    public TopScoredExpression(SortedSet<String> terms, int limit) {
+        this(terms, limit, null);
+    }
+
+    private TopScoredExpression(SortedSet<String> terms, int limit, Map<Long, Double> scores) {
+        assert !terms.isEmpty() && limit > 0;
+        this.terms = Collections.unmodifiableSortedSet(new TreeSet<>(terms));
+        this.limit = limit;
+        this.scores = scores;
+    }
+
+    /**
+     * Before optimization, matches the persons holding any of the terms.
+     */
+    @Override
+    public boolean satisfies(ReadOnlyPerson person) {
+        if (scores != null) {
+            return scores.containsKey(person.getId());
+        }
+        if (holdsTerm(person.getName().fullName()) || holdsTerm(person.getEmail().value())
+                || holdsTerm(person.getAddress().value)) {
+            return true;
+        }
+        for (Tag tag : person.getTags()) {
+            if (holdsTerm(tag.getTagName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean holdsTerm(String text) {
+        return InvertedIndex.getTerms(text).stream().anyMatch(terms::contains);
+    }
+
+    @Override
+    public double getCost() {
+        return scores != null ? COST_WITH_SCORES : DEFAULT_COST;
+    }
+
+    @Override
+    public double estimateSelectivity(PersonIndex index) {
+        return index.size() == 0 ? 0 : Math.min(1, (double) limit / index.size());
+    }
+
+    /**
+     * Returns the slots of the best scored persons once optimized.
+     */
+    @Override
+    public BitSet findCandidates(PersonIndex index) {
+        return scores == null ? null : index.getPersonSlotsWithIds(scores.keySet());
+    }
+
+    @Override
+    public Expression optimize(PersonIndex index) {
+        return new TopScoredExpression(terms, limit, index.findTopScoredPersons(terms, limit));
+    }
+
+    @Override
+    public boolean isRanked() {
+        return true;
+    }
+
+    @Override
+    public double getRank(ReadOnlyPerson person) {
+        return scores == null ? 0 : -scores.getOrDefault(person.getId(), 0.0);
+    }
+
+    @Override
+    public String toString() {
+        return PREFIX + limit + " " + String.join(" ", terms);
+    }
+}
@@ -1,8 +1,12 @@
 package seedu.address.model.tag;
 
 
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import seedu.address.commons.exceptions.IllegalValueException;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -11,11 +15,14 @@ public class Tag {
 
     public static final String MESSAGE_TAG_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String TAG_VALIDATION_REGEX = "\\p{Alnum}+";
+    private static final Pattern TAG_VALIDATION_PATTERN = Pattern.compile(TAG_VALIDATION_REGEX);
+    /**
+     * The canonical tag of each name in use, shared by all address books. A tag is dropped from it once no
+     * address book refers to it any more.
+     */
+    private static final Interner<Tag> CANONICAL_TAGS = Interners.newWeakInterner();
 
-    public String tagName;
-
-    public Tag() {
-    }
+    private final String tagName;
 
     /**
      * Validates given tag name.
@@ -31,11 +38,31 @@ public class Tag {
         this.tagName = name;
     }
 
+    /**
+     * Returns the canonical tag with the given name, after validating the name.
+     *
+     * @throws IllegalValueException if the given tag name string is invalid.
+     */
+    public static Tag of(String name) throws IllegalValueException {
+        return new Tag(name).intern();
+    }
+
+    /**
+     * Returns the canonical tag equal to this tag, which is this tag if there was none yet.
+     */
+    public Tag intern() {
+        return CANONICAL_TAGS.intern(this);
+    }
+
+    public String getTagName() {
+        return tagName;
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(TAG_VALIDATION_REGEX);
+        return TAG_VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -1,7 +1,5 @@
 package seedu.address.model.tag;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import seedu.address.commons.util.CollectionUtil;
 import seedu.address.commons.exceptions.DuplicateDataException;
 
@@ -26,7 +24,8 @@ public class UniqueTagList implements Iterable<Tag> {
         }
     }
 
-    private final ObservableList<Tag> internalList = FXCollections.observableArrayList();
+    /** Starts without spare capacity, as most persons have only a few tags */
+    private final List<Tag> internalList = new ArrayList<>(0);
 
     /**
      * Constructs empty TagList.
@@ -124,7 +123,7 @@ public class UniqueTagList implements Iterable<Tag> {
         return internalList.iterator();
     }
 
-    public ObservableList<Tag> getInternalList() {
+    public List<Tag> getInternalList() {
         return internalList;
     }
 
@@ -0,0 +1,439 @@
+package seedu.address.storage;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonRecords;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.UniqueTagList;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable address book read from a file mapped into memory, so that the persons stay off the heap and the
+ * operating system pages them in as they are read. Opening a book reads its header, records, tag ids and tag table
+ * to check that they fit the file, but not the text of the persons.
+ * <p>
+ * The file holds, in this order:
+ * <ul>
+ * <li>a header: magic number, version, number of persons, number of tags and number of tags of the book itself
+ * as ints, then the number of tag ids and the size of the heap as longs</li>
+ * <li>a record of {@link #RECORD_SIZE} bytes per person: its id, the heap offset of its text and the index of its
+ * first tag id as longs, then the lengths of its name, phone, email and address and its number of tags as ints</li>
+ * <li>the tag ids of every person, as ints indexing the tag table</li>
+ * <li>the heap: the UTF-8 text of the name, phone, email and address of every person, one after another, and the
+ * names of the tags</li>
+ * <li>the tag table: the heap offset as a long and the length as an int of the name of every tag. The tags of the
+ * book itself come first.</li>
+ * </ul>
+ * Each section is mapped in chunks, so a file may be larger than 2 GB.
+ * <p>
+ * Persons are exposed as persons backed by their records, which decode a field from the file the first time it is
+ * read.
+ */
+public class MappedAddressBook implements ReadOnlyAddressBook, PersonRecords {
+
+    static final int MAGIC = 0x4142_4D31; // "ABM1"
+    static final int VERSION = 2;
+    static final int HEADER_SIZE = 5 * Integer.BYTES + 2 * Long.BYTES;
+    static final int RECORD_SIZE = 3 * Long.BYTES + 5 * Integer.BYTES;
+    static final int TAG_ENTRY_SIZE = Long.BYTES + Integer.BYTES;
+
+    private static final int TEXT_START = Long.BYTES;
+    private static final int TAG_IDS_START = 2 * Long.BYTES;
+    private static final int FIELD_LENGTHS = 3 * Long.BYTES;
+    private static final int TAG_COUNT = FIELD_LENGTHS + FIELD_COUNT * Integer.BYTES;
+    /** Size of the buffers used to write each section of a file */
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+
+    private final int size;
+    private final MappedSection records;
+    private final MappedSection tagIds;
+    private final MappedSection heap;
+    private final Tag[] tagTable;
+    private final List<Tag> tags;
+
+    private MappedAddressBook(int size, MappedSection records, MappedSection tagIds, MappedSection heap,
+                              Tag[] tagTable, int bookTagCount) {
+        this.size = size;
+        this.records = records;
+        this.tagIds = tagIds;
+        this.heap = heap;
+        this.tagTable = tagTable;
+        this.tags = Collections.unmodifiableList(Arrays.asList(tagTable).subList(0, bookTagCount));
+    }
+
+    /**
+     * Maps the address book in the file at {@code path} into memory.
+     *
+     * @throws DataConversionException if the file is not a mapped address book, or its sections do not fit in it.
+     * @throws IOException if the file cannot be read.
+     */
+    public static MappedAddressBook open(Path path) throws DataConversionException, IOException {
+        return open(path, MappedSection.DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Maps the address book in the file at {@code path} into memory, in chunks of {@code chunkSize} bytes.
+     */
+    static MappedAddressBook open(Path path, int chunkSize) throws DataConversionException, IOException {
+        assert path != null;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // keep reading until the header is full or the file ends
+            }
+            header.flip();
+            if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC) {
+                throw new DataConversionException(new IllegalValueException(path + " is not a mapped address book"));
+            }
+            final int version = header.getInt();
+            if (version != VERSION) {
+                throw new DataConversionException(
+                        new IllegalValueException("Unsupported mapped address book version " + version));
+            }
+            final int size = header.getInt();
+            final int tagCount = header.getInt();
+            final int bookTagCount = header.getInt();
+            final long tagIdCount = header.getLong();
+            final long heapSize = header.getLong();
+
+            final long fileSize = channel.size();
+            if (size < 0 || tagCount < 0 || bookTagCount < 0 || bookTagCount > tagCount
+                    || tagIdCount < 0 || tagIdCount > fileSize / Integer.BYTES || heapSize < 0 || heapSize > fileSize
+                    || fileSize != HEADER_SIZE + (long) size * RECORD_SIZE + tagIdCount * Integer.BYTES + heapSize
+                            + (long) tagCount * TAG_ENTRY_SIZE) {
+                throw corrupted(path, "its header does not match its size");
+            }
+            final long tagIdsStart = HEADER_SIZE + (long) size * RECORD_SIZE;
+            final long heapStart = tagIdsStart + tagIdCount * Integer.BYTES;
+            final MappedSection records = new MappedSection(channel, HEADER_SIZE, (long) size * RECORD_SIZE,
+                    roundDown(chunkSize, RECORD_SIZE));
+            final MappedSection tagIds = new MappedSection(channel, tagIdsStart, tagIdCount * Integer.BYTES,
+                    roundDown(chunkSize, Integer.BYTES));
+            final MappedSection heap = new MappedSection(channel, heapStart, heapSize, chunkSize);
+            final MappedSection tagTableSection = new MappedSection(channel, heapStart + heapSize,
+                    (long) tagCount * TAG_ENTRY_SIZE, roundDown(chunkSize, TAG_ENTRY_SIZE));
+
+            final Tag[] tagTable = readTagTable(path, tagTableSection, tagCount, heap);
+            checkRecords(path, records, size, tagIdCount, heapSize);
+            checkTagIds(path, tagIds, tagIdCount, tagCount);
+            return new MappedAddressBook(size, records, tagIds, heap, tagTable, bookTagCount);
+        }
+    }
+
+    /**
+     * Returns the largest positive multiple of {@code unit} that is at most {@code chunkSize}, so that the entries
+     * of a section do not straddle its chunks.
+     */
+    private static int roundDown(int chunkSize, int unit) {
+        return Math.max(unit, chunkSize / unit * unit);
+    }
+
+    private static DataConversionException corrupted(Path path, String reason) {
+        return new DataConversionException(new IllegalValueException(path + " is corrupted: " + reason));
+    }
+
+    private static Tag[] readTagTable(Path path, MappedSection tagTableSection, int tagCount, MappedSection heap)
+            throws DataConversionException {
+        final Tag[] tagTable = new Tag[tagCount];
+        for (int i = 0; i < tagCount; i++) {
+            final long start = tagTableSection.getLong((long) i * TAG_ENTRY_SIZE);
+            final int length = tagTableSection.getInt((long) i * TAG_ENTRY_SIZE + Long.BYTES);
+            if (start < 0 || length < 0 || start > heap.size() - length) {
+                throw corrupted(path, "the name of tag " + i + " is outside of the heap");
+            }
+            try {
+                tagTable[i] = Tag.of(decode(heap, start, length));
+            } catch (IllegalValueException ive) {
+                throw new DataConversionException(ive);
+            }
+        }
+        return tagTable;
+    }
+
+    private static void checkRecords(Path path, MappedSection records, int size, long tagIdCount, long heapSize)
+            throws DataConversionException {
+        for (int i = 0; i < size; i++) {
+            final long recordStart = (long) i * RECORD_SIZE;
+            final long textStart = records.getLong(recordStart + TEXT_START);
+            long textLength = 0;
+            for (int field = 0; field < FIELD_COUNT; field++) {
+                final int fieldLength = records.getInt(recordStart + FIELD_LENGTHS + field * Integer.BYTES);
+                if (fieldLength < 0) {
+                    throw corrupted(path, "person " + i + " has a negative field length");
+                }
+                textLength += fieldLength;
+            }
+            if (textStart < 0 || textStart > heapSize - textLength) {
+                throw corrupted(path, "the text of person " + i + " is outside of the heap");
+            }
+            final long firstTagId = records.getLong(recordStart + TAG_IDS_START);
+            final int tagCount = records.getInt(recordStart + TAG_COUNT);
+            if (firstTagId < 0 || tagCount < 0 || firstTagId > tagIdCount - tagCount) {
+                throw corrupted(path, "the tags of person " + i + " are outside of the tag ids");
+            }
+        }
+    }
+
+    private static void checkTagIds(Path path, MappedSection tagIds, long tagIdCount, int tagCount)
+            throws DataConversionException {
+        for (long i = 0; i < tagIdCount; i++) {
+            final int tagId = tagIds.getInt(i * Integer.BYTES);
+            if (tagId < 0 || tagId >= tagCount) {
+                throw corrupted(path, "tag id " + tagId + " is not in the tag table");
+            }
+        }
+    }
+
+    /**
+     * Writes the persons and tags in {@code source}, keeping the ids of the persons, to the file at {@code path}
+     * in the layout read by {@link #open(Path)}. The file is created or replaced.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    public static void write(ReadOnlyAddressBook source, Path path) throws IOException {
+        assert source != null && path != null;
+        final List<ReadOnlyPerson> persons = source.getPersonList();
+        long tagIdCount = 0;
+        for (ReadOnlyPerson person : persons) {
+            tagIdCount += person.getTags().getInternalList().size();
+        }
+        final long tagIdsStart = HEADER_SIZE + (long) persons.size() * RECORD_SIZE;
+        final long heapStart = tagIdsStart + tagIdCount * Integer.BYTES;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            final SectionWriter records = new SectionWriter(channel, HEADER_SIZE);
+            final SectionWriter tagIds = new SectionWriter(channel, tagIdsStart);
+            final SectionWriter heap = new SectionWriter(channel, heapStart);
+            final List<Tag> tagTable = new ArrayList<>(source.getTagList());
+            final Map<Tag, Integer> tagTableIndexes = new HashMap<>();
+            for (Tag tag : tagTable) {
+                tagTableIndexes.putIfAbsent(tag, tagTableIndexes.size());
+            }
+
+            long firstTagId = 0;
+            for (ReadOnlyPerson person : persons) {
+                final UniqueTagList personTags = person.getTags();
+                records.putLong(person.getId());
+                records.putLong(heap.getOffset());
+                records.putLong(firstTagId);
+                records.putInt(heap.putText(person.getName().fullName()));
+                records.putInt(heap.putText(person.getPhone().value()));
+                records.putInt(heap.putText(person.getEmail().value()));
+                records.putInt(heap.putText(person.getAddress().value));
+                records.putInt(personTags.getInternalList().size());
+                for (Tag tag : personTags) {
+                    tagIds.putInt(tagTableIndexes.computeIfAbsent(tag, newTag -> {
+                        tagTable.add(newTag);
+                        return tagTable.size() - 1;
+                    }));
+                }
+                firstTagId += personTags.getInternalList().size();
+            }
+
+            final long[] tagNameStarts = new long[tagTable.size()];
+            final int[] tagNameLengths = new int[tagTable.size()];
+            for (int i = 0; i < tagTable.size(); i++) {
+                tagNameStarts[i] = heap.getOffset();
+                tagNameLengths[i] = heap.putText(tagTable.get(i).getTagName());
+            }
+            final SectionWriter tagTableWriter = new SectionWriter(channel, heapStart + heap.getOffset());
+            for (int i = 0; i < tagTable.size(); i++) {
+                tagTableWriter.putLong(tagNameStarts[i]);
+                tagTableWriter.putInt(tagNameLengths[i]);
+            }
+
+            final SectionWriter header = new SectionWriter(channel, 0);
+            header.putInt(MAGIC);
+            header.putInt(VERSION);
+            header.putInt(persons.size());
+            header.putInt(tagTable.size());
+            header.putInt(source.getTagList().size());
+            header.putLong(tagIdCount);
+            header.putLong(heap.getOffset());
+
+            records.flush();
+            tagIds.flush();
+            heap.flush();
+            tagTableWriter.flush();
+            header.flush();
+        }
+    }
+
+    /**
+     * Writes one section of a file through a buffer, starting at a fixed position.
+     */
+    private static class SectionWriter {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+        private long position;
+        private long offset;
+
+        SectionWriter(FileChannel channel, long position) {
+            this.channel = channel;
+            this.position = position;
+        }
+
+        /** Returns the number of bytes put into this section so far. */
+        long getOffset() {
+            return offset;
+        }
+
+        void putLong(long value) throws IOException {
+            ensureRemaining(Long.BYTES);
+            buffer.putLong(value);
+            offset += Long.BYTES;
+        }
+
+        void putInt(int value) throws IOException {
+            ensureRemaining(Integer.BYTES);
+            buffer.putInt(value);
+            offset += Integer.BYTES;
+        }
+
+        /** Puts the UTF-8 encoding of {@code text} and returns its length in bytes. */
+        int putText(String text) throws IOException {
+            final byte[] encoded = text.getBytes(StandardCharsets.UTF_8);
+            int written = 0;
+            while (written < encoded.length) {
+                ensureRemaining(1);
+                final int length = Math.min(buffer.remaining(), encoded.length - written);
+                buffer.put(encoded, written, length);
+                written += length;
+            }
+            offset += encoded.length;
+            return encoded.length;
+        }
+
+        private void ensureRemaining(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            buffer.clear();
+        }
+    }
+
+    private static String decode(MappedSection section, long start, int length) {
+        return new String(section.getBytes(start, length), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the number of persons in this address book.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long getId(int record) {
+        return records.getLong(getRecordStart(record));
+    }
+
+    @Override
+    public String getFieldText(int record, int field) {
+        final long recordStart = getRecordStart(record);
+        long start = records.getLong(recordStart + TEXT_START);
+        for (int i = 0; i < field; i++) {
+            start += getFieldLength(recordStart, i);
+        }
+        return decode(heap, start, getFieldLength(recordStart, field));
+    }
+
+    private int getFieldLength(long recordStart, int field) {
+        return records.getInt(recordStart + FIELD_LENGTHS + field * Integer.BYTES);
+    }
+
+    @Override
+    public int getTagCount(int record) {
+        return records.getInt(getRecordStart(record) + TAG_COUNT);
+    }
+
+    @Override
+    public Tag getTag(int record, int i) {
+        final long tagId = records.getLong(getRecordStart(record) + TAG_IDS_START) + i;
+        return tagTable[tagIds.getInt(tagId * Integer.BYTES)];
+    }
+
+    private static long getRecordStart(int record) {
+        return (long) record * RECORD_SIZE;
+    }
+
+    /**
+     * Returns a new list of persons backed by the records of this book. Only the ids are read from the file here,
+     * and each other field of a person when it is first used.
+     */
+    @Override
+    public UniquePersonList getUniquePersonList() {
+        final List<Person> persons = new ArrayList<>(size);
+        for (int record = 0; record < size; record++) {
+            persons.add(new Person(this, record));
+        }
+        final UniquePersonList personList = new UniquePersonList();
+        personList.setPersons(persons);
+        return personList;
+    }
+
+    @Override
+    public UniqueTagList getUniqueTagList() {
+        try {
+            return new UniqueTagList(tags);
+        } catch (UniqueTagList.DuplicateTagException dte) {
+            throw new AssertionError("Stored tags are unique", dte);
+        }
+    }
+
+    /**
+     * Returns persons backed by the records of this book, created as they are read.
+     */
+    @Override
+    public List<ReadOnlyPerson> getPersonList() {
+        return new AbstractList<ReadOnlyPerson>() {
+            @Override
+            public ReadOnlyPerson get(int index) {
+                if (index < 0 || index >= size) {
+                    throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+                }
+                return new Person(MappedAddressBook.this, index);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public List<Tag> getTagList() {
+        return tags;
+    }
+
+    @Override
+    public String toString() {
+        return size + " persons, " + tags.size() + " tags";
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.storage;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+/**
+ * A class to access AddressBook data stored as a {@link MappedAddressBook} file on the hard disk.
+ */
+public class MappedAddressBookStorage implements AddressBookStorage {
+
+    /** Extension of the address book files stored by this class */
+    public static final String FILE_EXTENSION = ".abm";
+
+    private static final Logger logger = LogsCenter.getLogger(MappedAddressBookStorage.class);
+
+    private String filePath;
+
+    public MappedAddressBookStorage(String filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns true if the address book file at {@code filePath} is one stored by this class.
+     */
+    public static boolean isMappedFile(String filePath) {
+        return filePath.endsWith(FILE_EXTENSION);
+    }
+
+    @Override
+    public String getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(String filePath) throws DataConversionException, IOException {
+        assert filePath != null;
+
+        File addressBookFile = new File(filePath);
+
+        if (!addressBookFile.exists()) {
+            logger.info("AddressBook file " + addressBookFile + " not found");
+            return Optional.empty();
+        }
+
+        return Optional.of(MappedAddressBook.open(addressBookFile.toPath()));
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * The book is written to a temporary file that then replaces the file at {@code filePath}, so that a book
+     * still mapped from that file keeps reading its old content.
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
+        assert addressBook != null;
+        assert filePath != null;
+
+        File file = new File(filePath);
+        FileUtil.createParentDirsOfFile(file);
+        Path target = file.toPath().toAbsolutePath();
+        Path temporary = Files.createTempFile(target.getParent(), file.getName(), ".tmp");
+        try {
+            MappedAddressBook.write(addressBook, temporary);
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+}
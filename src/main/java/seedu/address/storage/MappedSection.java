@@ -0,0 +1,72 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A read-only section of a file mapped into memory in chunks, so that the section can be larger than the 2 GB a
+ * single {@link MappedByteBuffer} can hold. Positions are relative to the start of the section.
+ * <p>
+ * Each chunk also maps the first {@link #OVERLAP} bytes of the next chunk, so that an int or a long is always read
+ * from a single chunk. Reads are absolute and may be made from several threads.
+ */
+class MappedSection {
+
+    /** Size of the chunks the sections of a file are mapped in */
+    static final int DEFAULT_CHUNK_SIZE = 1 << 30;
+    private static final int OVERLAP = Long.BYTES;
+
+    private final MappedByteBuffer[] chunks;
+    private final int chunkSize;
+    private final long size;
+
+    /**
+     * Maps the {@code size} bytes of {@code channel} from {@code start}, in chunks of {@code chunkSize} bytes.
+     */
+    MappedSection(FileChannel channel, long start, long size, int chunkSize) throws IOException {
+        assert start >= 0 && size >= 0 && chunkSize > 0;
+        this.chunkSize = chunkSize;
+        this.size = size;
+        this.chunks = new MappedByteBuffer[(int) ((size + chunkSize - 1) / chunkSize)];
+        for (int i = 0; i < chunks.length; i++) {
+            final long chunkStart = (long) i * chunkSize;
+            final long length = Math.min(size - chunkStart, (long) chunkSize + OVERLAP);
+            chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, start + chunkStart, length);
+        }
+    }
+
+    /**
+     * Returns the number of bytes in this section.
+     */
+    long size() {
+        return size;
+    }
+
+    int getInt(long position) {
+        return chunks[(int) (position / chunkSize)].getInt((int) (position % chunkSize));
+    }
+
+    long getLong(long position) {
+        return chunks[(int) (position / chunkSize)].getLong((int) (position % chunkSize));
+    }
+
+    /**
+     * Returns the {@code length} bytes from {@code position}, which may span several chunks.
+     */
+    byte[] getBytes(long position, int length) {
+        final byte[] bytes = new byte[length];
+        int copied = 0;
+        while (copied < length) {
+            final long chunkPosition = position + copied;
+            // reads through a duplicate so that concurrent readers do not share a position
+            final ByteBuffer chunk = chunks[(int) (chunkPosition / chunkSize)].duplicate();
+            chunk.position((int) (chunkPosition % chunkSize));
+            final int count = Math.min(length - copied, chunk.remaining());
+            chunk.get(bytes, copied, count);
+            copied += count;
+        }
+        return bytes;
+    }
+}
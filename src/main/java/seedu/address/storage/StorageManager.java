@@ -29,8 +29,15 @@ public class StorageManager extends ComponentManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Stores the address book in the mapped format if its file has the {@link MappedAddressBookStorage#FILE_EXTENSION}
+     * extension, and as XML otherwise.
+     */
     public StorageManager(String addressBookFilePath, String userPrefsFilePath) {
-        this(new XmlAddressBookStorage(addressBookFilePath), new JsonUserPrefsStorage(userPrefsFilePath));
+        this(MappedAddressBookStorage.isMappedFile(addressBookFilePath)
+                        ? new MappedAddressBookStorage(addressBookFilePath)
+                        : new XmlAddressBookStorage(addressBookFilePath),
+                new JsonUserPrefsStorage(userPrefsFilePath));
     }
 
     // ================ UserPrefs methods ==============================
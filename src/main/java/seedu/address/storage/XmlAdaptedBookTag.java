@@ -0,0 +1,40 @@
+package seedu.address.storage;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.tag.Tag;
+
+import javax.xml.bind.annotation.XmlElement;
+
+/**
+ * JAXB-friendly adapted version of a Tag in the master tag list of an address book, stored as a
+ * {@code tagName} element as the Tag itself used to be.
+ */
+public class XmlAdaptedBookTag {
+
+    @XmlElement
+    public String tagName;
+
+    /**
+     * No-arg constructor for JAXB use.
+     */
+    public XmlAdaptedBookTag() {}
+
+    /**
+     * Converts a given Tag into this class for JAXB use.
+     *
+     * @param source future changes to this will not affect the created
+     */
+    public XmlAdaptedBookTag(Tag source) {
+        tagName = source.getTagName();
+    }
+
+    /**
+     * Converts this jaxb-friendly adapted tag object into the model's Tag object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted tag
+     */
+    public Tag toModelType() throws IllegalValueException {
+        return Tag.of(tagName);
+    }
+
+}
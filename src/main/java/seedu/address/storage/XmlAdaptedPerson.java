@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ColumnarAddressBook;
 import seedu.address.model.person.*;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.UniqueTagList;
@@ -14,6 +15,8 @@ import java.util.List;
  */
 public class XmlAdaptedPerson {
 
+    @XmlElement
+    private Long id;
     @XmlElement(required = true)
     private String name;
     @XmlElement(required = true)
@@ -38,9 +41,10 @@ public class XmlAdaptedPerson {
      * @param source future changes to this will not affect the created XmlAdaptedPerson
      */
     public XmlAdaptedPerson(ReadOnlyPerson source) {
-        name = source.getName().fullName;
-        phone = source.getPhone().value;
-        email = source.getEmail().value;
+        id = source.getId() == ReadOnlyPerson.UNASSIGNED_ID ? null : source.getId();
+        name = source.getName().fullName();
+        phone = source.getPhone().value();
+        email = source.getEmail().value();
         address = source.getAddress().value;
         tagged = new ArrayList<>();
         for (Tag tag : source.getTags()) {
@@ -63,6 +67,43 @@ public class XmlAdaptedPerson {
         final Email email = new Email(this.email);
         final Address address = new Address(this.address);
         final UniqueTagList tags = new UniqueTagList(personTags);
-        return new Person(name, phone, email, address, tags);
+        final Person person = new Person(name, phone, email, address, tags);
+        if (id != null) {
+            person.setId(id);
+        }
+        return person;
+    }
+
+    /**
+     * Checks this adapted person against the constraints of the model like {@link #toModelType()}, and appends its
+     * record to {@code records}, without building the model's Person or its fields.
+     *
+     * @return false if {@code records} already holds a person with the same details, in which case it is not added.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person
+     */
+    public boolean addTo(ColumnarAddressBook.Builder records) throws IllegalValueException {
+        final List<Tag> personTags = new ArrayList<>();
+        for (XmlAdaptedTag tag : tagged) {
+            personTags.add(tag.toModelType());
+        }
+        final UniqueTagList tags = new UniqueTagList(personTags);
+        // trimmed like the constructors of the fields do
+        final String name = this.name.trim();
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_NAME_CONSTRAINTS);
+        }
+        final String phone = this.phone.trim();
+        if (!Phone.isValidPhone(phone)) {
+            throw new IllegalValueException(Phone.MESSAGE_PHONE_CONSTRAINTS);
+        }
+        final String email = this.email.trim();
+        if (!Email.isValidEmail(email)) {
+            throw new IllegalValueException(Email.MESSAGE_EMAIL_CONSTRAINTS);
+        }
+        if (!Address.isValidAddress(address)) {
+            throw new IllegalValueException(Address.MESSAGE_ADDRESS_CONSTRAINTS);
+        }
+        return records.add(id == null ? ReadOnlyPerson.UNASSIGNED_ID : id, name, phone, email, address,
+                tags.getInternalList());
     }
 }
@@ -24,7 +24,7 @@ public class XmlAdaptedTag {
      * @param source future changes to this will not affect the created
      */
     public XmlAdaptedTag(Tag source) {
-        tagName = source.tagName;
+        tagName = source.getTagName();
     }
 
     /**
@@ -33,7 +33,7 @@ public class XmlAdaptedTag {
      * @throws IllegalValueException if there were any data constraints violated in the adapted person
      */
     public Tag toModelType() throws IllegalValueException {
-        return new Tag(tagName);
+        return Tag.of(tagName);
     }
 
 }
@@ -1,8 +1,10 @@
 package seedu.address.storage;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.UniqueTagList;
+import seedu.address.model.ColumnarAddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.person.UniquePersonList;
@@ -12,6 +14,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 /**
@@ -20,10 +23,17 @@ import java.util.stream.Collectors;
 @XmlRootElement(name = "addressbook")
 public class XmlSerializableAddressBook implements ReadOnlyAddressBook {
 
+    private static final Logger logger = LogsCenter.getLogger(XmlSerializableAddressBook.class);
+
     @XmlElement
     private List<XmlAdaptedPerson> persons;
     @XmlElement
-    private List<Tag> tags;
+    private List<XmlAdaptedBookTag> tags;
+
+    /** The valid records of the persons, copied into columns on first use */
+    private ColumnarAddressBook records;
+    /** The valid tags of the master tag list, converted on first use */
+    private List<Tag> convertedTags;
 
     {
         persons = new ArrayList<>();
@@ -40,49 +50,73 @@ public class XmlSerializableAddressBook implements ReadOnlyAddressBook {
      */
     public XmlSerializableAddressBook(ReadOnlyAddressBook src) {
         persons.addAll(src.getPersonList().stream().map(XmlAdaptedPerson::new).collect(Collectors.toList()));
-        tags = src.getTagList();
+        tags.addAll(src.getTagList().stream().map(XmlAdaptedBookTag::new).collect(Collectors.toList()));
     }
 
     @Override
     public UniqueTagList getUniqueTagList() {
         try {
-            return new UniqueTagList(tags);
+            return new UniqueTagList(getTagList());
         } catch (UniqueTagList.DuplicateTagException e) {
-            //TODO: better error handling
-            e.printStackTrace();
+            logger.warning("Duplicate tag in the master tag list: " + e.getMessage());
             return null;
         }
     }
 
+    /**
+     * Returns a new list of the persons, which the caller owns, so that the list can be adopted by an
+     * {@link seedu.address.model.AddressBook} without copying the persons again.
+     * The persons are backed by their records, and their fields are only built when first read.
+     */
     @Override
     public UniquePersonList getUniquePersonList() {
-        UniquePersonList lists = new UniquePersonList();
-        for (XmlAdaptedPerson p : persons) {
-            try {
-                lists.add(p.toModelType());
-            } catch (IllegalValueException e) {
-                //TODO: better error handling
-            }
-        }
-        return lists;
+        return getRecords().getUniquePersonList();
     }
 
+    /**
+     * Returns the persons, backed by their records.
+     */
     @Override
     public List<ReadOnlyPerson> getPersonList() {
-        return persons.stream().map(p -> {
-            try {
-                return p.toModelType();
-            } catch (IllegalValueException e) {
-                e.printStackTrace();
-                //TODO: better error handling
-                return null;
+        return getRecords().getPersonList();
+    }
+
+    /**
+     * Copies the records of the persons into a columnar address book, checking them against the constraints of
+     * the model. Records that violate them and duplicate persons are left out.
+     */
+    private ColumnarAddressBook getRecords() {
+        if (records == null) {
+            final ColumnarAddressBook.Builder builder = new ColumnarAddressBook.Builder();
+            for (int i = 0; i < persons.size(); i++) {
+                try {
+                    persons.get(i).addTo(builder);
+                } catch (IllegalValueException e) {
+                    logger.warning("Invalid person record " + (i + 1) + ": " + e.getMessage());
+                }
             }
-        }).collect(Collectors.toCollection(ArrayList::new));
+            records = builder.build(getTagList());
+        }
+        return records;
     }
 
+    /**
+     * Returns the tags of the master tag list. Tags that violate the constraints of the model are left out.
+     */
     @Override
     public List<Tag> getTagList() {
-        return Collections.unmodifiableList(tags);
+        if (convertedTags == null) {
+            final List<Tag> converted = new ArrayList<>(tags.size());
+            for (XmlAdaptedBookTag tag : tags) {
+                try {
+                    converted.add(tag.toModelType());
+                } catch (IllegalValueException e) {
+                    logger.warning("Skipping invalid tag " + tag.tagName + ": " + e.getMessage());
+                }
+            }
+            convertedTags = Collections.unmodifiableList(converted);
+        }
+        return convertedTags;
     }
 
 }
@@ -1,23 +1,39 @@
 package seedu.address.ui;
 
 import com.google.common.eventbus.Subscribe;
+import javafx.animation.PauseTransition;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
 import javafx.scene.Node;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.SplitPane;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.AnchorPane;
 import javafx.stage.Stage;
+import javafx.util.Duration;
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.events.model.SearchProgressEvent;
 import seedu.address.commons.events.ui.IncorrectCommandAttemptedEvent;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.*;
+import seedu.address.logic.parser.Parser;
 import seedu.address.commons.util.FxViewUtil;
 import seedu.address.commons.core.LogsCenter;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
+import java.util.regex.Matcher;
 
 public class CommandBox extends UiPart {
     private final Logger logger = LogsCenter.getLogger(CommandBox.class);
     private static final String FXML = "CommandBox.fxml";
+    /** Maximum number of completions suggested in the completion popup */
+    private static final int MAX_COMPLETIONS = 10;
 
     private AnchorPane placeHolderPane;
     private AnchorPane commandPane;
@@ -25,25 +41,86 @@ public class CommandBox extends UiPart {
     String previousCommandTest;
 
     private Logic logic;
+    /** Delays live filtering until the user stops typing; null if live filtering is disabled */
+    private PauseTransition liveFilterTimer;
+    private final ContextMenu completionPopup = new ContextMenu();
 
     @FXML
     private TextField commandTextField;
     private CommandResult mostRecentResult;
 
     public static CommandBox load(Stage primaryStage, AnchorPane commandBoxPlaceholder,
-            ResultDisplay resultDisplay, Logic logic) {
+            ResultDisplay resultDisplay, Logic logic, Config config) {
         CommandBox commandBox = UiPartLoader.loadUiPart(primaryStage, commandBoxPlaceholder, new CommandBox());
-        commandBox.configure(resultDisplay, logic);
+        commandBox.configure(resultDisplay, logic, config);
         commandBox.addToPlaceholder();
         return commandBox;
     }
 
-    public void configure(ResultDisplay resultDisplay, Logic logic) {
+    public void configure(ResultDisplay resultDisplay, Logic logic, Config config) {
         this.resultDisplay = resultDisplay;
         this.logic = logic;
+        if (config.isLiveFilterEnabled()) {
+            setUpLiveFilter(config.getLiveFilterDelay());
+        }
+        // a filter, as the text field would otherwise move the focus on Tab
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.TAB) {
+                event.consume();
+                completeCommandText();
+            }
+        });
         registerAsAnEventHandler(this);
     }
 
+    /**
+     * Completes the word at the end of the command text. A single completion replaces the word,
+     * and several completions are suggested in a popup.
+     */
+    private void completeCommandText() {
+        completionPopup.hide();
+        final List<String> completions = logic.getCompletions(commandTextField.getText(), MAX_COMPLETIONS);
+        if (completions.size() == 1) {
+            replaceCompletionWord(completions.get(0));
+        } else if (!completions.isEmpty()) {
+            final List<MenuItem> items = new ArrayList<>(completions.size());
+            for (String completion : completions) {
+                final MenuItem item = new MenuItem(completion);
+                item.setOnAction(event -> replaceCompletionWord(completion));
+                items.add(item);
+            }
+            completionPopup.getItems().setAll(items);
+            completionPopup.show(commandTextField, Side.BOTTOM, 0, 0);
+        }
+    }
+
+    private void replaceCompletionWord(String completion) {
+        final String text = commandTextField.getText();
+        final Matcher matcher = Parser.COMPLETION_WORD_FORMAT.matcher(text);
+        final int wordStart = matcher.find() ? matcher.start() : text.length();
+        commandTextField.setText(text.substring(0, wordStart) + completion);
+        commandTextField.positionCaret(commandTextField.getText().length());
+    }
+
+    /**
+     * Filters the person list by the find command being typed, once the user stops typing for {@code delay} ms.
+     */
+    private void setUpLiveFilter(int delay) {
+        liveFilterTimer = new PauseTransition(Duration.millis(delay));
+        liveFilterTimer.setOnFinished(event -> logic.previewFind(commandTextField.getText()));
+        commandTextField.textProperty().addListener((observable, oldValue, newValue) ->
+                liveFilterTimer.playFromStart());
+    }
+
+    /**
+     * Stops a pending live filter update, e.g. because the command text was not typed by the user.
+     */
+    private void cancelLiveFilter() {
+        if (liveFilterTimer != null) {
+            liveFilterTimer.stop();
+        }
+    }
+
     private void addToPlaceholder() {
         SplitPane.setResizableWithParent(placeHolderPane, false);
         placeHolderPane.getChildren().add(commandTextField);
@@ -76,12 +153,23 @@ public class CommandBox extends UiPart {
          * in the event handling code {@link #handleIncorrectCommandAttempted}
          */
         setStyleToIndicateCorrectCommand();
+        cancelLiveFilter();
         mostRecentResult = logic.execute(previousCommandTest);
         resultDisplay.postMessage(mostRecentResult.feedbackToUser);
         logger.info("Result: " + mostRecentResult.feedbackToUser);
     }
 
 
+    /**
+     * Cancels the search in progress when Esc is pressed.
+     */
+    @FXML
+    private void handleKeyPressed(KeyEvent event) {
+        if (event.getCode() == KeyCode.ESCAPE) {
+            logic.cancelBackgroundSearch();
+        }
+    }
+
     /**
      * Sets the command box style to indicate a correct command.
      */
@@ -97,11 +185,26 @@ public class CommandBox extends UiPart {
         restoreCommandText();
     }
 
+    @Subscribe
+    private void handleSearchProgressEvent(SearchProgressEvent event) {
+        switch (event.status) {
+        case FINISHED:
+            resultDisplay.postMessage(Command.getMessageForPersonListShownSummary(event.shown));
+            break;
+        case CANCELLED:
+            resultDisplay.postMessage(String.format(Messages.MESSAGE_SEARCH_CANCELLED, event.shown));
+            break;
+        default:
+            break;
+        }
+    }
+
     /**
      * Restores the command box text to the previously entered command
      */
     private void restoreCommandText() {
         commandTextField.setText(previousCommandTest);
+        cancelLiveFilter();
     }
 
     /**
@@ -0,0 +1,134 @@
+package seedu.address.ui;
+
+import javafx.application.Platform;
+import javafx.collections.ObservableListBase;
+import seedu.address.commons.core.ListListener;
+import seedu.address.commons.core.ListenableList;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Exposes a {@link ListenableList} of the model as an {@code ObservableList} for the JavaFX controls.
+ *
+ * The changes to the source list are collected and applied to a copy of it once per JavaFX pulse, as a single
+ * change notification. Many changes within a pulse are applied by copying the source list again, but elements
+ * inserted together, such as the matches a background search appends, count as a single change.
+ * The source list must only be changed on the JavaFX application thread.
+ */
+public class ObservableListAdapter<E> extends ObservableListBase<E> implements ListListener<E> {
+
+    /** Number of changes within a pulse beyond which the whole list is copied instead */
+    private static final int MAX_REPLAYED_CHANGES = 32;
+
+    private final ListenableList<E> source;
+    private List<E> shown;
+    private final List<PendingChange<E>> pendingChanges = new ArrayList<>();
+    private boolean isReplacePending;
+    private boolean isFlushScheduled;
+
+    public ObservableListAdapter(ListenableList<E> source) {
+        this.source = source;
+        this.shown = new ArrayList<>(source);
+        source.addListener(this);
+    }
+
+    @Override
+    public E get(int index) {
+        return shown.get(index);
+    }
+
+    @Override
+    public int size() {
+        return shown.size();
+    }
+
+    @Override
+    public void onAdded(int index, E element) {
+        addPendingChange(new PendingChange<>(true, index, Collections.singletonList(element)));
+    }
+
+    @Override
+    public void onAddedAll(int index, List<? extends E> elements) {
+        if (!elements.isEmpty()) {
+            addPendingChange(new PendingChange<>(true, index, new ArrayList<>(elements)));
+        }
+    }
+
+    @Override
+    public void onRemoved(int index, E element) {
+        addPendingChange(new PendingChange<>(false, index, Collections.singletonList(element)));
+    }
+
+    @Override
+    public void onReplaced() {
+        pendingChanges.clear();
+        isReplacePending = true;
+        scheduleFlush();
+    }
+
+    private void addPendingChange(PendingChange<E> change) {
+        if (!isReplacePending) {
+            if (pendingChanges.size() < MAX_REPLAYED_CHANGES) {
+                pendingChanges.add(change);
+            } else {
+                onReplaced();
+            }
+        }
+        scheduleFlush();
+    }
+
+    private void scheduleFlush() {
+        if (!isFlushScheduled) {
+            isFlushScheduled = true;
+            Platform.runLater(this::flush);
+        }
+    }
+
+    /**
+     * Applies the changes made since the last flush, and notifies the list change listeners of them at once.
+     */
+    private void flush() {
+        isFlushScheduled = false;
+        beginChange();
+        if (isReplacePending) {
+            final List<E> removed = shown;
+            shown = new ArrayList<>(source);
+            if (!removed.isEmpty()) {
+                nextRemove(0, removed);
+            }
+            if (!shown.isEmpty()) {
+                nextAdd(0, shown.size());
+            }
+            isReplacePending = false;
+        } else {
+            for (PendingChange<E> change : pendingChanges) {
+                if (change.isAdded) {
+                    shown.addAll(change.index, change.elements);
+                    nextAdd(change.index, change.index + change.elements.size());
+                } else {
+                    shown.remove(change.index);
+                    nextRemove(change.index, change.elements.get(0));
+                }
+            }
+        }
+        pendingChanges.clear();
+        endChange();
+    }
+
+    /**
+     * Elements added to the source list together, or an element removed from it.
+     */
+    private static class PendingChange<E> {
+        private final boolean isAdded;
+        private final int index;
+        private final List<? extends E> elements;
+
+        PendingChange(boolean isAdded, int index, List<? extends E> elements) {
+            this.isAdded = isAdded;
+            this.index = index;
+            this.elements = elements;
+        }
+    }
+}
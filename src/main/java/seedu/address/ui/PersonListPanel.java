@@ -1,7 +1,6 @@
 package seedu.address.ui;
 
 import javafx.application.Platform;
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.Node;
 import javafx.scene.control.ListCell;
@@ -10,6 +9,7 @@ import javafx.scene.control.SplitPane;
 import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
+import seedu.address.commons.core.ListenableList;
 import seedu.address.commons.events.ui.PersonPanelSelectionChangedEvent;
 import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.commons.core.LogsCenter;
@@ -48,20 +48,20 @@ public class PersonListPanel extends UiPart {
     }
 
     public static PersonListPanel load(Stage primaryStage, AnchorPane personListPlaceholder,
-                                       ObservableList<ReadOnlyPerson> personList) {
+                                       ListenableList<ReadOnlyPerson> personList) {
         PersonListPanel personListPanel =
                 UiPartLoader.loadUiPart(primaryStage, personListPlaceholder, new PersonListPanel());
         personListPanel.configure(personList);
         return personListPanel;
     }
 
-    private void configure(ObservableList<ReadOnlyPerson> personList) {
+    private void configure(ListenableList<ReadOnlyPerson> personList) {
         setConnections(personList);
         addToPlaceholder();
     }
 
-    private void setConnections(ObservableList<ReadOnlyPerson> personList) {
-        personListView.setItems(personList);
+    private void setConnections(ListenableList<ReadOnlyPerson> personList) {
+        personListView.setItems(new ObservableListAdapter<>(personList));
         personListView.setCellFactory(listView -> new PersonListViewCell());
         setEventHandlerForSelectionChangeEvent();
     }
@@ -87,6 +87,13 @@ public class PersonListPanel extends UiPart {
         });
     }
 
+    /**
+     * Scrolls to the given index without changing the selection.
+     */
+    public void reveal(int index) {
+        Platform.runLater(() -> personListView.scrollTo(index));
+    }
+
     class PersonListViewCell extends ListCell<ReadOnlyPerson> {
 
         public PersonListViewCell() {
@@ -9,6 +9,7 @@ import javafx.stage.Stage;
 import org.controlsfx.control.StatusBar;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.model.SearchProgressEvent;
 import seedu.address.commons.util.FxViewUtil;
 
 import java.util.Date;
@@ -95,4 +96,11 @@ public class StatusBarFooter extends UiPart {
         logger.info(LogsCenter.getEventHandlingLogMessage(abce, "Setting last updated status to " + lastUpdated));
         setSyncStatus("Last Updated: " + lastUpdated);
     }
+
+    @Subscribe
+    public void handleSearchProgressEvent(SearchProgressEvent spe) {
+        logger.fine(LogsCenter.getEventHandlingLogMessage(spe, "Setting search progress"));
+        // a progress of 0 hides the progress bar
+        syncStatus.setProgress(spe.isInProgress() ? spe.getProgress() : 0);
+    }
 }
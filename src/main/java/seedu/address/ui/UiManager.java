@@ -12,6 +12,7 @@ import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.events.ui.JumpToListRequestEvent;
+import seedu.address.commons.events.ui.NewPersonAddedEvent;
 import seedu.address.commons.events.ui.PersonPanelSelectionChangedEvent;
 import seedu.address.commons.events.ui.ShowHelpRequestEvent;
 import seedu.address.commons.util.StringUtil;
@@ -117,6 +118,14 @@ public class UiManager extends ComponentManager implements Ui {
         mainWindow.getPersonListPanel().scrollTo(event.targetIndex);
     }
 
+    @Subscribe
+    private void handleNewPersonAddedEvent(NewPersonAddedEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        if (config.isRevealAddedPerson() && event.isShown()) {
+            mainWindow.getPersonListPanel().reveal(event.targetIndex);
+        }
+    }
+
     @Subscribe
     private void handlePersonPanelSelectionChangedEvent(PersonPanelSelectionChangedEvent event){
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
@@ -42,7 +42,7 @@ public class AddCommandTest extends AddressBookGuiTest {
         commandBox.runCommand(personToAdd.getAddCommand());
 
         //confirm the new card contains the right data
-        PersonCardHandle addedCard = personListPanel.navigateToPerson(personToAdd.getName().fullName);
+        PersonCardHandle addedCard = personListPanel.navigateToPerson(personToAdd.getName().fullName());
         assertMatching(personToAdd, addedCard);
 
         //confirm the list now contains all previous persons plus the new person
@@ -0,0 +1,54 @@
+package seedu.address.benchmark;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+
+import java.util.Collections;
+
+/**
+ * Measures the latency of adding persons to a large address book while a find filter is active, and compares it
+ * with adding persons and then showing all persons again, as adding did before it kept the filter.
+ *
+ * Run with {@code gradlew benchmark -Pbenchmark=AddPersonBenchmark}.
+ */
+public class AddPersonBenchmark {
+
+    private static final int BOOK_SIZE = 500_000;
+    private static final int WARMUP_ADDS = 200;
+    private static final int MEASURED_ADDS = 1_000;
+
+    public static void main(String[] args) throws Exception {
+        final AddressBook initialData = BenchmarkData.generateAddressBook(BOOK_SIZE);
+        final ModelManager model = new ModelManager(initialData, new UserPrefs());
+        model.updateFilteredPersonList(Collections.singleton("Meier"));
+        System.out.println("Address book of " + BOOK_SIZE + " persons, "
+                + model.getFilteredPersonList().size() + " shown by the active filter");
+
+        int seed = BOOK_SIZE;
+        for (int i = 0; i < WARMUP_ADDS; i++) {
+            model.addPerson(BenchmarkData.generatePerson(seed++));
+        }
+
+        final long[] samples = new long[MEASURED_ADDS];
+        for (int i = 0; i < MEASURED_ADDS; i++) {
+            final Person toAdd = BenchmarkData.generatePerson(seed++);
+            final long start = System.nanoTime();
+            model.addPerson(toAdd);
+            samples[i] = System.nanoTime() - start;
+        }
+        System.out.println("addPerson with active filter: " + BenchmarkData.summarize(samples));
+        System.out.println("Shown after adds: " + model.getFilteredPersonList().size());
+
+        for (int i = 0; i < MEASURED_ADDS; i++) {
+            final Person toAdd = BenchmarkData.generatePerson(seed++);
+            model.updateFilteredPersonList(Collections.singleton("Meier"));
+            final long start = System.nanoTime();
+            model.addPerson(toAdd);
+            model.updateFilteredListToShowAll();
+            samples[i] = System.nanoTime() - start;
+        }
+        System.out.println("addPerson, then show all: " + BenchmarkData.summarize(samples));
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.benchmark;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.*;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.UniqueTagList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Generates large, deterministic address books for benchmarks.
+ */
+public class BenchmarkData {
+
+    private static final String[] FIRST_NAMES = {"Alice", "Benson", "Carl", "Daniel", "Elle", "Fiona", "George",
+        "Hoon", "Ida", "John", "Kim", "Lena", "Mark", "Nina", "Omar", "Priya", "Quinn", "Ravi", "Sean", "Tara"};
+    private static final String[] LAST_NAMES = {"Pauline", "Meier", "Kurz", "Meyer", "Kunz", "Best", "Mueller",
+        "Tan", "Lim", "Ng", "Wong", "Smith", "Brown", "Kumar", "Lee", "Chua"};
+    private static final String[] STREETS = {"Clementi Ave 2", "Jurong West Ave 6", "Wall Street", "Little India",
+        "Chicago Ave", "Little Tokyo", "Michegan Ave", "Orchard Road"};
+    private static final String[] DOMAINS = {"gmail.com", "yahoo.com", "google.com", "example.com", "acme.com"};
+    private static final String[] TAG_NAMES = {"friends", "colleagues", "family", "owesMoney", "neighbours"};
+
+    /**
+     * Generates a person whose field values depend only on {@code seed}; each seed gives a unique person.
+     */
+    public static Person generatePerson(int seed) throws IllegalValueException {
+        final String firstName = FIRST_NAMES[seed % FIRST_NAMES.length];
+        final String lastName = LAST_NAMES[(seed / FIRST_NAMES.length) % LAST_NAMES.length];
+        return new Person(
+                new Name(firstName + " " + lastName + " " + seed),
+                new Phone(String.valueOf(60000000 + seed)),
+                new Email(firstName.toLowerCase() + seed + "@" + DOMAINS[seed % DOMAINS.length]),
+                new Address(seed % 1000 + ", " + STREETS[seed % STREETS.length] + ", #" + seed % 100
+                        + "-" + seed % 1000 + " S" + (100000 + seed % 900000)),
+                new UniqueTagList(new Tag(TAG_NAMES[seed % TAG_NAMES.length])));
+    }
+
+    /**
+     * Generates the persons for seeds {@code 0} to {@code count - 1}.
+     */
+    public static List<Person> generatePersons(int count) throws IllegalValueException {
+        final List<Person> persons = new ArrayList<>(count);
+        for (int seed = 0; seed < count; seed++) {
+            persons.add(generatePerson(seed));
+        }
+        return persons;
+    }
+
+    /**
+     * Generates an address book holding the persons for seeds {@code 0} to {@code count - 1}.
+     * The persons are loaded in bulk rather than through {@link AddressBook#addPerson(Person)},
+     * which checks every existing person for duplicates.
+     */
+    public static AddressBook generateAddressBook(int count) throws IllegalValueException {
+        final List<Tag> tags = new ArrayList<>();
+        for (String tagName : TAG_NAMES) {
+            tags.add(new Tag(tagName));
+        }
+        final AddressBook addressBook = new AddressBook();
+        addressBook.resetData(generatePersons(count), tags);
+        return addressBook;
+    }
+
+    /**
+     * Returns the median and the 99th percentile of the given nanosecond samples, formatted in microseconds.
+     */
+    public static String summarize(long[] samplesInNanos) {
+        final long[] sorted = Arrays.copyOf(samplesInNanos, samplesInNanos.length);
+        Arrays.sort(sorted);
+        final long median = sorted[sorted.length / 2];
+        final long p99 = sorted[(int) (sorted.length * 0.99)];
+        return String.format("median %.1f us, p99 %.1f us", median / 1000.0, p99 / 1000.0);
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.address.benchmark;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ColumnarAddressBook;
+
+/**
+ * Measures the heap taken per person by an {@link AddressBook}, by a {@link ColumnarAddressBook} holding the same
+ * persons, and by an address book adopting the columnar one.
+ *
+ * Run with {@code gradlew benchmark -Pbenchmark=ColumnarMemoryBenchmark}.
+ */
+public class ColumnarMemoryBenchmark {
+
+    private static final int BOOK_SIZE = 1_000_000;
+
+    public static void main(String[] args) throws Exception {
+        final long baseline = usedHeapAfterGc();
+        AddressBook addressBook = BenchmarkData.generateAddressBook(BOOK_SIZE);
+        final long withAddressBook = usedHeapAfterGc();
+        final ColumnarAddressBook columnar = ColumnarAddressBook.copyOf(addressBook);
+        addressBook = null;
+        final long withColumnar = usedHeapAfterGc();
+        final AddressBook adopted = AddressBook.adopt(columnar);
+        final long withAdopted = usedHeapAfterGc();
+
+        System.out.println("Address book of " + BOOK_SIZE + " persons");
+        System.out.printf("AddressBook: %d bytes per person%n", (withAddressBook - baseline) / BOOK_SIZE);
+        System.out.printf("ColumnarAddressBook: %d bytes per person%n", (withColumnar - baseline) / columnar.size());
+        System.out.printf("AddressBook adopting it: %d bytes per person%n", (withAdopted - baseline) / adopted.size());
+    }
+
+    private static long usedHeapAfterGc() throws InterruptedException {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.address.benchmark;
+
+import seedu.address.model.AddressBook;
+
+/**
+ * Measures the latency of completing name words and tag names in a large address book.
+ *
+ * Run with {@code gradlew benchmark -Pbenchmark=CompletionBenchmark}.
+ */
+public class CompletionBenchmark {
+
+    private static final int BOOK_SIZE = 1_000_000;
+    private static final int COMPLETION_LIMIT = 10;
+    private static final int WARMUP_ROUNDS = 10_000;
+    private static final int MEASURED_ROUNDS = 10_000;
+    private static final String[] PREFIXES = {"", "a", "Me", "mei", "k", "Ku", "1", "12", "999", "x"};
+    private static final String[] TAG_PREFIXES = {"", "f", "co", "OWES", "n", "z"};
+
+    public static void main(String[] args) throws Exception {
+        final AddressBook addressBook = BenchmarkData.generateAddressBook(BOOK_SIZE);
+        System.out.println("Address book of " + BOOK_SIZE + " persons");
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            addressBook.completeNameWord(PREFIXES[i % PREFIXES.length], COMPLETION_LIMIT);
+            addressBook.completeTagName(TAG_PREFIXES[i % TAG_PREFIXES.length], COMPLETION_LIMIT);
+        }
+
+        final long[] nameSamples = new long[MEASURED_ROUNDS];
+        final long[] tagSamples = new long[MEASURED_ROUNDS];
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            addressBook.completeNameWord(PREFIXES[i % PREFIXES.length], COMPLETION_LIMIT);
+            nameSamples[i] = System.nanoTime() - start;
+            start = System.nanoTime();
+            addressBook.completeTagName(TAG_PREFIXES[i % TAG_PREFIXES.length], COMPLETION_LIMIT);
+            tagSamples[i] = System.nanoTime() - start;
+        }
+        System.out.println("top " + COMPLETION_LIMIT + " name words: " + BenchmarkData.summarize(nameSamples));
+        System.out.println("top " + COMPLETION_LIMIT + " tag names: " + BenchmarkData.summarize(tagSamples));
+
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.benchmark;
+
+import seedu.address.model.person.Person;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+/**
+ * Measures hash-heavy operations over a large number of persons: hashing every person, deduplicating persons by
+ * their fields as done when loading a book, and formatting every person as text as done when logging or rendering.
+ * Each operation is timed after a first round over the persons, as the same persons are hashed and shown many
+ * times in a session.
+ *
+ * Run with {@code gradlew benchmark -Pbenchmark=HashingBenchmark}.
+ */
+public class HashingBenchmark {
+
+    private static final int PERSON_COUNT = 500_000;
+    private static final int ROUNDS = 10;
+
+    public static void main(String[] args) throws Exception {
+        final List<Person> persons = BenchmarkData.generatePersons(PERSON_COUNT);
+        System.out.println(PERSON_COUNT + " persons, " + ROUNDS + " rounds per operation");
+
+        long checksum = 0;
+        checksum += measure("Person.hashCode", () -> {
+            long sum = 0;
+            for (Person person : persons) {
+                sum += person.hashCode();
+            }
+            return sum;
+        });
+        checksum += measure("dedup by fields", () -> {
+            final Set<List<Object>> seenFields = new HashSet<>(PERSON_COUNT * 2);
+            for (Person person : persons) {
+                seenFields.add(Arrays.asList(person.getName(), person.getPhone(), person.getEmail(),
+                        person.getAddress()));
+            }
+            return seenFields.size();
+        });
+        checksum += measure("toString and tagsString", () -> {
+            long sum = 0;
+            for (Person person : persons) {
+                sum += person.toString().length() + person.tagsString().length();
+            }
+            return sum;
+        });
+        System.out.println("(checksum " + checksum + ")");
+    }
+
+    /**
+     * Runs {@code round} once unmeasured, then {@link #ROUNDS} times measured, and prints the time per person.
+     */
+    private static long measure(String operation, LongSupplier round) {
+        long checksum = round.getAsLong();
+        final long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            checksum += round.getAsLong();
+        }
+        System.out.printf("%s: %.1f ns per person%n", operation,
+                (System.nanoTime() - start) / (double) PERSON_COUNT / ROUNDS);
+        return checksum;
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.address.benchmark;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.XmlSerializableAddressBook;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+/**
+ * Measures the bytes allocated per person to hand an address book just read from storage to a
+ * {@link ModelManager}, by copying it and by adopting it.
+ *
+ * Run with {@code gradlew benchmark -Pbenchmark=LoadAllocationBenchmark}.
+ */
+public class LoadAllocationBenchmark {
+
+    private static final int BOOK_SIZE = 200_000;
+    private static final int RUNS = 5;
+
+    public static void main(String[] args) throws Exception {
+        final AddressBook addressBook = BenchmarkData.generateAddressBook(BOOK_SIZE);
+        final com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        System.out.println("Loading an address book of " + BOOK_SIZE + " persons");
+        for (int run = 0; run < RUNS; run++) {
+            // records as they are after unmarshalling, before any person is converted
+            final XmlSerializableAddressBook copied = new XmlSerializableAddressBook(addressBook);
+            final XmlSerializableAddressBook adopted = new XmlSerializableAddressBook(addressBook);
+            final long copyBytes = allocatedBytes(threads, () -> new ModelManager(copied, new UserPrefs()));
+            final long adoptBytes = allocatedBytes(threads, () -> ModelManager.adopt(adopted, new UserPrefs()));
+            System.out.printf("copy: %d bytes per person, adopt: %d bytes per person, saved: %d bytes per person%n",
+                    copyBytes / BOOK_SIZE, adoptBytes / BOOK_SIZE, (copyBytes - adoptBytes) / BOOK_SIZE);
+        }
+    }
+
+    private static long allocatedBytes(com.sun.management.ThreadMXBean threads, Supplier<ModelManager> load) {
+        final long before = threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+        final ModelManager model = load.get();
+        final long allocated = threads.getThreadAllocatedBytes(Thread.currentThread().getId()) - before;
+        if (model.getAddressBook().getPersonList().size() != BOOK_SIZE) {
+            throw new AssertionError("Persons were lost while loading");
+        }
+        return allocated;
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.benchmark;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.storage.MappedAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Measures the time to open a {@link MappedAddressBook}, to read persons at random positions from it and to adopt
+ * it into an {@link AddressBook}, along with the heap each takes.
+ *
+ * Run with {@code gradlew benchmark -Pbenchmark=MappedOpenBenchmark}.
+ */
+public class MappedOpenBenchmark {
+
+    private static final int BOOK_SIZE = 1_000_000;
+    private static final int READS = 100_000;
+
+    public static void main(String[] args) throws Exception {
+        final Path path = Files.createTempFile("MappedOpenBenchmark", ".abm");
+        try {
+            AddressBook addressBook = BenchmarkData.generateAddressBook(BOOK_SIZE);
+            MappedAddressBook.write(addressBook, path);
+            addressBook = null;
+            final long baseline = usedHeapAfterGc();
+
+            long start = System.nanoTime();
+            final MappedAddressBook mapped = MappedAddressBook.open(path);
+            final long openNanos = System.nanoTime() - start;
+
+            final List<ReadOnlyPerson> persons = mapped.getPersonList();
+            final Random random = new Random(42);
+            long checksum = 0;
+            start = System.nanoTime();
+            for (int i = 0; i < READS; i++) {
+                checksum += persons.get(random.nextInt(mapped.size())).getName().fullName().length();
+            }
+            final long readNanos = System.nanoTime() - start;
+            final long heapAfterOpen = usedHeapAfterGc() - baseline;
+
+            start = System.nanoTime();
+            final AddressBook adopted = AddressBook.adopt(mapped);
+            final long adoptNanos = System.nanoTime() - start;
+
+            System.out.println("Mapped address book of " + mapped.size() + " persons, " + Files.size(path)
+                    + " bytes on disk (checksum " + checksum + ")");
+            System.out.printf("open: %.2f ms%n", openNanos / 1e6);
+            System.out.printf("random name read: %.2f us%n", readNanos / 1e3 / READS);
+            System.out.printf("heap after open: %d bytes%n", heapAfterOpen);
+            System.out.printf("adopt: %.2f ms%n", adoptNanos / 1e6);
+            System.out.printf("heap after adopt: %d bytes (%d persons)%n", usedHeapAfterGc() - baseline,
+                    adopted.size());
+        } finally {
+            deleteQuietly(path);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ioe) {
+            // a mapped file cannot be deleted on some platforms until it is unmapped
+            path.toFile().deleteOnExit();
+        }
+    }
+
+    private static long usedHeapAfterGc() throws InterruptedException {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.benchmark;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.query.AndExpression;
+import seedu.address.model.query.Expression;
+import seedu.address.model.query.FieldExpression;
+import seedu.address.model.query.NotExpression;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Measures how the latency of a find that scans every person scales with the number of cores evaluating it.
+ *
+ * Run with {@code gradlew benchmark -Pbenchmark=ParallelFindBenchmark}.
+ */
+public class ParallelFindBenchmark {
+
+    private static final int BOOK_SIZE = 1_000_000;
+    private static final int WARMUP_FINDS = 5;
+    private static final int MEASURED_FINDS = 20;
+
+    public static void main(String[] args) throws Exception {
+        final AddressBook initialData = BenchmarkData.generateAddressBook(BOOK_SIZE);
+        final int cores = Runtime.getRuntime().availableProcessors();
+        System.out.println("Address book of " + BOOK_SIZE + " persons, " + cores + " cores available");
+
+        int queryNumber = 0;
+        for (int parallelism = 1; parallelism <= cores; parallelism *= 2) {
+            final ModelManager model = new ModelManager(initialData, new UserPrefs());
+            model.enableParallelSearch(new ForkJoinPool(parallelism), 1);
+            for (int i = 0; i < WARMUP_FINDS; i++) {
+                model.updateFilteredPersonList(generateQuery(queryNumber++));
+            }
+
+            final long[] samples = new long[MEASURED_FINDS];
+            for (int i = 0; i < MEASURED_FINDS; i++) {
+                final Expression query = generateQuery(queryNumber++);
+                final long start = System.nanoTime();
+                model.updateFilteredPersonList(query);
+                samples[i] = System.nanoTime() - start;
+            }
+            System.out.println("find on " + parallelism + " cores: " + BenchmarkData.summarize(samples)
+                    + ", " + model.getFilteredPersonList().size() + " shown");
+        }
+    }
+
+    /**
+     * Returns a query that scans the addresses of every person. Each query number gives a different query,
+     * so that no find is answered from the find result cache.
+     */
+    private static Expression generateQuery(int queryNumber) {
+        return new AndExpression(Arrays.asList(
+                new FieldExpression(FieldExpression.Field.ADDRESS, "Street,"),
+                new NotExpression(new FieldExpression(FieldExpression.Field.NAME, "Nobody" + queryNumber))));
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.benchmark;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.person.SortField;
+
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Measures sorting the person list of a large address book: the first sort by each field, switching between sorted
+ * orders, and adding and deleting persons while the list is sorted. Compares the first sort with sorting a copy of
+ * the list by comparing the names with a collator.
+ *
+ * Run with {@code gradlew benchmark -Pbenchmark=SortBenchmark}.
+ */
+public class SortBenchmark {
+
+    private static final int BOOK_SIZE = 1_000_000;
+    /** Few, as adding a person scans the list for duplicates */
+    private static final int CHANGES = 200;
+
+    public static void main(String[] args) throws Exception {
+        final AddressBook addressBook = BenchmarkData.generateAddressBook(BOOK_SIZE);
+        final ModelManager model = new ModelManager(addressBook, new UserPrefs());
+        System.out.println("Address book of " + BOOK_SIZE + " persons");
+
+        final Collator collator = Collator.getInstance();
+        long start = System.nanoTime();
+        final List<ReadOnlyPerson> copy = new ArrayList<>(model.getAddressBook().getPersonList());
+        copy.sort(Comparator.comparing(person -> person.getName().fullName(), collator));
+        System.out.println("sort a copy by name with a collator: " + millisSince(start) + " ms");
+
+        for (SortField field : SortField.values()) {
+            start = System.nanoTime();
+            model.updateFilteredListToShowAll(field, false);
+            model.getFilteredPersonList().get(0);
+            System.out.println("first sort by " + field + ": " + millisSince(start) + " ms");
+        }
+
+        start = System.nanoTime();
+        for (int i = 0; i < 1000; i++) {
+            model.updateFilteredListToShowAll(SortField.values()[i % 3], i % 2 == 0);
+            model.getFilteredPersonList().get(i);
+        }
+        System.out.println("switch sorted order: " + (System.nanoTime() - start) / 1000 / 1000 + " us");
+
+        start = System.nanoTime();
+        new ArrayList<>(model.getFilteredPersonList());
+        System.out.println("copy the sorted list: " + millisSince(start) + " ms");
+
+        model.updateFilteredListToShowAll();
+        measureChanges(model, "unsorted");
+        model.updateFilteredListToShowAll(SortField.NAME, true);
+        measureChanges(model, "sorted by name");
+    }
+
+    private static void measureChanges(ModelManager model, String order) throws Exception {
+        final List<Person> added = new ArrayList<>();
+        for (int i = 0; i < CHANGES; i++) {
+            added.add(BenchmarkData.generatePerson(BOOK_SIZE + i));
+        }
+        final long[] addSamples = new long[CHANGES];
+        final long[] deleteSamples = new long[CHANGES];
+        for (int i = 0; i < CHANGES; i++) {
+            long start = System.nanoTime();
+            model.addPerson(added.get(i));
+            addSamples[i] = System.nanoTime() - start;
+        }
+        for (int i = 0; i < CHANGES; i++) {
+            long start = System.nanoTime();
+            model.deletePerson(added.get(i));
+            deleteSamples[i] = System.nanoTime() - start;
+        }
+        System.out.println("addPerson while " + order + ": " + BenchmarkData.summarize(addSamples));
+        System.out.println("deletePerson while " + order + ": " + BenchmarkData.summarize(deleteSamples));
+    }
+
+    private static long millisSince(long start) {
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
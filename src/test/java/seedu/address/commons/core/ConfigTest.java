@@ -18,7 +18,11 @@ public class ConfigTest {
                 "Current log level : INFO\n" +
                 "Preference file Location : preferences.json\n" +
                 "Local data file location : data/addressbook.xml\n" +
-                "AddressBook name : MyAddressBook";
+                "AddressBook name : MyAddressBook\n" +
+                "Reveal added person : false\n" +
+                "Live filter : disabled\n" +
+                "Parallel search : from 50000 persons\n" +
+                "Background search : from 10000 persons";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
@@ -8,7 +8,9 @@ import java.io.FileNotFoundException;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class StringUtilTest {
@@ -35,6 +37,35 @@ public class StringUtilTest {
         assertTrue(StringUtil.isUnsignedInteger("10"));
     }
 
+    @Test
+    public void intern_equalStrings_sameInstance() {
+        String pooled = StringUtil.intern(new String("gmail.com"));
+
+        assertSame(pooled, StringUtil.intern(new String("gmail.com")));
+        assertEquals("gmail.com", pooled);
+    }
+
+    @Test
+    public void containsWordStartingWithIgnoreCase() {
+        assertTrue(StringUtil.containsWordStartingWithIgnoreCase("Alice Pauline", "ali"));
+        assertTrue(StringUtil.containsWordStartingWithIgnoreCase("Alice Pauline", "PAUL"));
+        assertTrue(StringUtil.containsWordStartingWithIgnoreCase("Alice  Pauline", "pauline"));
+        assertTrue(StringUtil.containsWordStartingWithIgnoreCase("Alice Pauline", ""));
+
+        assertFalse(StringUtil.containsWordStartingWithIgnoreCase("Alice Pauline", "lice")); //not at a word start
+        assertFalse(StringUtil.containsWordStartingWithIgnoreCase("Alice Pauline", "Paulines"));
+    }
+
+    @Test
+    public void containsFragmentIgnoreCase() {
+        assertTrue(StringUtil.containsFragmentIgnoreCase("Alice Pauline", "lice p"));
+        assertTrue(StringUtil.containsFragmentIgnoreCase("alice@gmail.com", "GMAIL"));
+        assertTrue(StringUtil.containsFragmentIgnoreCase("Alice Pauline", ""));
+
+        assertFalse(StringUtil.containsFragmentIgnoreCase("Alice Pauline", "alicep"));
+        assertFalse(StringUtil.containsFragmentIgnoreCase("Ali", "Alice"));
+    }
+
     @Test
     public void getDetails_exceptionGiven(){
         assertThat(StringUtil.getDetails(new FileNotFoundException("file not found")),
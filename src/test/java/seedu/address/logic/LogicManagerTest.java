@@ -8,7 +8,9 @@ import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 import seedu.address.commons.core.EventsCenter;
 import seedu.address.logic.commands.*;
+import seedu.address.logic.parser.FindQueryParser;
 import seedu.address.commons.events.ui.JumpToListRequestEvent;
+import seedu.address.commons.events.ui.NewPersonAddedEvent;
 import seedu.address.commons.events.ui.ShowHelpRequestEvent;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.model.AddressBook;
@@ -44,6 +46,7 @@ public class LogicManagerTest {
     private ReadOnlyAddressBook latestSavedAddressBook;
     private boolean helpShown;
     private int targetedJumpIndex;
+    private int addedPersonIndex;
 
     @Subscribe
     private void handleLocalModelChangedEvent(AddressBookChangedEvent abce) {
@@ -60,6 +63,11 @@ public class LogicManagerTest {
         targetedJumpIndex = je.targetIndex;
     }
 
+    @Subscribe
+    private void handleNewPersonAddedEvent(NewPersonAddedEvent ne) {
+        addedPersonIndex = ne.targetIndex;
+    }
+
     @Before
     public void setup() {
         model = new ModelManager();
@@ -71,6 +79,7 @@ public class LogicManagerTest {
         latestSavedAddressBook = new AddressBook(model.getAddressBook()); // last saved assumed to be up to date before.
         helpShown = false;
         targetedJumpIndex = -1; // non yet
+        addedPersonIndex = -1;
     }
 
     @After
@@ -188,6 +197,47 @@ public class LogicManagerTest {
 
     }
 
+    @Test
+    public void execute_add_keepsActiveFilter() throws Exception {
+        // setup expectations
+        TestDataHelper helper = new TestDataHelper();
+        Person pTarget = helper.generatePersonWithName("bla KEY bla");
+        Person toBeAdded = helper.adam();
+        List<Person> expectedList = helper.generatePersonList(pTarget);
+        AddressBook expectedAB = helper.generateAddressBook(helper.generatePersonList(pTarget, toBeAdded));
+
+        // setup starting state
+        model.addPerson(pTarget);
+        logic.execute("find KEY");
+
+        // execute command and verify result
+        assertCommandBehavior(helper.generateAddCommand(toBeAdded),
+                String.format(AddCommand.MESSAGE_SUCCESS, toBeAdded),
+                expectedAB,
+                expectedList);
+    }
+
+    @Test
+    public void execute_add_sortedListReportsSortedIndex() throws Exception {
+        // setup expectations
+        TestDataHelper helper = new TestDataHelper();
+        Person zoe = helper.generatePersonWithName("zoe Adams");
+        Person anna = helper.generatePersonWithName("anna Bell");
+        Person toBeAdded = helper.generatePersonWithName("Ben Carr");
+        AddressBook expectedAB = helper.generateAddressBook(helper.generatePersonList(zoe, anna, toBeAdded));
+
+        // setup starting state
+        helper.addToModel(model, helper.generatePersonList(zoe, anna));
+        logic.execute("list sort/name");
+
+        // execute command and verify result
+        assertCommandBehavior(helper.generateAddCommand(toBeAdded),
+                String.format(AddCommand.MESSAGE_SUCCESS, toBeAdded),
+                expectedAB,
+                helper.generatePersonList(anna, toBeAdded, zoe));
+        assertEquals(1, addedPersonIndex);
+    }
+
     @Test
     public void execute_addDuplicate_notAllowed() throws Exception {
         // setup expectations
@@ -225,6 +275,30 @@ public class LogicManagerTest {
                 expectedList);
     }
 
+    @Test
+    public void execute_listSorted_showsAllPersonsInOrder() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Person zoe = helper.generatePersonWithName("zoe Adams");
+        Person bob = helper.generatePersonWithName("Bob Zola");
+        Person anna = helper.generatePersonWithName("anna Bell");
+        List<Person> threePersons = helper.generatePersonList(zoe, bob, anna);
+        AddressBook expectedAB = helper.generateAddressBook(threePersons);
+        helper.addToModel(model, threePersons);
+
+        assertCommandBehavior("list sort/name",
+                String.format(ListCommand.MESSAGE_SORTED_SUCCESS, "name"),
+                expectedAB,
+                helper.generatePersonList(anna, bob, zoe));
+        assertCommandBehavior("list sort/NAME desc",
+                String.format(ListCommand.MESSAGE_SORTED_DESCENDING_SUCCESS, "name"),
+                expectedAB,
+                helper.generatePersonList(zoe, bob, anna));
+        assertCommandBehavior("list sort/age",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListCommand.MESSAGE_USAGE),
+                expectedAB,
+                helper.generatePersonList(zoe, bob, anna));
+    }
+
 
     /**
      * Confirms the 'invalid argument index number behaviour' for the given command
@@ -376,6 +450,280 @@ public class LogicManagerTest {
                 expectedList);
     }
 
+    @Test
+    public void execute_find_booleanQueryOverFields() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Person p1 = helper.generatePerson(1);
+        Person p2 = helper.generatePerson(2);
+        Person p3 = helper.generatePerson(3);
+        Person p4 = helper.generatePerson(4);
+
+        List<Person> fourPersons = helper.generatePersonList(p1, p2, p3, p4);
+        AddressBook expectedAB = helper.generateAddressBook(fourPersons);
+        List<Person> expectedList = helper.generatePersonList(p1, p3);
+        helper.addToModel(model, fourPersons);
+
+        assertCommandBehavior("find (t/TAG2 AND NOT p/2) OR (person AND a/3 AND NOT t/tag5)",
+                Command.getMessageForPersonListShownSummary(expectedList.size()),
+                expectedAB,
+                expectedList);
+    }
+
+    @Test
+    public void execute_find_operatorWordsAsKeywords() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Person sandAnd = helper.generatePersonWithName("Sand And");
+        Person or = helper.generatePersonWithName("Or Lee");
+        Person other = helper.generatePersonWithName("Anders Orr");
+
+        List<Person> threePersons = helper.generatePersonList(sandAnd, or, other);
+        AddressBook expectedAB = helper.generateAddressBook(threePersons);
+        helper.addToModel(model, threePersons);
+
+        // operators are only recognized in upper case
+        assertCommandBehavior("find and",
+                Command.getMessageForPersonListShownSummary(1),
+                expectedAB,
+                helper.generatePersonList(sandAnd));
+        // a quoted keyword is never an operator
+        assertCommandBehavior("find \"OR\" AND NOT \"AND\"",
+                Command.getMessageForPersonListShownSummary(1),
+                expectedAB,
+                helper.generatePersonList(or));
+        assertCommandBehavior("find \"OR", String.format(FindQueryParser.MESSAGE_INVALID_QUERY,
+                "expected '\"keyword\"' but got '\"OR'"),
+                expectedAB,
+                helper.generatePersonList(or));
+    }
+
+    @Test
+    public void execute_find_fuzzyRankedByDistance() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Person p1 = helper.generatePersonWithName("Jonathan Meyer");
+        Person p2 = helper.generatePersonWithName("Ann Meier");
+        Person p3 = helper.generatePersonWithName("Bob Mayer");
+        Person p4 = helper.generatePersonWithName("Carl Kunz");
+        Person p5 = helper.generatePersonWithName("Dan Miller");
+
+        List<Person> fivePersons = helper.generatePersonList(p1, p2, p3, p4, p5);
+        AddressBook expectedAB = helper.generateAddressBook(fivePersons);
+        List<Person> expectedList = helper.generatePersonList(p2, p1, p3);
+        helper.addToModel(model, fivePersons);
+
+        assertCommandBehavior("find ~MEIER",
+                Command.getMessageForPersonListShownSummary(expectedList.size()),
+                expectedAB,
+                expectedList);
+    }
+
+    @Test
+    public void execute_find_namesSoundingAlike() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Person p1 = helper.generatePersonWithName("Shawn Lim");
+        Person p2 = helper.generatePersonWithName("Sara Tan");
+        Person p3 = helper.generatePersonWithName("Jon Sean");
+        Person p4 = helper.generatePersonWithName("Jonathan Seah");
+        Person p5 = helper.generatePersonWithName("Agent 007");
+
+        List<Person> fivePersons = helper.generatePersonList(p1, p2, p3, p4, p5);
+        AddressBook expectedAB = helper.generateAddressBook(fivePersons);
+        List<Person> expectedList = helper.generatePersonList(p1, p3);
+        helper.addToModel(model, fivePersons);
+
+        assertCommandBehavior("find ~~sean",
+                Command.getMessageForPersonListShownSummary(expectedList.size()),
+                expectedAB,
+                expectedList);
+        // words without letters have no code, and sound like nothing
+        assertCommandBehavior("find ~~42",
+                Command.getMessageForPersonListShownSummary(0),
+                expectedAB,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void execute_find_postalCodePrefixAndRange() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Person p1 = helper.generatePersonWithAddress("Blk 30 Geylang Street 29, #06-40, Singapore 389765");
+        Person p2 = helper.generatePersonWithAddress("21 Lower Kent Ridge Road, Singapore 119077");
+        Person p3 = helper.generatePersonWithAddress("Blk 123 Clementi Ave 3, #12-345, Singapore 120123");
+        Person p4 = helper.generatePersonWithAddress("House of 120000 cats");
+
+        List<Person> fourPersons = helper.generatePersonList(p1, p2, p3, p4);
+        AddressBook expectedAB = helper.generateAddressBook(fourPersons);
+        List<Person> expectedList = helper.generatePersonList(p2, p3, p4);
+        helper.addToModel(model, fourPersons);
+
+        assertCommandBehavior("find a/postal:11 OR a/postal:120000-129999",
+                Command.getMessageForPersonListShownSummary(expectedList.size()),
+                expectedAB,
+                expectedList);
+        assertCommandBehavior("find a/postal:1234567", String.format(FindQueryParser.MESSAGE_INVALID_QUERY,
+                "expected a postal code prefix or range after 'a/postal:'"),
+                expectedAB,
+                expectedList);
+    }
+
+    @Test
+    public void execute_find_emailDomainAndSubdomains() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Person p1 = helper.generatePersonWithEmail("alice@example.com");
+        Person p2 = helper.generatePersonWithEmail("bob@gmail.com");
+        Person p3 = helper.generatePersonWithEmail("carl@Sales.Example.com");
+        Person p4 = helper.generatePersonWithEmail("dan@notexample.com");
+
+        List<Person> fourPersons = helper.generatePersonList(p1, p2, p3, p4);
+        AddressBook expectedAB = helper.generateAddressBook(fourPersons);
+        List<Person> expectedList = helper.generatePersonList(p1, p3);
+        helper.addToModel(model, fourPersons);
+
+        assertCommandBehavior("find e/@EXAMPLE.com",
+                Command.getMessageForPersonListShownSummary(expectedList.size()),
+                expectedAB,
+                expectedList);
+    }
+
+    @Test
+    public void execute_statsDomains_countsPerDomainMostCommonFirst() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        List<Person> threePersons = helper.generatePersonList(helper.generatePersonWithEmail("alice@example.com"),
+                helper.generatePersonWithEmail("bob@gmail.com"), helper.generatePersonWithEmail("carl@gmail.com"));
+        AddressBook expectedAB = helper.generateAddressBook(threePersons);
+        helper.addToModel(model, threePersons);
+
+        assertCommandBehavior("stats domains",
+                StatsCommand.MESSAGE_EMAIL_DOMAIN_COUNTS
+                        + String.format(StatsCommand.MESSAGE_EMAIL_DOMAIN_COUNT, "gmail.com", 2)
+                        + String.format(StatsCommand.MESSAGE_EMAIL_DOMAIN_COUNT, "example.com", 1),
+                expectedAB,
+                threePersons);
+        assertCommandBehavior("stats people",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE),
+                expectedAB,
+                threePersons);
+    }
+
+    @Test
+    public void execute_find_phonePrefix() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Person p1 = helper.generatePersonWithPhone("6512");
+        Person p2 = helper.generatePersonWithPhone("651");
+        Person p3 = helper.generatePersonWithPhone("65123");
+        Person p4 = helper.generatePersonWithPhone("76512");
+
+        List<Person> fourPersons = helper.generatePersonList(p1, p2, p3, p4);
+        AddressBook expectedAB = helper.generateAddressBook(fourPersons);
+        List<Person> expectedList = helper.generatePersonList(p1, p3);
+        helper.addToModel(model, fourPersons);
+
+        assertCommandBehavior("find p/6512*",
+                Command.getMessageForPersonListShownSummary(expectedList.size()),
+                expectedAB,
+                expectedList);
+        assertCommandBehavior("find p/65a*", String.format(FindQueryParser.MESSAGE_INVALID_QUERY,
+                "expected digits before '*' in 'p/65a*'"),
+                expectedAB,
+                expectedList);
+    }
+
+    @Test
+    public void execute_caller_longestPhonePrefix() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Person p1 = helper.generatePersonWithPhone("6512");
+        Person p2 = helper.generatePersonWithPhone("651");
+        Person p3 = helper.generatePersonWithPhone("65123");
+
+        List<Person> threePersons = helper.generatePersonList(p1, p2, p3);
+        AddressBook expectedAB = helper.generateAddressBook(threePersons);
+        List<Person> expectedList = helper.generatePersonList(p1);
+        helper.addToModel(model, threePersons);
+
+        assertCommandBehavior("caller 6512999",
+                String.format(CallerCommand.MESSAGE_CALLER_FOUND, "6512999", "6512", 1),
+                expectedAB,
+                expectedList);
+        assertCommandBehavior("caller 77",
+                String.format(CallerCommand.MESSAGE_NO_CALLER, "77"),
+                expectedAB,
+                expectedList);
+        assertCommandBehavior("caller 65-12",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, CallerCommand.MESSAGE_USAGE),
+                expectedAB,
+                expectedList);
+    }
+
+    @Test
+    public void execute_find_fragmentInAnyField() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Person p1 = helper.generatePerson(12);
+        Person p2 = helper.generatePerson(45);
+        Person p3 = helper.generatePerson(123);
+        Person p4 = helper.generatePersonWithName("Dan Mill");
+
+        List<Person> fourPersons = helper.generatePersonList(p1, p2, p3, p4);
+        AddressBook expectedAB = helper.generateAddressBook(fourPersons);
+        List<Person> expectedList = helper.generatePersonList(p1, p3, p4);
+        helper.addToModel(model, fourPersons);
+
+        // matches the phone of p1, the phone of p3 and the name of p4
+        assertCommandBehavior("find *12* OR *ILL*",
+                Command.getMessageForPersonListShownSummary(expectedList.size()),
+                expectedAB,
+                expectedList);
+    }
+
+    @Test
+    public void execute_find_topScoredBestFirst() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Person p1 = helper.generatePersonWithName("Alice Lee Wei Ming");
+        Person p2 = helper.generatePersonWithName("Bob Tan");
+        Person p3 = helper.generatePersonWithName("Alice Tan");
+        Person p4 = helper.generatePersonWithName("Alice Alice Tan");
+
+        List<Person> fourPersons = helper.generatePersonList(p1, p2, p3, p4);
+        AddressBook expectedAB = helper.generateAddressBook(fourPersons);
+        List<Person> expectedList = helper.generatePersonList(p4, p3);
+        helper.addToModel(model, fourPersons);
+
+        assertCommandBehavior("find top/2 ALICE",
+                Command.getMessageForPersonListShownSummary(expectedList.size()),
+                expectedAB,
+                expectedList);
+    }
+
+    @Test
+    public void execute_find_invalidQuery() throws Exception {
+        assertCommandBehavior("find (t/friends AND", String.format(FindQueryParser.MESSAGE_INVALID_QUERY,
+                "query ends unexpectedly"));
+        assertCommandBehavior("find alice)", String.format(FindQueryParser.MESSAGE_INVALID_QUERY,
+                "unexpected ')'"));
+        assertCommandBehavior("find n/", String.format(FindQueryParser.MESSAGE_INVALID_QUERY,
+                "missing keyword after 'n/'"));
+        assertCommandBehavior("find *alice", String.format(FindQueryParser.MESSAGE_INVALID_QUERY,
+                "expected '*fragment*' but got '*alice'"));
+        assertCommandBehavior("find top/0 alice", String.format(FindQueryParser.MESSAGE_INVALID_QUERY,
+                "expected a positive number after 'top/'"));
+        assertCommandBehavior("find top/5 alice AND bob", String.format(FindQueryParser.MESSAGE_INVALID_QUERY,
+                "ranked search takes only keywords, but got 'AND'"));
+    }
+
+    @Test
+    public void getCompletions_tagsAndNameWords() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        helper.addToModel(model, helper.generatePersonList(helper.adam(), helper.generatePersonWithName("Adele Brown"),
+                helper.generatePersonWithName("Bob Brown")));
+
+        assertEquals(Arrays.asList("Adam", "Adele"), logic.getCompletions("find ad", 10));
+        assertEquals(Arrays.asList("n/Adam", "n/Adele"), logic.getCompletions("find t/tag AND (n/AD", 10));
+        assertEquals(Arrays.asList("Bob", "Brown"), logic.getCompletions("find alice OR b", 10));
+        assertEquals(Arrays.asList("t/tag", "t/tag1", "t/tag2"), logic.getCompletions("add Carl p/1 t/", 10));
+        assertEquals(Collections.singletonList("t/tag"), logic.getCompletions("add Carl p/1 t/", 1));
+
+        // only tags are completed outside of find, and not the command word itself
+        assertEquals(Collections.emptyList(), logic.getCompletions("add Ad", 10));
+        assertEquals(Collections.emptyList(), logic.getCompletions("find", 10));
+        assertEquals(Collections.emptyList(), logic.getCompletions("find Ad AND", 10));
+    }
 
     /**
      * A utility class to generate test data.
@@ -423,7 +771,7 @@ public class LogicManagerTest {
 
             UniqueTagList tags = p.getTags();
             for(Tag t: tags){
-                cmd.append(" t/").append(t.tagName);
+                cmd.append(" t/").append(t.getTagName());
             }
 
             return cmd.toString();
@@ -499,6 +847,36 @@ public class LogicManagerTest {
         /**
          * Generates a Person object with given name. Other fields will have some dummy values.
          */
+        Person generatePersonWithAddress(String address) throws Exception {
+            return new Person(
+                    new Name("Person at " + address.replaceAll("[^A-Za-z ]", "")),
+                    new Phone("1"),
+                    new Email("1@email"),
+                    new Address(address),
+                    new UniqueTagList(new Tag("tag"))
+            );
+        }
+
+        Person generatePersonWithPhone(String phone) throws Exception {
+            return new Person(
+                    new Name("Person " + phone),
+                    new Phone(phone),
+                    new Email("1@email"),
+                    new Address("House of 1"),
+                    new UniqueTagList(new Tag("tag"))
+            );
+        }
+
+        Person generatePersonWithEmail(String email) throws Exception {
+            return new Person(
+                    new Name("Person with " + email.replaceAll("[^A-Za-z]", " ")),
+                    new Phone("1"),
+                    new Email(email),
+                    new Address("House of 1"),
+                    new UniqueTagList(new Tag("tag"))
+            );
+        }
+
         Person generatePersonWithName(String name) throws Exception {
             return new Person(
                     new Name(name),
@@ -0,0 +1,172 @@
+package seedu.address.model;
+
+import org.junit.Test;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonRecords;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.UniqueTagList;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class AddressBookTest {
+
+    private static final int BOOK_SIZE = 20_000;
+
+    /** A person that counts the calls to its equals, which a removal by id must not need */
+    private static class CountingPerson extends Person {
+        static int equalsCalls;
+
+        CountingPerson(int i) throws Exception {
+            super(new Name("Person " + i), new Phone(String.valueOf(i)), new Email(i + "@email"),
+                    new Address("House of " + i), new UniqueTagList());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            equalsCalls++;
+            return super.equals(other);
+        }
+    }
+
+    /** Records of persons with numbered fields and no tags, which count the fields read from them */
+    private static class CountingRecords implements PersonRecords {
+        int fieldTextCalls;
+
+        @Override
+        public int size() {
+            return BOOK_SIZE;
+        }
+
+        @Override
+        public long getId(int record) {
+            return record + 1;
+        }
+
+        @Override
+        public String getFieldText(int record, int field) {
+            fieldTextCalls++;
+            switch (field) {
+            case NAME:
+                return "Person " + record;
+            case PHONE:
+                return String.valueOf(record);
+            case EMAIL:
+                return record + "@email";
+            default:
+                return "House of " + record;
+            }
+        }
+
+        @Override
+        public int getTagCount(int record) {
+            return 0;
+        }
+
+        @Override
+        public Tag getTag(int record, int i) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    @Test
+    public void setPersons_recordBackedPersons_fieldsReadOnFirstSearch() throws Exception {
+        CountingRecords records = new CountingRecords();
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < BOOK_SIZE; i++) {
+            persons.add(new Person(records, i));
+        }
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        assertTrue(addressBook.getPersonById(BOOK_SIZE).isPresent());
+        assertEquals(0, records.fieldTextCalls);
+
+        BitSet slots = addressBook.getPersonSlotsWithNameWords(Collections.singletonList("7"));
+        assertEquals(BOOK_SIZE, records.fieldTextCalls);
+        assertEquals("Person 7", addressBook.getPersonsInSlots(slots).get(0).getName().fullName());
+        assertEquals(BOOK_SIZE, records.fieldTextCalls);
+    }
+
+    @Test
+    public void removePerson_largeBook_noEqualsScan() throws Exception {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < BOOK_SIZE; i++) {
+            persons.add(new CountingPerson(i));
+        }
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        CountingPerson.equalsCalls = 0;
+
+        // the later person moves up after the first removal, and must still be found at its new position
+        addressBook.removePerson(persons.get(BOOK_SIZE / 2));
+        addressBook.removePerson(persons.get(BOOK_SIZE - 1));
+        addressBook.removePerson(persons.get(0));
+
+        assertEquals(0, CountingPerson.equalsCalls);
+        List<Person> expected = new ArrayList<>(persons.subList(1, BOOK_SIZE - 1));
+        expected.remove(BOOK_SIZE / 2 - 1);
+        assertEquals(expected, addressBook.getPersons());
+        assertFalse(addressBook.getPersonById(persons.get(0).getId()).isPresent());
+    }
+
+    @Test
+    public void addPerson_largeBook_noEqualsScan() throws Exception {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < BOOK_SIZE; i++) {
+            persons.add(new CountingPerson(i));
+        }
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        addressBook.addPerson(new CountingPerson(BOOK_SIZE));
+        CountingPerson.equalsCalls = 0;
+
+        addressBook.addPerson(new CountingPerson(BOOK_SIZE + 1));
+        try {
+            addressBook.addPerson(new CountingPerson(BOOK_SIZE / 2));
+            fail("a duplicate of a person in the book must be rejected");
+        } catch (UniquePersonList.DuplicatePersonException expected) {
+            // the duplicate is found among the persons with the same name
+        }
+
+        assertEquals(0, CountingPerson.equalsCalls);
+        assertEquals(BOOK_SIZE + 2, addressBook.getPersons().size());
+    }
+
+    @Test
+    public void getPersonSlotsWithTag_largeIdsAndManyRemovals_denseSlots() throws Exception {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Person person = new Person(new Name("Person " + i), new Phone(String.valueOf(i)), new Email(i + "@email"),
+                    new Address("House of " + i), new UniqueTagList(new Tag(i % 2 == 0 ? "even" : "odd")));
+            person.setId(2_000_000_000L + i);
+            persons.add(person);
+        }
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        assertTrue(addressBook.getPersonSlotsWithTag("even").length() <= persons.size());
+
+        // enough removals for the slots to be renumbered
+        for (int i = 0; i < 900; i++) {
+            addressBook.removePerson(persons.get(i));
+        }
+        BitSet evenSlots = addressBook.getPersonSlotsWithTag("even");
+        assertTrue(evenSlots.length() <= 2 * addressBook.getPersons().size());
+        List<Person> evenPersons = addressBook.getPersonsInSlots(evenSlots);
+        assertEquals(50, evenPersons.size());
+        for (Person person : evenPersons) {
+            assertTrue(person.getId() % 2 == 0 && person.getId() >= 2_000_000_900L);
+        }
+    }
+}
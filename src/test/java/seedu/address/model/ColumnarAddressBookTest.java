@@ -0,0 +1,56 @@
+package seedu.address.model;
+
+import org.junit.Test;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.testutil.TypicalTestPersons;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ColumnarAddressBookTest {
+
+    @Test
+    public void copyOf_sameDataAsSource() {
+        AddressBook source = new TypicalTestPersons().getTypicalAddressBook();
+        ColumnarAddressBook columnar = ColumnarAddressBook.copyOf(source);
+
+        List<ReadOnlyPerson> sourcePersons = source.getPersonList();
+        List<ReadOnlyPerson> views = columnar.getPersonList();
+        assertEquals(sourcePersons.size(), columnar.size());
+        for (int i = 0; i < sourcePersons.size(); i++) {
+            assertEquals(sourcePersons.get(i), views.get(i));
+            assertEquals(sourcePersons.get(i).getId(), views.get(i).getId());
+            assertEquals(sourcePersons.get(i).getTags(), views.get(i).getTags());
+            assertEquals(sourcePersons.get(i).hashCode(), views.get(i).hashCode());
+        }
+        assertEquals(source.getTagList(), columnar.getTagList());
+        assertEquals(source, new AddressBook(columnar));
+    }
+
+    @Test
+    public void backedPerson_hasTag_ignoresCase() {
+        ColumnarAddressBook columnar = ColumnarAddressBook.copyOf(new TypicalTestPersons().getTypicalAddressBook());
+        ReadOnlyPerson benson = columnar.getPersonList().get(1);
+
+        assertTrue(benson.hasTag("OWESMONEY"));
+        assertTrue(benson.hasTag("friends"));
+        assertFalse(benson.hasTag("family"));
+    }
+
+    @Test
+    public void adopt_personsStayBackedByColumns() {
+        AddressBook source = new TypicalTestPersons().getTypicalAddressBook();
+        ColumnarAddressBook columnar = ColumnarAddressBook.copyOf(source);
+        AddressBook adopted = AddressBook.adopt(columnar);
+
+        assertEquals(source, adopted);
+        // a copy shares the record backing its source, and so decodes the same text
+        Person alice = adopted.getPersons().get(0);
+        assertEquals(alice, new Person(alice));
+        assertEquals(source.getPersons().get(0).getId(), alice.getId());
+    }
+}
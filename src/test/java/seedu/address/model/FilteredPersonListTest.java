@@ -0,0 +1,172 @@
+package seedu.address.model;
+
+import org.junit.Before;
+import org.junit.Test;
+import seedu.address.commons.core.ListListener;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.person.SortField;
+import seedu.address.testutil.TypicalTestPersons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+
+public class FilteredPersonListTest {
+
+    private static final Comparator<ReadOnlyPerson> BY_NAME_DESCENDING =
+            Comparator.comparing((ReadOnlyPerson person) -> person.getName().fullName()).reversed();
+
+    private AddressBook addressBook;
+    private FilteredPersonList filteredPersons;
+    private List<String> changes;
+
+    @Before
+    public void setup() {
+        addressBook = new TypicalTestPersons().getTypicalAddressBook();
+        filteredPersons = new FilteredPersonList(addressBook.getPersons());
+        addressBook.addPersonListListener(filteredPersons);
+        changes = new ArrayList<>();
+        filteredPersons.addListener(new ListListener<ReadOnlyPerson>() {
+            @Override
+            public void onAdded(int index, ReadOnlyPerson element) {
+                changes.add("added " + index);
+            }
+
+            @Override
+            public void onAddedAll(int index, List<? extends ReadOnlyPerson> elements) {
+                changes.add("appended " + index);
+            }
+
+            @Override
+            public void onRemoved(int index, ReadOnlyPerson element) {
+                changes.add("removed " + index);
+            }
+
+            @Override
+            public void onReplaced() {
+                changes.add("replaced");
+            }
+        });
+    }
+
+    @Test
+    public void noPredicateOrComparator_showsAddressBookInOrder() throws Exception {
+        assertEquals(addressBook.getPersonList(), filteredPersons);
+
+        addressBook.addPerson(new Person(TypicalTestPersons.hoon));
+        assertEquals(addressBook.getPersonList(), filteredPersons);
+        assertEquals("added " + (filteredPersons.size() - 1), changes.get(0));
+    }
+
+    @Test
+    public void addPerson_sortedByComparator_insertedInOrder() throws Exception {
+        filteredPersons.update(person -> person.hasTag("friends") || person.getName().fullName().startsWith("H"),
+                BY_NAME_DESCENDING);
+        changes.clear();
+
+        addressBook.addPerson(new Person(TypicalTestPersons.hoon));
+        assertEquals(getExpected(), filteredPersons);
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void removePerson_notShown_noChangeReported() throws Exception {
+        filteredPersons.update(person -> person.hasTag("friends"), null);
+        changes.clear();
+
+        addressBook.removePerson(TypicalTestPersons.carl);
+        assertEquals(0, changes.size());
+        addressBook.removePerson(TypicalTestPersons.alice);
+        assertEquals("removed 0", changes.get(0));
+        assertEquals(addressBook.getPersonList().stream().filter(person -> person.hasTag("friends"))
+                .collect(Collectors.toList()), filteredPersons);
+    }
+
+    @Test
+    public void showAllSorted_addAndRemove_reportedAtSortedPositions() throws Exception {
+        filteredPersons.showAll(addressBook.getPersonsSortedBy(SortField.NAME), true);
+        assertEquals(getAllByNameDescending(), filteredPersons);
+        changes.clear();
+
+        addressBook.addPerson(new Person(TypicalTestPersons.hoon)); // first, as Hoon is last by name
+        addressBook.removePerson(TypicalTestPersons.alice);
+        assertEquals(getAllByNameDescending(), filteredPersons);
+        assertEquals(Arrays.asList("added 0", "removed 7"), changes);
+    }
+
+    @Test
+    public void showAppended_appendedAndAddedPersonsShownInOrder() throws Exception {
+        filteredPersons.showAppended(person -> person.getName().fullName().contains("Meier"));
+        filteredPersons.append(Arrays.asList(addressBook.getPersons().get(1), addressBook.getPersons().get(3)));
+        addressBook.addPerson(new Person(TypicalTestPersons.hoon));
+        addressBook.addPerson(new Person(TypicalTestPersons.ida));
+
+        assertEquals(getExpected(person -> person.getName().fullName().contains("Meier")), filteredPersons);
+        assertEquals(Arrays.asList("replaced", "appended 0", "added 2"), changes);
+    }
+
+    @Test
+    public void append_afterAddedPerson_insertedInAddressBookOrder() throws Exception {
+        final Person hoon = new Person(TypicalTestPersons.hoon);
+        filteredPersons.showAppended(person -> person.getName().fullName().contains("Meier"));
+        filteredPersons.append(Collections.singletonList(addressBook.getPersons().get(1)));
+        addressBook.addPerson(hoon);
+        // found by a scan that started before the person was added
+        filteredPersons.append(Collections.singletonList(addressBook.getPersons().get(3)));
+
+        assertEquals(getExpected(person -> person.getName().fullName().contains("Meier")), filteredPersons);
+        assertEquals(Arrays.asList("replaced", "appended 0", "added 1", "added 1"), changes);
+        assertEquals(2, filteredPersons.indexOfShown(hoon));
+
+        addressBook.removePerson(addressBook.getPersons().get(1));
+        assertEquals(1, filteredPersons.indexOfShown(hoon));
+        assertEquals("removed 0", changes.get(changes.size() - 1));
+    }
+
+    @Test
+    public void indexOfShown_sortedOrHidden_indexInShownList() throws Exception {
+        final Person hoon = new Person(TypicalTestPersons.hoon);
+        addressBook.addPerson(hoon);
+
+        filteredPersons.showAll(addressBook.getPersonsSortedBy(SortField.NAME), true);
+        assertEquals(0, filteredPersons.indexOfShown(hoon));
+        filteredPersons.update(person -> person.hasTag("friends") || person == hoon, BY_NAME_DESCENDING);
+        assertEquals(0, filteredPersons.indexOfShown(hoon));
+        filteredPersons.update(person -> person.hasTag("friends"), null);
+        assertEquals(-1, filteredPersons.indexOfShown(hoon));
+        filteredPersons.update(null, null);
+        assertEquals(filteredPersons.size() - 1, filteredPersons.indexOfShown(hoon));
+    }
+
+    @Test
+    public void resetData_refiltered() {
+        filteredPersons.update(person -> person.hasTag("friends"), BY_NAME_DESCENDING);
+        changes.clear();
+
+        addressBook.resetData(new AddressBook());
+        assertEquals(0, filteredPersons.size());
+        assertEquals("replaced", changes.get(0));
+    }
+
+    private List<ReadOnlyPerson> getAllByNameDescending() {
+        return addressBook.getPersonList().stream().sorted(BY_NAME_DESCENDING).collect(Collectors.toList());
+    }
+
+    private List<ReadOnlyPerson> getExpected(Predicate<ReadOnlyPerson> predicate) {
+        return addressBook.getPersonList().stream().filter(predicate).collect(Collectors.toList());
+    }
+
+    private List<ReadOnlyPerson> getExpected() {
+        return addressBook.getPersonList().stream()
+                .filter(person -> person.hasTag("friends") || person.getName().fullName().startsWith("H"))
+                .sorted(BY_NAME_DESCENDING)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,295 @@
+package seedu.address.model;
+
+import com.google.common.eventbus.Subscribe;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.core.ListListener;
+import seedu.address.commons.events.model.SearchProgressEvent;
+import seedu.address.model.person.*;
+import seedu.address.model.query.AndExpression;
+import seedu.address.model.query.Expression;
+import seedu.address.model.query.FieldExpression;
+import seedu.address.model.query.NotExpression;
+import seedu.address.model.query.SubstringExpression;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.UniqueTagList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ModelManagerTest {
+
+    private static final int BACKGROUND_SEARCH_THRESHOLD = 10_000;
+    private static final int BOOK_SIZE = BACKGROUND_SEARCH_THRESHOLD * 2;
+
+    private ModelManager model;
+    private CountDownLatch searchFinished;
+    private SearchProgressEvent lastProgressEvent;
+
+    @Subscribe
+    private void handleSearchProgressEvent(SearchProgressEvent spe) {
+        lastProgressEvent = spe;
+        if (!spe.isInProgress()) {
+            searchFinished.countDown();
+        }
+    }
+
+    @Before
+    public void setup() throws Exception {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < BOOK_SIZE; i++) {
+            persons.add(new Person(new Name((i % 10 == 0 ? "KEY " : "other ") + i), new Phone(String.valueOf(i)),
+                    new Email(i + "@email"), new Address("House of " + i),
+                    i % 2 == 0 ? new UniqueTagList(new Tag("even")) : new UniqueTagList()));
+        }
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        model = new ModelManager(addressBook, new UserPrefs());
+        // publish on the search thread, as there is no FX application thread in this test
+        model.enableBackgroundSearch(Runnable::run, BACKGROUND_SEARCH_THRESHOLD);
+        searchFinished = new CountDownLatch(1);
+        EventsCenter.getInstance().registerHandler(this);
+    }
+
+    @After
+    public void teardown() {
+        EventsCenter.clearSubscribers();
+    }
+
+    @Test
+    public void updateFilteredPersonListInBackground_largeBook_sameMatchesAsForegroundSearch() throws Exception {
+        model.updateFilteredPersonListInBackground(new FieldExpression(FieldExpression.Field.NAME, "key"));
+        assertTrue(searchFinished.await(30, TimeUnit.SECONDS));
+        assertEquals(SearchProgressEvent.Status.FINISHED, lastProgressEvent.status);
+        assertFalse(model.isBackgroundSearchInProgress());
+        List<ReadOnlyPerson> backgroundMatches = new ArrayList<>(model.getFilteredPersonList());
+
+        model.updateFilteredPersonList(Collections.singleton("key"));
+        assertEquals(BOOK_SIZE / 10, backgroundMatches.size());
+        assertEquals(model.getFilteredPersonList(), backgroundMatches);
+    }
+
+    @Test
+    public void updateFilteredPersonListInBackground_matchesAppendedWithoutRescan() throws Exception {
+        List<String> changes = new ArrayList<>();
+        model.getFilteredPersonList().addListener(new ListListener<ReadOnlyPerson>() {
+            @Override
+            public void onAdded(int index, ReadOnlyPerson element) {
+                changes.add("added");
+            }
+
+            @Override
+            public void onAddedAll(int index, List<? extends ReadOnlyPerson> elements) {
+                changes.add("appended " + elements.size());
+            }
+
+            @Override
+            public void onRemoved(int index, ReadOnlyPerson element) {
+                changes.add("removed");
+            }
+
+            @Override
+            public void onReplaced() {
+                changes.add("replaced");
+            }
+        });
+        model.updateFilteredPersonListInBackground(new FieldExpression(FieldExpression.Field.NAME, "key"));
+        assertTrue(searchFinished.await(30, TimeUnit.SECONDS));
+
+        // emptied once when the search starts, then only appended to
+        assertEquals("replaced", changes.get(0));
+        assertTrue(changes.subList(1, changes.size()).stream().allMatch(change -> change.startsWith("appended")));
+        assertEquals(getMatchesByFullScan(new FieldExpression(FieldExpression.Field.NAME, "key")),
+                model.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonListByPrefixes_refinedPrefixes_sameMatchesAsFullScan() throws Exception {
+        model.updateFilteredPersonListByPrefixes(Arrays.asList("k"));
+        assertEquals(BOOK_SIZE / 10, model.getFilteredPersonList().size());
+
+        // a person matches any of the prefixes, as find matches any of its keywords
+        model.updateFilteredPersonListByPrefixes(Arrays.asList("k", "1"));
+        List<ReadOnlyPerson> widerMatches = new ArrayList<>(model.getFilteredPersonList());
+        assertTrue(widerMatches.size() > BOOK_SIZE / 10);
+
+        // narrowed from the previous matches, as each prefix extends a previous one
+        model.updateFilteredPersonListByPrefixes(Arrays.asList("key", "12"));
+        List<ReadOnlyPerson> narrowedMatches = new ArrayList<>(model.getFilteredPersonList());
+        assertTrue(widerMatches.containsAll(narrowedMatches));
+
+        // the committed find matches whole words, so it shows some of the persons previewed
+        model.updateFilteredPersonList(new HashSet<>(Arrays.asList("key", "12")));
+        assertTrue(narrowedMatches.containsAll(model.getFilteredPersonList()));
+
+        // not a refinement of the previous prefixes, so the whole book is scanned
+        model.updateFilteredPersonListByPrefixes(Arrays.asList("o"));
+        assertEquals(BOOK_SIZE - BOOK_SIZE / 10, model.getFilteredPersonList().size());
+        model.updateFilteredPersonListByPrefixes(Arrays.asList("12", "KEY"));
+        assertEquals(model.getFilteredPersonList(), narrowedMatches);
+
+        model.updateFilteredPersonListByPrefixes(Collections.emptyList());
+        assertEquals(BOOK_SIZE, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void updateFilteredPersonList_repeatedKeywords_servedFromCacheUntilBookChanges() throws Exception {
+        model.updateFilteredPersonList(new HashSet<>(Arrays.asList("KEY", "other")));
+        model.updateFilteredPersonList(new HashSet<>(Arrays.asList("other", "key")));
+        FindResultCache.Statistics statistics = model.getFindResultCacheStatistics();
+        assertEquals(1, statistics.hits);
+        assertEquals(1, statistics.misses);
+        assertEquals(BOOK_SIZE, model.getFilteredPersonList().size());
+
+        // a changed book invalidates the cached results
+        model.addPerson(new Person(new Name("KEY new"), new Phone("999"), new Email("new@email"),
+                new Address("New house"), new UniqueTagList()));
+        model.updateFilteredPersonList(new HashSet<>(Arrays.asList("key", "other")));
+        assertEquals(1, model.getFindResultCacheStatistics().hits);
+        assertEquals(2, model.getFindResultCacheStatistics().misses);
+        assertEquals(BOOK_SIZE + 1, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void updateFilteredPersonList_tagIndexLookup_sameMatchesAsFullScan() throws Exception {
+        Expression query = new AndExpression(Arrays.asList(
+                new NotExpression(new FieldExpression(FieldExpression.Field.ADDRESS, "1")),
+                new FieldExpression(FieldExpression.Field.NAME, "key"),
+                new FieldExpression(FieldExpression.Field.TAG, "EVEN")));
+        model.updateFilteredPersonList(query);
+        assertEquals(BOOK_SIZE / 10, model.getFilteredPersonList().size());
+        assertEquals(getMatchesByFullScan(query), model.getFilteredPersonList());
+
+        // removed persons are dropped from the tag index
+        model.deletePerson(model.getFilteredPersonList().get(0));
+        model.updateFilteredPersonList(query);
+        assertEquals(BOOK_SIZE / 10 - 1, model.getFilteredPersonList().size());
+        assertEquals(getMatchesByFullScan(query), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_trigramIndexLookup_sameMatchesAsFullScan() throws Exception {
+        // too short to be looked up in the index
+        Expression query = new SubstringExpression("23");
+        model.updateFilteredPersonList(query);
+        assertEquals(getMatchesByFullScan(query), model.getFilteredPersonList());
+
+        query = new SubstringExpression("Y 12");
+        model.updateFilteredPersonList(query);
+        assertEquals(getMatchesByFullScan(query), model.getFilteredPersonList());
+
+        // persons added and removed after the index is built are kept in it
+        Person added = new Person(new Name("Key 12"), new Phone("999"), new Email("new@email"),
+                new Address("New house"), new UniqueTagList());
+        model.addPerson(added);
+        model.deletePerson(model.getFilteredPersonList().get(0));
+        model.updateFilteredPersonList(query);
+        assertTrue(model.getFilteredPersonList().contains(added));
+        assertEquals(getMatchesByFullScan(query), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void getPersons_queryPages_sameAsFullScanWithoutChangingFilteredList() throws Exception {
+        Expression query = new FieldExpression(FieldExpression.Field.NAME, "key");
+        List<ReadOnlyPerson> allMatches = getMatchesByFullScan(query);
+
+        PersonPage firstPage = model.getPersons(query, 5, 10);
+        assertEquals(allMatches.subList(5, 15), firstPage.persons);
+        assertTrue(firstPage.hasMore);
+        assertTrue(firstPage.matchCount > allMatches.size() / 2 && firstPage.matchCount < allMatches.size() * 2);
+        assertEquals(BOOK_SIZE, model.getFilteredPersonList().size());
+
+        // reaching the last page completes the scan, which is then served from the cache
+        PersonPage lastPage = model.getPersons(query, allMatches.size() - 5, 10);
+        assertEquals(allMatches.subList(allMatches.size() - 5, allMatches.size()), lastPage.persons);
+        assertFalse(lastPage.hasMore);
+        assertTrue(lastPage.isMatchCountExact);
+        assertEquals(allMatches.size(), lastPage.matchCount);
+        long hits = model.getFindResultCacheStatistics().hits;
+        PersonPage cachedPage = model.getPersons(query, 5, 10);
+        assertEquals(hits + 1, model.getFindResultCacheStatistics().hits);
+        assertEquals(firstPage.persons, cachedPage.persons);
+        assertEquals(allMatches.size(), cachedPage.matchCount);
+    }
+
+    @Test
+    public void getPersons_sortedFilteredList_windowOfList() {
+        model.updateFilteredListToShowAll(SortField.PHONE, true);
+        assertEquals(model.getFilteredPersonList().subList(100, 110), model.getPersons(100, 10));
+        assertEquals(model.getFilteredPersonList().subList(BOOK_SIZE - 3, BOOK_SIZE),
+                model.getPersons(BOOK_SIZE - 3, 10));
+        assertTrue(model.getPersons(BOOK_SIZE, 10).isEmpty());
+    }
+
+    private List<ReadOnlyPerson> getMatchesByFullScan(Expression query) {
+        return model.getAddressBook().getPersonList().stream().filter(query::satisfies).collect(Collectors.toList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_parallelSearch_sameMatchesAsFullScan() throws Exception {
+        Expression query = new AndExpression(Arrays.asList(
+                new FieldExpression(FieldExpression.Field.NAME, "key"),
+                new NotExpression(new FieldExpression(FieldExpression.Field.PHONE, "10"))));
+        model.enableParallelSearch(new ForkJoinPool(4), 1);
+        model.updateFilteredPersonList(query);
+        assertEquals(BOOK_SIZE / 10 - 1, model.getFilteredPersonList().size());
+        assertEquals(getMatchesByFullScan(query), model.getFilteredPersonList());
+
+        // background searches scan their chunks in parallel too
+        model.updateFilteredPersonListInBackground(new FieldExpression(FieldExpression.Field.NAME, "other"));
+        assertTrue(searchFinished.await(30, TimeUnit.SECONDS));
+        assertEquals(BOOK_SIZE - BOOK_SIZE / 10, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void adopt_loadedBook_personsNotCopied() throws Exception {
+        AddressBook loaded = new AddressBook(model.getAddressBook());
+        assertSame(loaded, ModelManager.adopt(loaded, new UserPrefs()).getAddressBook());
+
+        UniquePersonList loadedPersons = loaded.getUniquePersonList();
+        UniqueTagList loadedTags = loaded.getUniqueTagList();
+        ReadOnlyAddressBook freshlyRead = new ReadOnlyAddressBook() {
+            @Override
+            public UniqueTagList getUniqueTagList() {
+                return loadedTags;
+            }
+
+            @Override
+            public UniquePersonList getUniquePersonList() {
+                return loadedPersons;
+            }
+
+            @Override
+            public List<ReadOnlyPerson> getPersonList() {
+                return new ArrayList<>(loadedPersons.getInternalList());
+            }
+
+            @Override
+            public List<Tag> getTagList() {
+                return loadedTags.getInternalList();
+            }
+        };
+        ModelManager adopted = ModelManager.adopt(freshlyRead, new UserPrefs());
+        List<ReadOnlyPerson> adoptedPersons = adopted.getAddressBook().getPersonList();
+        assertEquals(BOOK_SIZE, adoptedPersons.size());
+        for (int i = 0; i < BOOK_SIZE; i++) {
+            assertSame(loadedPersons.getInternalList().get(i), adoptedPersons.get(i));
+        }
+        adopted.updateFilteredPersonList(new HashSet<>(Arrays.asList("key")));
+        assertEquals(BOOK_SIZE / 10, adopted.getFilteredPersonList().size());
+    }
+}
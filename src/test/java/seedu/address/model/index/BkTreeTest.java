@@ -0,0 +1,85 @@
+package seedu.address.model.index;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class BkTreeTest {
+
+    @Test
+    public void search_findsWordsWithinDistance() {
+        BkTree tree = new BkTree();
+        for (String word : new String[] {"john", "jon", "joan", "jane", "sean", "johnson", "bob"}) {
+            tree.add(word);
+        }
+
+        Map<String, Integer> expected = new HashMap<>();
+        expected.put("john", 1);
+        expected.put("jon", 0);
+        expected.put("joan", 1);
+        assertEquals(expected, tree.search("jon", 1));
+
+        expected.put("jane", 2);
+        expected.put("bob", 2);
+        assertEquals(expected, tree.search("jon", 2));
+    }
+
+    @Test
+    public void search_removedWordsNotFound() {
+        BkTree tree = new BkTree();
+        tree.add("john");
+        tree.add("john");
+        tree.add("jon");
+
+        tree.remove("john");
+        assertEquals(2, tree.search("jon", 1).size());
+        tree.remove("john");
+        assertEquals(1, tree.search("jon", 1).size());
+        tree.add("john");
+        assertEquals(2, tree.search("jon", 1).size());
+    }
+
+    @Test
+    public void search_afterRebuild_sameAsEditDistanceToEveryWord() {
+        BkTree tree = new BkTree();
+        Map<String, Integer> counts = new HashMap<>();
+        Random random = new Random(1);
+        for (int i = 0; i < 5000; i++) {
+            String word = randomWord(random);
+            tree.add(word);
+            counts.merge(word, 1, Integer::sum);
+        }
+        // removing most words makes the tree rebuild itself
+        for (String word : counts.keySet().toArray(new String[0])) {
+            if (random.nextInt(4) != 0) {
+                for (int i = counts.remove(word); i > 0; i--) {
+                    tree.remove(word);
+                }
+            }
+        }
+
+        for (int i = 0; i < 50; i++) {
+            String query = randomWord(random);
+            Map<String, Integer> expected = new HashMap<>();
+            for (String word : counts.keySet()) {
+                int distance = EditDistance.between(query, word);
+                if (distance <= 2) {
+                    expected.put(word, distance);
+                }
+            }
+            assertEquals(expected, tree.search(query, 2));
+        }
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        for (int length = 3 + random.nextInt(4); length > 0; length--) {
+            word.append((char) ('a' + random.nextInt(6)));
+        }
+        return word.toString();
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.model.index;
+
+import org.junit.Test;
+
+import java.util.BitSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class DigitTrieTest {
+
+    @Test
+    public void findIdsWithPrefix_idsUnderPrefix() {
+        DigitTrie trie = new DigitTrie();
+        trie.add("65123456", 1);
+        trie.add("6512", 2);
+        trie.add("65139999", 3);
+        trie.add("91234567", 4);
+        trie.add("65123456", 5);
+
+        assertEquals(bitSetOf(1, 2, 5), trie.findIdsWithPrefix("6512"));
+        assertEquals(bitSetOf(1, 2, 3, 5), trie.findIdsWithPrefix("65"));
+        assertEquals(bitSetOf(1, 2, 3, 4, 5), trie.findIdsWithPrefix(""));
+        assertEquals(bitSetOf(), trie.findIdsWithPrefix("7"));
+        assertEquals(bitSetOf(), trie.findIdsWithPrefix("65a"));
+    }
+
+    @Test
+    public void findLongestPrefixOf_longestStringWithIds() {
+        DigitTrie trie = new DigitTrie();
+        trie.add("6512", 1);
+        trie.add("651234", 2);
+        trie.add("65123456", 3);
+
+        assertEquals("651234", trie.findLongestPrefixOf("6512345"));
+        assertEquals("6512", trie.findLongestPrefixOf("6512999"));
+        assertEquals("65123456", trie.findLongestPrefixOf("65123456"));
+        assertNull(trie.findLongestPrefixOf("651"));
+
+        trie.remove("651234", 2);
+        assertEquals("6512", trie.findLongestPrefixOf("6512345"));
+        trie.remove("6512", 1);
+        trie.remove("65123456", 3);
+        assertNull(trie.findLongestPrefixOf("65123456"));
+        assertEquals(bitSetOf(), trie.findIdsWithPrefix(""));
+    }
+
+    private static BitSet bitSetOf(int... ids) {
+        BitSet bitSet = new BitSet();
+        for (int id : ids) {
+            bitSet.set(id);
+        }
+        return bitSet;
+    }
+}
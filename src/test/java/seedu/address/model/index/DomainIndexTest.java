@@ -0,0 +1,54 @@
+package seedu.address.model.index;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+
+import static org.junit.Assert.assertEquals;
+
+public class DomainIndexTest {
+
+    @Test
+    public void reverse_labelsInReverseOrder() {
+        assertEquals("com.example.sales", DomainIndex.reverse("sales.example.com"));
+        assertEquals("localhost", DomainIndex.reverse("localhost"));
+    }
+
+    @Test
+    public void findIds_domainAndSubdomains() {
+        DomainIndex index = new DomainIndex();
+        index.add("example.com", 1);
+        index.add("sales.example.com", 2);
+        index.add("notexample.com", 3);
+        index.add("example.com.sg", 4);
+
+        assertEquals(bitSetOf(1, 2), index.findIds("example.com"));
+        assertEquals(bitSetOf(2), index.findIds("sales.example.com"));
+        assertEquals(bitSetOf(1, 2, 3), index.findIds("com"));
+        assertEquals(bitSetOf(), index.findIds("ample.com"));
+    }
+
+    @Test
+    public void getCounts_maintainedOnAddAndRemove() {
+        DomainIndex index = new DomainIndex();
+        index.add("example.com", 1);
+        index.add("sales.example.com", 2);
+        index.add("example.com", 3);
+        index.add("gmail.com", 4);
+        index.remove("gmail.com", 4);
+        index.remove("example.com", 1);
+
+        assertEquals(Arrays.asList("example.com", "sales.example.com"), new ArrayList<>(index.getCounts().keySet()));
+        assertEquals(Arrays.asList(1, 1), new ArrayList<>(index.getCounts().values()));
+    }
+
+    private static BitSet bitSetOf(int... ids) {
+        BitSet bitSet = new BitSet();
+        for (int id : ids) {
+            bitSet.set(id);
+        }
+        return bitSet;
+    }
+}
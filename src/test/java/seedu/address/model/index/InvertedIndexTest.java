@@ -0,0 +1,59 @@
+package seedu.address.model.index;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class InvertedIndexTest {
+
+    @Test
+    public void getTerms_lowerCaseRunsOfLettersAndDigits() {
+        assertEquals(Arrays.asList("alice", "gmail", "com"), InvertedIndex.getTerms("Alice@GMAIL.com"));
+        assertEquals(Arrays.asList("blk", "123", "03", "45"), InvertedIndex.getTerms(" Blk 123, #03-45 "));
+        assertEquals(Collections.emptyList(), InvertedIndex.getTerms("@#"));
+    }
+
+    @Test
+    public void findTopScored_rarerTermsAndShorterDocumentsFirst() {
+        InvertedIndex index = new InvertedIndex();
+        index.add(1, Arrays.asList("Alice Lee", "alice@gmail.com"));
+        index.add(2, Arrays.asList("Alice Lee Wei Ming", "lee@gmail.com"));
+        index.add(3, Arrays.asList("Bob Tan", "bob@gmail.com"));
+        index.add(4, Arrays.asList("Alice Tan", "tan@gmail.com"));
+
+        Map<Long, Double> topScored = index.findTopScored(Arrays.asList("alice", "tan"), 3);
+        // tan is rarer than alice, and 1 is shorter than 2
+        assertEquals(Arrays.asList(4L, 3L, 1L), new ArrayList<>(topScored.keySet()));
+
+        // terms held by every document add little
+        assertEquals(topScored.keySet(), index.findTopScored(Arrays.asList("alice", "tan", "gmail"), 3).keySet());
+    }
+
+    @Test
+    public void findTopScored_sameScores_orderedById() {
+        InvertedIndex index = new InvertedIndex();
+        for (long id = 5; id > 0; id--) {
+            index.add(id, Collections.singletonList("Alice"));
+        }
+        index.add(6, Collections.singletonList("Bob"));
+
+        assertEquals(Arrays.asList(1L, 2L), new ArrayList<>(index.findTopScored(Arrays.asList("alice"), 2).keySet()));
+    }
+
+    @Test
+    public void findTopScored_removedDocumentsNotScored() {
+        InvertedIndex index = new InvertedIndex();
+        index.add(1, Collections.singletonList("Alice Alice"));
+        index.add(2, Collections.singletonList("Alice Bob"));
+        index.remove(1, Collections.singletonList("Alice Alice"));
+
+        assertEquals(Collections.singleton(2L), index.findTopScored(Arrays.asList("alice"), 10).keySet());
+        assertTrue(index.findTopScored(Arrays.asList("carl"), 10).isEmpty());
+    }
+}
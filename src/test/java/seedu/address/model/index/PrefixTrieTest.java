@@ -0,0 +1,49 @@
+package seedu.address.model.index;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+
+public class PrefixTrieTest {
+
+    @Test
+    public void complete_ignoresCaseAndKeepsFirstAddedCase() {
+        PrefixTrie trie = new PrefixTrie();
+        trie.add("Alice");
+        trie.add("alex");
+        trie.add("ALICE");
+        trie.add("Bob");
+
+        assertEquals(Arrays.asList("alex", "Alice"), trie.complete("AL", 10));
+        assertEquals(Collections.singletonList("alex"), trie.complete("al", 1));
+        assertEquals(Arrays.asList("alex", "Alice", "Bob"), trie.complete("", 10));
+        assertEquals(Collections.emptyList(), trie.complete("c", 10));
+        assertEquals(3, trie.size());
+    }
+
+    @Test
+    public void remove_countsOccurrences() {
+        PrefixTrie trie = new PrefixTrie();
+        trie.add("Alice");
+        trie.add("Alice");
+        trie.add("Al");
+
+        trie.remove("alice");
+        assertEquals(Arrays.asList("Al", "Alice"), trie.complete("a", 10));
+        trie.remove("Alice");
+        assertEquals(Collections.singletonList("Al"), trie.complete("a", 10));
+
+        // removing words that were never added has no effect
+        trie.remove("Alice");
+        trie.remove("Albert");
+        trie.remove("A");
+        assertEquals(Collections.singletonList("Al"), trie.complete("a", 10));
+
+        trie.remove("Al");
+        assertEquals(Collections.emptyList(), trie.complete("", 10));
+        assertEquals(0, trie.size());
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.model.index;
+
+import org.junit.Test;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class SortedKeyIndexTest {
+
+    @Test
+    public void findIdsBetween_keysInRangeInclusive() {
+        SortedKeyIndex index = new SortedKeyIndex();
+        index.add(129999, 1);
+        index.add(120000, 2);
+        index.add(119077, 3);
+        index.add(130000, 4);
+        index.add(120000, 5);
+
+        assertEquals(bitSetOf(1, 2, 5), index.findIdsBetween(120000, 129999));
+        assertEquals(bitSetOf(2, 5), index.findIdsBetween(120000, 120000));
+        assertEquals(bitSetOf(), index.findIdsBetween(0, 100000));
+        assertEquals(bitSetOf(), index.findIdsBetween(130000, 120000));
+    }
+
+    @Test
+    public void remove_onlyEntryOfIdUnderKey() {
+        SortedKeyIndex index = new SortedKeyIndex();
+        index.add(120000, 2);
+        index.add(120000, 1);
+        index.remove(120000, 2);
+        index.remove(129999, 1);
+
+        assertEquals(bitSetOf(1), index.findIdsBetween(0, 999999));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    public void addAndRemove_manyEntries_sameAsReference() {
+        SortedKeyIndex index = new SortedKeyIndex();
+        Map<Integer, Integer> keysById = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            int id = random.nextInt(5_000);
+            Integer key = keysById.remove(id);
+            if (key != null) {
+                index.remove(key, id);
+            } else {
+                key = 100000 + random.nextInt(1_000);
+                keysById.put(id, key);
+                index.add(key, id);
+            }
+            if (i % 1_000 == 0) {
+                assertEquals(idsWithKeysBetween(keysById, 100200, 100499), index.findIdsBetween(100200, 100499));
+            }
+        }
+        assertEquals(idsWithKeysBetween(keysById, 0, 999999), index.findIdsBetween(0, 999999));
+        assertEquals(keysById.size(), index.size());
+    }
+
+    private static BitSet idsWithKeysBetween(Map<Integer, Integer> keysById, int from, int to) {
+        BitSet ids = new BitSet();
+        keysById.forEach((id, key) -> {
+            if (key >= from && key <= to) {
+                ids.set(id);
+            }
+        });
+        return ids;
+    }
+
+    private static BitSet bitSetOf(int... ids) {
+        BitSet bitSet = new BitSet();
+        for (int id : ids) {
+            bitSet.set(id);
+        }
+        return bitSet;
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.model.index;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SortedKeyListTest {
+
+    @Test
+    public void add_orderedByUnsignedKeyThenId() {
+        SortedKeyList<String> list = new SortedKeyList<>();
+        assertEquals(0, list.add(key("b"), 2, "b2"));
+        assertEquals(0, list.add(key("a"), 5, "a5"));
+        assertEquals(2, list.add(key("b"), 3, "b3"));
+        assertEquals(1, list.add(key("b"), 1, "b1"));
+        assertEquals(4, list.add(new byte[] {(byte) 0xC3}, 1, "high byte"));
+        assertEquals(1, list.add(key("ab"), 9, "ab9"));
+
+        assertEquals(Arrays.asList("a5", "ab9", "b1", "b2", "b3", "high byte"), list);
+    }
+
+    @Test
+    public void remove_positionOfRemovedElementStillRanked() {
+        SortedKeyList<String> list = new SortedKeyList<>();
+        list.add(key("a"), 1, "a");
+        list.add(key("b"), 2, "b");
+        list.add(key("c"), 3, "c");
+
+        assertTrue(list.remove(key("b"), 2));
+        assertEquals(1, list.rank(key("b"), 2));
+        assertFalse(list.remove(key("b"), 2));
+        assertEquals(Arrays.asList("a", "c"), list);
+    }
+
+    @Test
+    public void randomChanges_sameAsSortedList() {
+        Random random = new Random(42);
+        SortedKeyList<Integer> list = new SortedKeyList<>();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            int value = random.nextInt(1000);
+            if (expected.contains(value)) {
+                assertEquals(expected.indexOf(value), list.rank(key(value), value));
+                assertTrue(list.remove(key(value), value));
+                expected.remove((Integer) value);
+            } else {
+                expected.add(value);
+                expected.sort(null);
+                assertEquals(expected.indexOf(value), list.add(key(value), value, value));
+            }
+        }
+        assertEquals(expected, list);
+        assertEquals(expected.get(expected.size() / 2), list.get(expected.size() / 2));
+    }
+
+    @Test
+    public void setAll_sameAsAddedOneByOne() {
+        int size = 1000;
+        byte[][] keys = new byte[size][];
+        long[] ids = new long[size];
+        Integer[] values = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = key(i);
+            ids[i] = i;
+            values[i] = i;
+        }
+        SortedKeyList<Integer> list = new SortedKeyList<>();
+        list.setAll(keys, ids, values);
+        list.add(key(size), size, size);
+
+        assertEquals(size + 1, list.size());
+        assertEquals(500, list.rank(key(500), 500));
+        for (int i = 0; i <= size; i++) {
+            assertEquals((Integer) i, list.get(i));
+        }
+    }
+
+    private static byte[] key(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** Returns a key of a non-negative number that orders as the number does */
+    private static byte[] key(int number) {
+        return new byte[] {(byte) (number >>> 24), (byte) (number >>> 16), (byte) (number >>> 8), (byte) number};
+    }
+}
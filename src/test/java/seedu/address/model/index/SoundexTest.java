@@ -0,0 +1,33 @@
+package seedu.address.model.index;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class SoundexTest {
+
+    @Test
+    public void encode_standardExamples() {
+        assertEquals("R163", Soundex.encode("Robert"));
+        assertEquals("R163", Soundex.encode("rupert"));
+        assertEquals("R150", Soundex.encode("Rubin"));
+        assertEquals("A261", Soundex.encode("Ashcraft"));
+        assertEquals("T522", Soundex.encode("Tymczak"));
+        assertEquals("P236", Soundex.encode("Pfister"));
+        assertEquals("H555", Soundex.encode("Honeyman"));
+    }
+
+    @Test
+    public void encode_namesSoundingAlike_sameCode() {
+        assertEquals(Soundex.encode("John"), Soundex.encode("Jon"));
+        assertEquals(Soundex.encode("Sean"), Soundex.encode("Shawn"));
+        assertEquals(Soundex.encode("Meier"), Soundex.encode("Meyer"));
+    }
+
+    @Test
+    public void encode_nonLetters_ignored() {
+        assertEquals("O640", Soundex.encode("O'Reilly"));
+        assertEquals("L000", Soundex.encode("Li"));
+        assertEquals("", Soundex.encode("42"));
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.model.index;
+
+import org.junit.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class TrigramIndexTest {
+
+    @Test
+    public void findCandidates_shortFragment_null() {
+        TrigramIndex index = new TrigramIndex();
+        index.add(1, "Alice Pauline");
+        assertNull(index.findCandidates("al"));
+    }
+
+    @Test
+    public void findCandidates_valuesWithAllTrigrams_ignoringCase() {
+        TrigramIndex index = new TrigramIndex();
+        index.add(1, "Alice Pauline", "alice@gmail.com");
+        index.add(2, "Paula Line", "94351253");
+        index.add(3, "Benson Meier", "johnd@yahoo.com");
+
+        assertEquals(bitSetOf(1, 2), index.findCandidates("LINE"));
+        assertEquals(bitSetOf(1, 3), index.findCandidates(".com"));
+        assertEquals(bitSetOf(2), index.findCandidates("5125"));
+        assertEquals(bitSetOf(), index.findCandidates("xyz"));
+
+        index.remove(1, "Alice Pauline", "alice@gmail.com");
+        assertEquals(bitSetOf(2), index.findCandidates("line"));
+    }
+
+    @Test
+    public void findCandidates_randomValues_supersetOfValuesContainingFragment() {
+        TrigramIndex index = new TrigramIndex();
+        Random random = new Random(1);
+        String[] values = new String[2000];
+        // added out of order, and some removed again
+        for (int id = values.length - 1; id >= 0; id--) {
+            values[id] = randomValue(random, 12);
+            index.add(id, values[id]);
+        }
+        for (int id = 0; id < values.length; id += 3) {
+            index.remove(id, values[id]);
+            values[id] = null;
+        }
+
+        for (int i = 0; i < 100; i++) {
+            String fragment = randomValue(random, 3 + random.nextInt(2));
+            BitSet candidates = index.findCandidates(fragment);
+            for (int id = 0; id < values.length; id++) {
+                if (values[id] != null && values[id].contains(fragment)) {
+                    assertTrue(candidates.get(id));
+                }
+                if (values[id] == null) {
+                    assertFalse(candidates.get(id));
+                }
+            }
+        }
+    }
+
+    private static BitSet bitSetOf(int... ids) {
+        BitSet bitSet = new BitSet();
+        for (int id : ids) {
+            bitSet.set(id);
+        }
+        return bitSet;
+    }
+
+    private static String randomValue(Random random, int length) {
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            value.append((char) ('a' + random.nextInt(4)));
+        }
+        return value.toString();
+    }
+}
@@ -0,0 +1,27 @@
+package seedu.address.model.person;
+
+import org.junit.Test;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.UniqueTagList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class PersonTest {
+
+    @Test
+    public void setTags_cachedHashAndTextUpdated() throws Exception {
+        Person person = new Person(new Name("Alice"), new Phone("123"), new Email("alice@example.com"),
+                new Address("1 Street"), new UniqueTagList(new Tag("friends")));
+        int hashWithFriends = person.hashCode();
+        assertEquals("[friends]", person.tagsString());
+        assertEquals("Alice Phone: 123 Email: alice@example.com Address: 1 Street Tags: [friends]", person.toString());
+
+        person.setTags(new UniqueTagList(new Tag("colleagues")));
+        assertNotEquals(hashWithFriends, person.hashCode());
+        assertEquals(new Person(person).hashCode(), person.hashCode());
+        assertEquals("[colleagues]", person.tagsString());
+        assertEquals("Alice Phone: 123 Email: alice@example.com Address: 1 Street Tags: [colleagues]",
+                person.toString());
+    }
+}
@@ -0,0 +1,38 @@
+package seedu.address.model.person;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class PhoneTest {
+
+    @Test
+    public void value_packedDigits_leadingZerosKept() throws Exception {
+        assertEquals("0065123", new Phone("0065123").value());
+        assertEquals("1234567890123456", new Phone("1234567890123456").value());
+        assertNotEquals(new Phone("65123"), new Phone("0065123"));
+    }
+
+    @Test
+    public void value_tooManyDigitsToPack_sameValue() throws Exception {
+        String longPhone = "12345678901234567890";
+        assertEquals(longPhone, new Phone(longPhone).value());
+        assertEquals(new Phone(longPhone), new Phone(" " + longPhone + " "));
+        assertEquals(new Phone(longPhone).hashCode(), new Phone(longPhone).hashCode());
+        assertNotEquals(new Phone(longPhone), new Phone("1234567890123456789"));
+    }
+
+    @Test
+    public void equals_sameDigits_equalAndSameHash() throws Exception {
+        assertEquals(new Phone("98765432"), new Phone("98765432"));
+        assertEquals(new Phone("98765432").hashCode(), new Phone("98765432").hashCode());
+        assertNotEquals(new Phone("98765432"), new Phone("98765433"));
+    }
+
+    @Test
+    public void value_packedAndUnpackedDigits_sameAsGiven() throws Exception {
+        assertEquals("0098765432", new Phone("0098765432").value());
+        assertEquals("12345678901234567890", new Phone("12345678901234567890").value());
+    }
+}
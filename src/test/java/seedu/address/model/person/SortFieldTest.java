@@ -0,0 +1,47 @@
+package seedu.address.model.person;
+
+import org.junit.Test;
+import seedu.address.model.index.SortedKeyList;
+import seedu.address.model.tag.UniqueTagList;
+
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.Assert.assertEquals;
+
+public class SortFieldTest {
+
+    @Test
+    public void nameKey_sameOrderAsCollator() throws Exception {
+        List<String> names = Arrays.asList("zoe Adams", "Bob Zola", "anna Bell", "Anna Zed", "Annabel", "Bo",
+                "R2 D2", "R2D3", "42", "A 1", "a0");
+        List<Person> persons = new ArrayList<>();
+        for (String name : names) {
+            persons.add(new Person(new Name(name), new Phone("123"), new Email("a@b.c"), new Address("x"),
+                    new UniqueTagList()));
+        }
+        Collator collator = Collator.getInstance(Locale.ENGLISH);
+        collator.setStrength(Collator.SECONDARY);
+
+        List<String> byCollator = new ArrayList<>(names);
+        byCollator.sort(collator);
+        persons.sort(Comparator.comparing(SortField.NAME::getKey, SortedKeyList::compareKeys));
+        List<String> byKey = new ArrayList<>();
+        persons.forEach(person -> byKey.add(person.getName().fullName()));
+        assertEquals(byCollator, byKey);
+    }
+
+    @Test
+    public void emailKey_ignoresCase() throws Exception {
+        Person upper = new Person(new Name("A"), new Phone("1"), new Email("Bob@X.com"), new Address("x"),
+                new UniqueTagList());
+        Person lower = new Person(new Name("A"), new Phone("1"), new Email("bob@x.com"), new Address("x"),
+                new UniqueTagList());
+
+        assertEquals(0, SortedKeyList.compareKeys(SortField.EMAIL.getKey(upper), SortField.EMAIL.getKey(lower)));
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.address.model.tag;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class TagTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void of_sameName_sameInstance() throws Exception {
+        Tag canonical = Tag.of("colleagues");
+
+        assertSame(canonical, Tag.of("colleagues"));
+        assertSame(canonical, new Tag("colleagues").intern());
+        assertSame(canonical, Tag.of(" colleagues "));
+        assertEquals("colleagues", canonical.getTagName());
+    }
+
+    @Test
+    public void of_invalidName_exceptionThrown() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        Tag.of("not a tag");
+    }
+
+    @Test
+    public void addPerson_tagsCanonicalized() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new Person(new Name("Alice"), new Phone("123"), new Email("alice@example.com"),
+                new Address("1 Street"), new UniqueTagList(new Tag("neighbours"))));
+        addressBook.addPerson(new Person(new Name("Bob"), new Phone("456"), new Email("bob@example.com"),
+                new Address("2 Street"), new UniqueTagList(new Tag("neighbours"))));
+
+        Tag canonical = Tag.of("neighbours");
+        assertSame(canonical, addressBook.getTagList().get(0));
+        assertSame(canonical, addressBook.getPersonList().get(0).getTags().getInternalList().get(0));
+        assertSame(canonical, addressBook.getPersonList().get(1).getTags().getInternalList().get(0));
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.storage;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.TypicalTestPersons;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MappedAddressBookStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private String getTempFilePath(String fileName) {
+        return testFolder.getRoot().getPath() + "/" + fileName;
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new MappedAddressBookStorage(getTempFilePath("Missing.abm")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAndRead_replacesMappedFile() throws Exception {
+        String filePath = getTempFilePath("nested/TempAddressBook.abm");
+        MappedAddressBookStorage storage = new MappedAddressBookStorage(filePath);
+        AddressBook original = new TypicalTestPersons().getTypicalAddressBook();
+
+        // Save in new file and read back
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Replace the file while the book read from it is still mapped
+        original.addPerson(new Person(TypicalTestPersons.hoon));
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(original.getPersonList().size() - 1, readBack.getPersonList().size());
+    }
+
+    @Test
+    public void isMappedFile_byExtension() {
+        assertTrue(MappedAddressBookStorage.isMappedFile("data/addressbook.abm"));
+        assertFalse(MappedAddressBookStorage.isMappedFile("data/addressbook.xml"));
+    }
+}
@@ -0,0 +1,145 @@
+package seedu.address.storage;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.testutil.TypicalTestPersons;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class MappedAddressBookTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void writeAndOpen_sameDataAsSource() throws Exception {
+        AddressBook source = new TypicalTestPersons().getTypicalAddressBook();
+        Path path = testFolder.getRoot().toPath().resolve("TempAddressBook.abm");
+        MappedAddressBook.write(source, path);
+        MappedAddressBook mapped = MappedAddressBook.open(path);
+
+        List<ReadOnlyPerson> sourcePersons = source.getPersonList();
+        List<ReadOnlyPerson> views = mapped.getPersonList();
+        assertEquals(sourcePersons.size(), mapped.size());
+        for (int i = 0; i < sourcePersons.size(); i++) {
+            assertEquals(sourcePersons.get(i), views.get(i));
+            assertEquals(sourcePersons.get(i).getId(), views.get(i).getId());
+            assertEquals(sourcePersons.get(i).getTags(), views.get(i).getTags());
+        }
+        assertEquals(source.getTagList(), mapped.getTagList());
+        assertEquals(source, new AddressBook(mapped));
+    }
+
+    @Test
+    public void openInSmallChunks_fieldsAcrossChunks_sameDataAsSource() throws Exception {
+        AddressBook source = new TypicalTestPersons().getTypicalAddressBook();
+        Path path = testFolder.getRoot().toPath().resolve("TempAddressBook.abm");
+        MappedAddressBook.write(source, path);
+
+        // smaller than a record, so that the text, tag ids and tag names of most persons span several chunks
+        assertEquals(source, new AddressBook(MappedAddressBook.open(path, 7)));
+    }
+
+    @Test
+    public void writeAndOpen_emptyAddressBook() throws Exception {
+        Path path = testFolder.getRoot().toPath().resolve("TempAddressBook.abm");
+        MappedAddressBook.write(new AddressBook(), path);
+
+        assertEquals(0, MappedAddressBook.open(path).size());
+    }
+
+    @Test
+    public void backedPerson_hasTag_ignoresCase() throws Exception {
+        Path path = testFolder.getRoot().toPath().resolve("TempAddressBook.abm");
+        MappedAddressBook.write(new TypicalTestPersons().getTypicalAddressBook(), path);
+        ReadOnlyPerson benson = MappedAddressBook.open(path).getPersonList().get(1);
+
+        assertTrue(benson.hasTag("OWESMONEY"));
+        assertTrue(benson.hasTag("friends"));
+        assertFalse(benson.hasTag("family"));
+    }
+
+    @Test
+    public void backedPerson_fieldsDecodedOnce() throws Exception {
+        Path path = testFolder.getRoot().toPath().resolve("TempAddressBook.abm");
+        MappedAddressBook.write(new TypicalTestPersons().getTypicalAddressBook(), path);
+        ReadOnlyPerson alice = MappedAddressBook.open(path).getPersonList().get(0);
+
+        assertSame(alice.getName(), alice.getName());
+        assertSame(alice.getPhone(), alice.getPhone());
+        assertSame(alice.getEmail(), alice.getEmail());
+        assertSame(alice.getAddress(), alice.getAddress());
+    }
+
+    @Test
+    public void open_notMappedFormat_exceptionThrown() throws Exception {
+        Path path = testFolder.getRoot().toPath().resolve("NotMapped.abm");
+        Files.write(path, "<addressbook></addressbook>".getBytes(StandardCharsets.UTF_8));
+
+        thrown.expect(DataConversionException.class);
+        MappedAddressBook.open(path);
+    }
+
+    @Test
+    public void open_truncatedFile_exceptionThrown() throws Exception {
+        Path path = testFolder.getRoot().toPath().resolve("TempAddressBook.abm");
+        MappedAddressBook.write(new TypicalTestPersons().getTypicalAddressBook(), path);
+        byte[] content = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(content, content.length - 1));
+
+        thrown.expect(DataConversionException.class);
+        MappedAddressBook.open(path);
+    }
+
+    @Test
+    public void open_textOutsideHeap_exceptionThrown() throws Exception {
+        Path path = testFolder.getRoot().toPath().resolve("TempAddressBook.abm");
+        MappedAddressBook.write(new TypicalTestPersons().getTypicalAddressBook(), path);
+        // the heap offset of the text of the first person
+        overwrite(path, MappedAddressBook.HEADER_SIZE + Long.BYTES, ByteBuffer.allocate(Long.BYTES).putLong(1L << 40));
+
+        thrown.expect(DataConversionException.class);
+        MappedAddressBook.open(path);
+    }
+
+    @Test
+    public void open_tagIdNotInTagTable_exceptionThrown() throws Exception {
+        AddressBook source = new TypicalTestPersons().getTypicalAddressBook();
+        Path path = testFolder.getRoot().toPath().resolve("TempAddressBook.abm");
+        MappedAddressBook.write(source, path);
+        // the first tag id, which follows the records
+        overwrite(path, MappedAddressBook.HEADER_SIZE + source.getPersonList().size() * MappedAddressBook.RECORD_SIZE,
+                ByteBuffer.allocate(Integer.BYTES).putInt(source.getTagList().size() + 100));
+
+        thrown.expect(DataConversionException.class);
+        MappedAddressBook.open(path);
+    }
+
+    private static void overwrite(Path path, long position, ByteBuffer content) throws IOException {
+        content.flip();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(content, position);
+        }
+    }
+}
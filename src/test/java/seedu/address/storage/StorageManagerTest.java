@@ -62,6 +62,16 @@ public class StorageManagerTest {
         //More extensive testing of AddressBook saving/reading is done in XmlAddressBookStorageTest
     }
 
+    @Test
+    public void addressBookReadSave_mappedFile() throws Exception {
+        StorageManager mappedStorageManager = new StorageManager(getTempFilePath("ab.abm"), getTempFilePath("prefs"));
+        AddressBook original = new TypicalTestPersons().getTypicalAddressBook();
+        mappedStorageManager.saveAddressBook(original);
+        ReadOnlyAddressBook retrieved = mappedStorageManager.readAddressBook().get();
+        assertTrue(retrieved instanceof MappedAddressBook);
+        assertEquals(original, new AddressBook(retrieved));
+    }
+
     @Test
     public void getAddressBookFilePath(){
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -10,9 +10,11 @@ import seedu.address.commons.util.FileUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.testutil.TypicalTestPersons;
 
 import java.io.IOException;
+import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -85,6 +87,35 @@ public class XmlAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveAddressBook_personIds_preserved() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "TempAddressBook.xml";
+        TypicalTestPersons td = new TypicalTestPersons();
+        AddressBook original = td.getTypicalAddressBook();
+        original.removePerson(new Person(TypicalTestPersons.alice));
+        XmlAddressBookStorage xmlAddressBookStorage = new XmlAddressBookStorage(filePath);
+
+        xmlAddressBookStorage.saveAddressBook(original, filePath);
+        AddressBook readBack = new AddressBook(xmlAddressBookStorage.readAddressBook(filePath).get());
+        for (ReadOnlyPerson person : original.getPersonList()) {
+            assertEquals(person, readBack.getPersonById(person.getId()).get());
+        }
+
+        //Ids of removed persons are not reused
+        readBack.addPerson(new Person(TypicalTestPersons.hoon));
+        assertFalse(readBack.getPersonById(1).isPresent());
+    }
+
+    @Test
+    public void readAddressBook_invalidPerson_otherPersonsRead() throws Exception {
+        ReadOnlyAddressBook readBack = readAddressBook("InvalidPersonAddressBook.xml").get();
+
+        List<ReadOnlyPerson> persons = readBack.getPersonList();
+        assertEquals(2, persons.size());
+        assertEquals("Heinz Kurz", persons.get(1).getName().fullName());
+        assertEquals(2, new AddressBook(readBack).getPersonList().size());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_assertionFailure() throws IOException {
         thrown.expect(AssertionError.class);
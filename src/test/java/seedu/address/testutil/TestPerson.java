@@ -34,6 +34,11 @@ public class TestPerson implements ReadOnlyPerson {
         this.phone = phone;
     }
 
+    @Override
+    public long getId() {
+        return UNASSIGNED_ID;
+    }
+
     @Override
     public Name getName() {
         return name;
@@ -66,11 +71,11 @@ public class TestPerson implements ReadOnlyPerson {
 
     public String getAddCommand() {
         StringBuilder sb = new StringBuilder();
-        sb.append("add " + this.getName().fullName + " ");
-        sb.append("p/" + this.getPhone().value + " ");
-        sb.append("e/" + this.getEmail().value + " ");
+        sb.append("add " + this.getName().fullName() + " ");
+        sb.append("p/" + this.getPhone().value() + " ");
+        sb.append("e/" + this.getEmail().value() + " ");
         sb.append("a/" + this.getAddress().value + " ");
-        this.getTags().getInternalList().stream().forEach(s -> sb.append("t/" + s.tagName + " "));
+        this.getTags().getInternalList().stream().forEach(s -> sb.append("t/" + s.getTagName() + " "));
         return sb.toString();
     }
 }